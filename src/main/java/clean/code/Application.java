@@ -1,23 +1,44 @@
 package clean.code;
 
 import clean.code.config.AppConfig;
+import clean.code.core.AnalysisOptions;
+import clean.code.core.CacheOptions;
 import clean.code.core.CodeCheckRunner;
+import clean.code.core.FailFast;
+import clean.code.core.FileBudget;
+import clean.code.core.GeneratedCode;
+import clean.code.core.RecentOrder;
+import clean.code.core.SampleOptions;
+import clean.code.core.ScanExclusions;
+import clean.code.core.ScanOptions;
+import clean.code.core.SourceTree;
+import clean.code.rules.Severity;
+import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Stack;
 import java.util.concurrent.Callable;
 import picocli.CommandLine;
+import picocli.CommandLine.Model.ArgSpec;
+import picocli.CommandLine.Model.CommandSpec;
 
 @CommandLine.Command(
         name = "code-checker",
         mixinStandardHelpOptions = true,
-        version = "code-checker 0.1",
+        version = "code-checker " + AppConfig.CHECKER_VERSION,
         description = "Java Clean Code & Google Style Guide Checker"
 )
 public class Application implements Callable<Integer> {
 
+    private static final long BYTES_PER_MB = 1024L * 1024;
+
     @CommandLine.Parameters(
             index = "0",
-            description = "검사할 Java 프로젝트의 소스 경로"
+            description = "검사할 Java 프로젝트의 소스 경로. .zip/.jar 파일이나 archive.jar!/sub/dir 형식이면 압축을 풀지 않고"
+                          + " 압축 파일 안에서 검사"
     )
     Path projectPath;
 
@@ -27,6 +48,169 @@ public class Application implements Callable<Integer> {
     )
     Path configPath;
 
+    @CommandLine.Option(
+            names = {"-t", "--threads"},
+            description = "분석에 사용할 스레드 수 (기본값: 사용 가능한 프로세서 수)"
+    )
+    Integer threads;
+
+    @CommandLine.Option(
+            names = {"--async-io"},
+            description = "파일 읽기는 가상 스레드에서, 파싱과 검사는 코어 수만큼의 스레드에서 수행"
+    )
+    boolean asyncIo;
+
+    @CommandLine.Option(
+            names = {"--max-in-flight-mb"},
+            defaultValue = "64",
+            description = "--async-io 사용 시 읽기 완료 후 검사를 기다리는 소스의 최대 크기(MB) (기본값: ${DEFAULT-VALUE})"
+    )
+    long maxInFlightMb;
+
+    @CommandLine.Option(
+            names = {"--large-file-lines"},
+            defaultValue = "20000",
+            description = "이 라인 수 이상인 파일은 규칙들을 동시에 적용 (0: 사용 안 함, 기본값: ${DEFAULT-VALUE})"
+    )
+    int largeFileLines;
+
+    @CommandLine.Option(
+            names = {"--max-file-mb"},
+            defaultValue = "8",
+            description = "이 크기(MB)보다 큰 파일은 읽지 않고 건너뜀 (0: 제한 없음, 기본값: ${DEFAULT-VALUE})"
+    )
+    long maxFileMb;
+
+    @CommandLine.Option(
+            names = {"--max-parse-ms"},
+            defaultValue = "10000",
+            description = "파일 하나의 파싱이 이 시간(ms)을 넘으면 중단하고 건너뜀 (0: 제한 없음, 기본값: ${DEFAULT-VALUE})"
+    )
+    long maxParseMillis;
+
+    @CommandLine.Option(
+            names = {"--max-rule-ms"},
+            defaultValue = "10000",
+            description = "파일 하나의 규칙 검사가 이 시간(ms)을 넘으면 중단하고 건너뜀 (0: 제한 없음, 기본값: ${DEFAULT-VALUE})"
+    )
+    long maxRuleMillis;
+
+    @CommandLine.Option(
+            names = {"--fail-fast"},
+            arity = "0..1",
+            preprocessor = FailFastPreprocessor.class,
+            paramLabel = "N",
+            description = "기준 중요도 이상인 위반 사항을 N개(기본값: 1) 찾으면 남은 분석을 멈춤. 비용이 낮은 규칙부터 검사"
+    )
+    Integer failFast;
+
+    @CommandLine.Option(
+            names = {"--fail-severity"},
+            defaultValue = "MEDIUM",
+            description = "종료 코드와 --fail-fast에서 셀 위반 사항의 최소 중요도 (${COMPLETION-CANDIDATES}, 기본값: ${DEFAULT-VALUE})"
+    )
+    Severity failSeverity;
+
+    @CommandLine.Option(
+            names = {"--encoding"},
+            defaultValue = "UTF-8",
+            description = "검사할 소스 파일의 인코딩 (기본값: ${DEFAULT-VALUE})"
+    )
+    Charset encoding;
+
+    @CommandLine.Option(
+            names = {"--include-generated"},
+            description = "생성 코드(@Generated 등의 표식이 있거나 생성 코드 출력 디렉토리에 있는 파일)도 검사"
+    )
+    boolean includeGenerated;
+
+    @CommandLine.Option(
+            names = {"--exclude"},
+            paramLabel = "PATTERN",
+            description = "스캔하지 않을 경로의 .gitignore 형식 패턴, 검사할 경로 기준 (여러 번 지정 가능)"
+    )
+    List<String> excludes;
+
+    @CommandLine.Option(
+            names = {"--no-gitignore"},
+            description = ".gitignore에 맞는 경로도 스캔"
+    )
+    boolean noGitignore;
+
+    @CommandLine.Option(
+            names = {"--project"},
+            description = "settings.gradle, build.gradle, pom.xml에 선언된 모듈의 소스 디렉토리만 스캔하고,"
+                          + " 파일을 main/test로 구분해 경로별 설정의 sourceSet에 사용"
+    )
+    boolean project;
+
+    @CommandLine.Option(
+            names = {"--scan-threads"},
+            defaultValue = "1",
+            description = "디렉토리를 동시에 탐색할 스레드 수 (0: 사용 가능한 프로세서 수, 기본값: ${DEFAULT-VALUE})"
+    )
+    int scanThreads;
+
+    @CommandLine.Option(
+            names = {"--stream"},
+            description = "스캔, 분석, 리포트를 동시에 진행하고 파일 분석이 끝나는 즉시 결과를 출력"
+    )
+    boolean stream;
+
+    @CommandLine.Option(
+            names = {"--recent-first"},
+            description = "최근에 바뀐 파일부터 분석하고 파일 분석이 끝나는 즉시 결과를 출력"
+    )
+    boolean recentFirst;
+
+    @CommandLine.Option(
+            names = {"--recent-by"},
+            defaultValue = "MTIME",
+            description = "--recent-first 사용 시 최근을 판단하는 기준 (${COMPLETION-CANDIDATES}, 기본값: ${DEFAULT-VALUE})."
+                          + " GIT은 커밋되지 않은 파일, 최근 커밋에서 바뀐 파일 순"
+    )
+    RecentOrder recentBy;
+
+    @CommandLine.Option(
+            names = {"--sample"},
+            description = "파일 크기와 패키지로 층화한 무작위 표본만 분석해 규칙별 위반 사항 수를 신뢰구간과 함께 추정"
+    )
+    boolean sample;
+
+    @CommandLine.Option(
+            names = {"--sample-precision"},
+            defaultValue = "0.05",
+            description = "--sample 사용 시 전체 위반 사항 수의 95%% 신뢰구간 반폭이 추정치의 이 비율 이하가 되면 멈춤"
+                          + " (기본값: ${DEFAULT-VALUE})"
+    )
+    double samplePrecision;
+
+    @CommandLine.Option(
+            names = {"--sample-seed"},
+            description = "--sample 사용 시 표본을 뽑는 난수 시드 (기본값: 실행마다 다름, 리포트에 출력)"
+    )
+    Long sampleSeed;
+
+    @CommandLine.Option(
+            names = {"--cache"},
+            description = "내용이 바뀌지 않은 파일은 이전 분석 결과를 재사용"
+    )
+    boolean cache;
+
+    @CommandLine.Option(
+            names = {"--cache-dir"},
+            defaultValue = CacheOptions.DEFAULT_DIRECTORY,
+            description = "--cache 사용 시 캐시 디렉토리 (기본값: ${DEFAULT-VALUE})"
+    )
+    Path cacheDir;
+
+    @CommandLine.Option(
+            names = {"--cache-max-mb"},
+            defaultValue = "256",
+            description = "--cache 사용 시 캐시의 최대 크기(MB), 넘으면 오래 사용되지 않은 항목부터 삭제 (기본값: ${DEFAULT-VALUE})"
+    )
+    long cacheMaxMb;
+
     public static void main(String[] args) {
         int exitCode = new CommandLine(new Application()).execute(args);
         System.exit(exitCode);
@@ -34,15 +218,69 @@ public class Application implements Callable<Integer> {
 
     /**
      * Picocli가 실행하는 메인 로직
+     *
+     * @return 기준 중요도 이상인 위반 사항이 있으면 {@link CodeCheckRunner#EXIT_VIOLATIONS}, 없으면 0. 압축 파일을 열 수 없으면
+     * {@link CommandLine.ExitCode#USAGE}
      */
     @Override
     public Integer call() throws Exception {
         if (configPath == null) {
             configPath = Paths.get(System.getProperty("user.dir"), "checker-config.json");
         }
-        AppConfig appConfig = new AppConfig(configPath);
+        AppConfig appConfig = new AppConfig(configPath, analysisOptions(),
+                new CacheOptions(cache, cacheDir, cacheMaxMb * BYTES_PER_MB),
+                new ScanOptions(ScanExclusions.defaults().withGitignore(!noGitignore).withAdditional(excludes),
+                        scanThreads < 1 ? Runtime.getRuntime().availableProcessors() : scanThreads, project));
         CodeCheckRunner runner = appConfig.codeCheckRunner();
-        runner.run(projectPath);
-        return 0;
+        SourceTree sourceTree;
+        try {
+            sourceTree = SourceTree.open(projectPath);
+        } catch (IOException e) {
+            System.err.println("[ERROR] Failed to open archive: " + projectPath + " (" + e.getMessage() + ")");
+            return CommandLine.ExitCode.USAGE;
+        }
+        try (sourceTree) {
+            return run(runner, sourceTree.root());
+        }
+    }
+
+    private int run(CodeCheckRunner runner, Path sourceRoot) throws InterruptedException {
+        if (sample) {
+            long seed = sampleSeed == null ? System.nanoTime() : sampleSeed;
+            return runner.runSampled(sourceRoot, new SampleOptions(samplePrecision, seed));
+        }
+        if (recentFirst) {
+            return runner.runRecentFirst(sourceRoot, recentBy);
+        }
+        if (stream) {
+            return runner.runStreaming(sourceRoot);
+        }
+        return runner.run(sourceRoot);
+    }
+
+    private AnalysisOptions analysisOptions() {
+        int threadCount = threads == null || threads < 1 ? Runtime.getRuntime().availableProcessors() : threads;
+        return new AnalysisOptions(threadCount, asyncIo, maxInFlightMb * BYTES_PER_MB, largeFileLines,
+                new FileBudget(maxFileMb * BYTES_PER_MB, maxParseMillis, maxRuleMillis),
+                new FailFast(failFast == null ? 0 : failFast, failSeverity),
+                includeGenerated ? GeneratedCode.disabled() : GeneratedCode.defaults(), encoding);
+    }
+
+    /**
+     * {@code --fail-fast} 다음 인자가 숫자가 아니면 N을 생략한 것으로 보고 1을 사용합니다. {@code --fail-fast <경로>}처럼 검사할
+     * 경로가 바로 뒤에 와도 옵션 값으로 읽지 않습니다.
+     */
+    static class FailFastPreprocessor implements CommandLine.IParameterPreprocessor {
+        private static final String DEFAULT_VIOLATIONS = "1";
+
+        @Override
+        public boolean preprocess(Stack<String> args, CommandSpec commandSpec, ArgSpec argSpec,
+                                  Map<String, Object> info) {
+            boolean attached = !" ".equals(info.get("separator"));
+            if (!attached && (args.isEmpty() || !args.peek().matches("\\d+"))) {
+                args.push(DEFAULT_VIOLATIONS);
+            }
+            return false;
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,37 +1,139 @@
 package clean.code.config;
 
+import clean.code.core.AnalysisCache;
+import clean.code.core.AnalysisOptions;
 import clean.code.core.Analyzer;
+import clean.code.core.CacheOptions;
 import clean.code.core.CodeCheckRunner;
+import clean.code.core.CostHistory;
+import clean.code.core.FileStats;
+import clean.code.core.GeneratedCode;
 import clean.code.core.ProjectScanner;
+import clean.code.core.ScanOptions;
 import clean.code.report.ConsoleReporter;
-import clean.code.rules.Rule;
+import clean.code.rules.RuleProfile;
 import clean.code.rules.RuleRegistry;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * 애플리케이션의 의존성(객체)을 생성하고 주입
  */
 public class AppConfig {
 
+    /**
+     * 검사기 버전. 규칙 구현이 바뀌면 올려서 이전 버전이 만든 캐시를 무효화합니다.
+     */
+    public static final String CHECKER_VERSION = "0.1";
+
     private final AppRuleConfig appRuleConfig;
+    private final AnalysisOptions analysisOptions;
+    private final CacheOptions cacheOptions;
+    private final ScanOptions scanOptions;
+    private final FileStats fileStats = new FileStats();
 
     public AppConfig(Path configPath) {
+        this(configPath, AnalysisOptions.defaults(), CacheOptions.disabled(), ScanOptions.defaults());
+    }
+
+    public AppConfig(Path configPath, AnalysisOptions analysisOptions, CacheOptions cacheOptions,
+                     ScanOptions scanOptions) {
         ConfigLoader configLoader = new ConfigLoader();
         this.appRuleConfig = configLoader.load(configPath);
+        this.analysisOptions = analysisOptions.withGeneratedCode(
+                appRuleConfig.generatedCode(analysisOptions.generatedCode()));
+        this.cacheOptions = cacheOptions;
+        this.scanOptions = scanOptions.withExclusions(appRuleConfig.scanExclusions(scanOptions.exclusions()));
     }
 
+    /**
+     * 경로별 설정의 소스 묶음은 스캔할 때 기록한 소스 묶음으로, 기록이 없으면 디렉토리 관례로 판단합니다.
+     */
     public RuleRegistry ruleRegistry() {
-        return new RuleRegistry(this.appRuleConfig);
+        return new RuleRegistry(this.appRuleConfig, fileStats.sourceSetMatchers());
     }
 
+    /**
+     * 생성 코드 출력 디렉토리, 기본 제외 디렉토리, 제외 패턴과 {@code .gitignore}에 맞는 경로는 들어가지 않는 스캐너. 찾은 파일의
+     * 크기, 수정 시각, 소스 묶음은 분석기와 공유합니다.
+     */
     public ProjectScanner projectScanner() {
-        return new ProjectScanner();
+        return new ProjectScanner(analysisOptions.generatedCode(), scanOptions, fileStats);
     }
 
+    /**
+     * 설정 파일에 프로필이 있으면 모든 프로필을 한 번의 파싱으로 검사하는 분석기를 만듭니다. 규칙별 include/exclude와 경로별 설정은
+     * 파일마다 적용할 규칙을 정합니다.
+     */
     public Analyzer analyzer() {
-        List<Rule> activeRules = ruleRegistry().getActiveRules();
-        return new Analyzer(activeRules);
+        RuleRegistry registry = ruleRegistry();
+        List<RuleProfile> profiles = registry.getProfiles();
+        if (!profiles.isEmpty()) {
+            return Analyzer.forProfiles(profiles, analysisOptions, analysisCache(), costHistory());
+        }
+        return new Analyzer(registry.getScopedRules(), analysisOptions, analysisCache(), costHistory());
+    }
+
+    /**
+     * 규칙 설정과 검사기 버전의 지문으로 구분되는 분석 결과 캐시
+     */
+    public AnalysisCache analysisCache() {
+        if (!cacheOptions.enabled()) {
+            return AnalysisCache.disabled();
+        }
+        return AnalysisCache.open(cacheOptions.directory(), cacheFingerprint(), cacheOptions.maxBytes(), fileStats);
+    }
+
+    /**
+     * 파일별 분석 시간 기록. 캐시를 사용할 때만 캐시와 같은 디렉토리에 저장해 다음 실행의 작업 순서에 사용합니다.
+     */
+    public CostHistory costHistory() {
+        if (!cacheOptions.enabled()) {
+            return CostHistory.inMemory(fileStats);
+        }
+        return CostHistory.open(cacheOptions.directory(), cacheFingerprint(), fileStats);
+    }
+
+    private String cacheFingerprint() {
+        String ruleConfig = describe(appRuleConfig);
+        Map<String, AppRuleConfig> profiles = appRuleConfig.resolvedProfiles();
+        if (!profiles.isEmpty()) {
+            StringBuilder profileConfig = new StringBuilder();
+            profiles.forEach((name, profile) -> profileConfig.append(name).append('=').append(describe(profile))
+                    .append(';'));
+            ruleConfig = profileConfig.toString();
+        }
+        if (scanOptions.sourceRootsOnly()) {
+            // 빌드 파일로 찾은 소스 묶음은 디렉토리 관례와 다를 수 있습니다.
+            ruleConfig += ";sourceRootsOnly";
+        }
+        GeneratedCode generatedCode = analysisOptions.generatedCode();
+        if (!generatedCode.equals(GeneratedCode.defaults())) {
+            // 경로로 찾은 캐시 결과는 파일을 읽기 전, 생성 코드 표식을 확인하기 전에 사용합니다.
+            ruleConfig += ";generated=" + generatedCode;
+        }
+        if (!analysisOptions.encoding().equals(StandardCharsets.UTF_8)) {
+            ruleConfig += ";encoding=" + analysisOptions.encoding().name();
+        }
+        return AnalysisCache.fingerprint(ruleConfig, CHECKER_VERSION);
+    }
+
+    /**
+     * 규칙 설정을 순서가 정해진 문자열로 나타냅니다. 경로별 설정은 적힌 순서가 의미가 있으므로 그대로 붙입니다.
+     */
+    private static String describe(AppRuleConfig config) {
+        Map<String, RuleConfig> rules = config.rules() == null ? Map.of() : config.rules();
+        String description = new TreeMap<>(rules).toString();
+        if (config.pathOverrides().isEmpty()) {
+            return description;
+        }
+        return description + config.pathOverrides().stream()
+                .map(override -> override.paths() + (override.sourceSet() == null ? "" : "@" + override.sourceSet())
+                        + "=" + new TreeMap<>(override.rules() == null ? Map.of() : override.rules()))
+                .toList();
     }
 
     public ConsoleReporter consoleReporter() {
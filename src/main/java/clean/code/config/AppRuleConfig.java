@@ -1,9 +1,80 @@
 package clean.code.config;
 
+import clean.code.core.GeneratedCode;
+import clean.code.core.ScanExclusions;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
-public record AppRuleConfig(Map<String, RuleConfig> rules) {
+/**
+ * 규칙 설정 파일의 내용
+ *
+ * @param rules    규칙 ID별 설정
+ * @param profiles  이름별 규칙 프로필. 프로필마다 {@code rules}를 바탕으로 자신의 {@code rules}만 덮어씁니다.
+ * @param overrides 경로별 규칙 설정. 여러 설정이 같은 파일에 맞으면 뒤에 적힌 설정을 사용합니다.
+ * @param generated 생성 코드를 건너뛰는 기준. 프로필과 관계없이 공통으로 적용합니다.
+ * @param scan      스캔할 때 건너뛸 경로. 프로필과 관계없이 공통으로 적용합니다.
+ */
+public record AppRuleConfig(Map<String, RuleConfig> rules, Map<String, AppRuleConfig> profiles,
+                            List<RuleOverride> overrides, GeneratedCodeConfig generated, ScanConfig scan) {
+
+    public AppRuleConfig(Map<String, RuleConfig> rules) {
+        this(rules, null, null, null, null);
+    }
+
+    public AppRuleConfig(Map<String, RuleConfig> rules, Map<String, AppRuleConfig> profiles,
+                         List<RuleOverride> overrides) {
+        this(rules, profiles, overrides, null, null);
+    }
+
+    /**
+     * 명령행에서 정한 생성 코드 기준에 설정 파일의 기준을 적용합니다.
+     */
+    public GeneratedCode generatedCode(GeneratedCode base) {
+        return generated == null ? base : generated.applyTo(base);
+    }
+
+    /**
+     * 명령행에서 정한 스캔 제외 기준에 설정 파일의 기준을 적용합니다.
+     */
+    public ScanExclusions scanExclusions(ScanExclusions base) {
+        return scan == null ? base : scan.applyTo(base);
+    }
+
+    /**
+     * 경로별 규칙 설정. 없으면 비어 있습니다.
+     */
+    public List<RuleOverride> pathOverrides() {
+        return overrides == null ? List.of() : overrides;
+    }
+
     public RuleConfig getRuleConfig(String ruleId) {
-        return rules.getOrDefault(ruleId, new RuleConfig("off", null));
+        RuleConfig off = new RuleConfig("off", null);
+        return rules == null ? off : rules.getOrDefault(ruleId, off);
+    }
+
+    /**
+     * 설정 파일에 적힌 순서대로 프로필별 규칙 설정을 반환합니다. 프로필이 없으면 비어 있습니다. 경로별 규칙 설정은 공통 설정 다음에
+     * 프로필의 설정을 적용합니다.
+     */
+    public Map<String, AppRuleConfig> resolvedProfiles() {
+        Map<String, AppRuleConfig> resolved = new LinkedHashMap<>();
+        if (profiles == null) {
+            return resolved;
+        }
+        profiles.forEach((name, profile) -> {
+            Map<String, RuleConfig> merged = new HashMap<>(rules == null ? Map.of() : rules);
+            if (profile != null && profile.rules() != null) {
+                merged.putAll(profile.rules());
+            }
+            List<RuleOverride> mergedOverrides = new ArrayList<>(pathOverrides());
+            if (profile != null) {
+                mergedOverrides.addAll(profile.pathOverrides());
+            }
+            resolved.put(name, new AppRuleConfig(merged, null, mergedOverrides));
+        });
+        return resolved;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package clean.code.config;
+
+import clean.code.core.GeneratedCode;
+import java.util.List;
+
+/**
+ * 생성 코드를 건너뛰는 기준에 대한 설정
+ *
+ * @param skip        {@code false}이면 생성 코드도 검사합니다. 없으면 건너뜁니다.
+ * @param markers     기본 표식에 더해, 파일 앞부분에 있으면 생성 코드로 볼 문자열
+ * @param directories 기본 디렉토리에 더해, 이름이 같으면 하위 파일을 생성 코드로 볼 디렉토리
+ */
+public record GeneratedCodeConfig(Boolean skip, List<String> markers, List<String> directories) {
+
+    /**
+     * 명령행에서 정한 기준에 이 설정을 적용합니다. 명령행에서 생성 코드를 검사하기로 했으면 그대로 둡니다.
+     */
+    public GeneratedCode applyTo(GeneratedCode base) {
+        if (!base.skip()) {
+            return base;
+        }
+        if (Boolean.FALSE.equals(skip)) {
+            return GeneratedCode.disabled();
+        }
+        return base.withAdditional(markers, directories);
+    }
+}
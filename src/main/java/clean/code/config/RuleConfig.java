@@ -1,8 +1,22 @@
 package clean.code.config;
 
-public record RuleConfig(String status, Integer max) {
+import java.util.List;
+
+/**
+ * 규칙 하나의 설정
+ *
+ * @param status  {@code on}이면 활성화
+ * @param max     규칙의 임계값 (없으면 규칙의 기본값)
+ * @param include 규칙을 적용할 경로의 glob. 없으면 모든 파일에 적용합니다.
+ * @param exclude 규칙을 적용하지 않을 경로의 glob
+ */
+public record RuleConfig(String status, Integer max, List<String> include, List<String> exclude) {
+
+    public RuleConfig(String status, Integer max) {
+        this(status, max, null, null);
+    }
 
     public boolean isEnabled() {
         return "on".equalsIgnoreCase(status);
     }
-}
\ No newline at end of file
+}
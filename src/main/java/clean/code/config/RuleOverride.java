@@ -0,0 +1,19 @@
+package clean.code.config;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 특정 경로의 파일에만 적용하는 규칙 설정. 경로에 맞는 파일은 {@code rules}에 적힌 규칙의 설정을 이 설정으로 바꿉니다.
+ *
+ * @param paths     설정을 바꿀 경로의 glob. 와일드카드가 없으면 그 디렉토리 아래의 모든 파일입니다. {@code sourceSet}이 있으면
+ *                  생략할 수 있습니다.
+ * @param rules     규칙 ID별 설정
+ * @param sourceSet 설정을 바꿀 소스 묶음({@code main}, {@code test}). {@code paths}와 함께 적으면 둘 다 맞는 파일에 적용합니다.
+ */
+public record RuleOverride(List<String> paths, Map<String, RuleConfig> rules, String sourceSet) {
+
+    public RuleOverride(List<String> paths, Map<String, RuleConfig> rules) {
+        this(paths, rules, null);
+    }
+}
@@ -0,0 +1,28 @@
+package clean.code.config;
+
+import clean.code.core.ScanExclusions;
+import java.util.List;
+
+/**
+ * 스캔할 때 건너뛸 경로에 대한 설정
+ *
+ * @param exclude         명령행의 제외 패턴에 더해, 검사를 시작할 루트 디렉토리 기준으로 건너뛸 {@code .gitignore} 형식의 패턴
+ * @param gitignore       {@code false}이면 {@code .gitignore}를 따르지 않습니다. 없으면 따릅니다.
+ * @param defaultExcludes {@code false}이면 기본 제외 디렉토리(.git, build 등)에도 들어갑니다. 없으면 건너뜁니다.
+ */
+public record ScanConfig(List<String> exclude, Boolean gitignore, Boolean defaultExcludes) {
+
+    /**
+     * 명령행에서 정한 기준에 이 설정을 적용합니다. 명령행에서 끈 항목은 그대로 둡니다.
+     */
+    public ScanExclusions applyTo(ScanExclusions base) {
+        ScanExclusions applied = base.withAdditional(exclude);
+        if (Boolean.FALSE.equals(gitignore)) {
+            applied = applied.withGitignore(false);
+        }
+        if (Boolean.FALSE.equals(defaultExcludes)) {
+            applied = applied.withDefaults(false);
+        }
+        return applied;
+    }
+}
@@ -0,0 +1,444 @@
+package clean.code.core;
+
+import clean.code.report.Violation;
+import clean.code.rules.RuleDispatcher.MemberResult;
+import clean.code.rules.Severity;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 파일 내용 해시와 규칙 설정 지문(fingerprint)을 키로 파일별 위반 사항을 디스크에 저장하는 캐시
+ * <p>
+ * 디렉토리 구조는 {@code <cacheDir>/<fingerprint>/index.bin} 과 {@code <cacheDir>/<fingerprint>/entries/<hash>.json} 입니다.
+ * 인덱스는 경로별 (수정 시각, 크기, 내용 해시)를 담고 있어, 수정 시각과 크기가 같으면 파일을 읽거나 해시를 계산하지 않고 바로 결과를
+ * 돌려줍니다. 항목의 총 크기가 상한을 넘으면 가장 오래 사용되지 않은 항목부터 지웁니다.
+ */
+public class AnalysisCache {
+    private static final int INDEX_MAGIC = 0x43434331;
+    private static final String INDEX_FILE = "index.bin";
+    private static final String ENTRIES_DIR = "entries";
+    private static final String ENTRY_EXTENSION = ".json";
+    private static final int RULE_SET_HASH_LENGTH = 16;
+    private static final AnalysisCache DISABLED = new AnalysisCache();
+
+    private final Path directory;
+    private final Path entries;
+    private final long maxBytes;
+    private final FileStats fileStats;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, IndexEntry> index = new ConcurrentHashMap<>();
+
+    private AnalysisCache() {
+        this.directory = null;
+        this.entries = null;
+        this.maxBytes = 0;
+        this.fileStats = null;
+    }
+
+    private AnalysisCache(Path directory, long maxBytes, FileStats fileStats) {
+        this.directory = directory;
+        this.entries = directory.resolve(ENTRIES_DIR);
+        this.maxBytes = maxBytes;
+        this.fileStats = fileStats;
+        loadIndex();
+    }
+
+    public static AnalysisCache disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * @param cacheDir    캐시 루트 디렉토리
+     * @param fingerprint 규칙 설정과 검사기 버전의 지문. 지문이 다르면 서로 다른 하위 디렉토리를 사용합니다.
+     * @param maxBytes    항목 파일 총 크기의 상한
+     */
+    public static AnalysisCache open(Path cacheDir, String fingerprint, long maxBytes) {
+        return open(cacheDir, fingerprint, maxBytes, new FileStats());
+    }
+
+    /**
+     * @param cacheDir    캐시 루트 디렉토리
+     * @param fingerprint 규칙 설정과 검사기 버전의 지문. 지문이 다르면 서로 다른 하위 디렉토리를 사용합니다.
+     * @param maxBytes    항목 파일 총 크기의 상한
+     * @param fileStats   스캔할 때 읽은 수정 시각과 크기. 인덱스와 비교할 때 파일 속성을 다시 조회하지 않습니다.
+     */
+    public static AnalysisCache open(Path cacheDir, String fingerprint, long maxBytes, FileStats fileStats) {
+        try {
+            Path directory = cacheDir.resolve(fingerprint);
+            Files.createDirectories(directory.resolve(ENTRIES_DIR));
+            return new AnalysisCache(directory, maxBytes, fileStats);
+        } catch (IOException e) {
+            System.err.println("[ERROR] Failed to open analysis cache: " + cacheDir);
+            return DISABLED;
+        }
+    }
+
+    /**
+     * 설정 문자열과 검사기 버전으로 캐시 지문을 만듭니다.
+     */
+    public static String fingerprint(String configuration, String checkerVersion) {
+        return sha256(checkerVersion + "\n" + configuration).substring(0, 16);
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * 수정 시각과 크기가 인덱스와 같으면 파일을 읽지 않고 저장된 결과를 반환합니다.
+     */
+    public Optional<CachedResult> find(Path javaFile) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        IndexEntry entry = index.get(keyOf(javaFile));
+        if (entry == null) {
+            return Optional.empty();
+        }
+        return stampOf(javaFile)
+                .filter(stamp -> stamp.matches(entry))
+                .flatMap(stamp -> readEntry(javaFile, entry.contentHash()));
+    }
+
+    /**
+     * 수정 시각과 크기가 인덱스와 같아 {@link #find(Path)}가 파일을 읽지 않고 결과를 찾을 수 있는지 여부
+     */
+    public boolean isFresh(Path javaFile) {
+        if (!isEnabled()) {
+            return false;
+        }
+        IndexEntry entry = index.get(keyOf(javaFile));
+        return entry != null && stampOf(javaFile).filter(stamp -> stamp.matches(entry)).isPresent();
+    }
+
+    /**
+     * 모든 규칙을 적용하는 파일의 캐시 키
+     */
+    public CacheKey keyOf(Path javaFile, byte[] content) {
+        return keyOf(javaFile, content, "");
+    }
+
+    /**
+     * 읽어 둔 파일 내용으로 캐시 키를 만듭니다. 캐시가 꺼져 있으면 해시를 계산하지 않습니다.
+     * <p>
+     * 경로별 규칙이나 소스 묶음에 따라 같은 내용의 파일에 다른 규칙을 적용할 수 있으므로, 적용할 규칙 묶음이 다르면 내용이 같아도
+     * 결과를 공유하지 않습니다.
+     *
+     * @param ruleSet 파일에 적용할 규칙 묶음의 식별자. 모든 규칙을 적용하면 빈 문자열입니다.
+     */
+    public CacheKey keyOf(Path javaFile, byte[] content, String ruleSet) {
+        if (!isEnabled()) {
+            return new CacheKey(javaFile, "", null);
+        }
+        String contentHash = ruleSet.isEmpty()
+                ? sha256(content)
+                : sha256(content) + "-" + sha256(ruleSet).substring(0, RULE_SET_HASH_LENGTH);
+        return new CacheKey(javaFile, contentHash, stampOf(javaFile).orElse(null));
+    }
+
+    /**
+     * 내용 해시로 저장된 결과를 찾습니다. (수정 시각만 바뀐 경우) 찾으면 인덱스를 갱신합니다.
+     */
+    public Optional<CachedResult> find(CacheKey key) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        Optional<CachedResult> cached = readEntry(key.javaFile(), key.contentHash());
+        cached.ifPresent(result -> updateIndex(key));
+        return cached;
+    }
+
+    public void store(CacheKey key, List<Violation> violations) {
+        store(key, violations, Map.of());
+    }
+
+    /**
+     * @param members 멤버(메서드/생성자) 지문별 결과. 라인은 멤버 시작 라인 기준 상대값입니다.
+     */
+    public void store(CacheKey key, List<Violation> violations, Map<String, MemberResult> members) {
+        Map<String, CachedMember> cachedMembers = new HashMap<>();
+        members.forEach((fingerprint, member) -> cachedMembers.put(fingerprint, new CachedMember(member.traverse(),
+                member.violations().stream()
+                        .map(AnalysisCache::toCached)
+                        .toList())));
+        store(key, new CacheEntry(false, toCached(violations), cachedMembers));
+    }
+
+    /**
+     * 파싱에 실패한 내용도 저장해, 다음 실행에서 같은 파일을 다시 파싱하지 않도록 합니다.
+     */
+    public void storeParseFailure(CacheKey key) {
+        store(key, new CacheEntry(true, List.of(), Map.of()));
+    }
+
+    /**
+     * 같은 경로에 대해 마지막으로 저장한 멤버별 결과를 반환합니다. 파일이 바뀐 뒤에도 바뀌지 않은 멤버의 결과를 재사용할 수 있습니다.
+     */
+    public Map<String, MemberResult> previousMembers(Path javaFile) {
+        if (!isEnabled()) {
+            return Map.of();
+        }
+        IndexEntry entry = index.get(keyOf(javaFile));
+        if (entry == null) {
+            return Map.of();
+        }
+        try {
+            CacheEntry payload = objectMapper.readValue(entryPath(entry.contentHash()).toFile(), CacheEntry.class);
+            Map<String, MemberResult> members = new HashMap<>();
+            payload.members().forEach((fingerprint, member) -> members.put(fingerprint, new MemberResult(
+                    member.violations().stream()
+                            .map(violations -> toViolations(javaFile, violations))
+                            .toList(),
+                    member.traverse())));
+            return members;
+        } catch (IOException e) {
+            return Map.of();
+        }
+    }
+
+    private void store(CacheKey key, CacheEntry payload) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            Path target = entryPath(key.contentHash());
+            Path temp = Files.createTempFile(entries, key.contentHash(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), payload);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            updateIndex(key);
+        } catch (IOException e) {
+            System.err.println("[ERROR] Failed to write analysis cache entry: " + key.javaFile());
+        }
+    }
+
+    /**
+     * 인덱스를 디스크에 기록하고, 상한을 넘는 항목을 정리합니다.
+     */
+    public void flush() {
+        if (!isEnabled()) {
+            return;
+        }
+        writeIndex();
+        evictOverflow();
+    }
+
+    private Optional<CachedResult> readEntry(Path javaFile, String contentHash) {
+        Path entry = entryPath(contentHash);
+        try {
+            CacheEntry payload = objectMapper.readValue(entry.toFile(), CacheEntry.class);
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            return Optional.of(new CachedResult(toViolations(javaFile, payload.violations()), payload.parseFailed()));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static List<CachedViolation> toCached(List<Violation> violations) {
+        return violations.stream()
+                .map(v -> new CachedViolation(v.line(), v.ruleId(), v.message(), v.severity(), v.profile()))
+                .toList();
+    }
+
+    private static List<Violation> toViolations(Path javaFile, List<CachedViolation> violations) {
+        return violations.stream()
+                .map(cached -> cached.toViolation(javaFile))
+                .toList();
+    }
+
+    private void updateIndex(CacheKey key) {
+        if (key.stamp() != null) {
+            index.put(keyOf(key.javaFile()),
+                    new IndexEntry(key.stamp().modifiedMillis(), key.stamp().size(), key.contentHash()));
+        }
+    }
+
+    private Path entryPath(String contentHash) {
+        return entries.resolve(contentHash + ENTRY_EXTENSION);
+    }
+
+    private static String keyOf(Path javaFile) {
+        return SourceTree.keyOf(javaFile);
+    }
+
+    private Optional<FileStamp> stampOf(Path javaFile) {
+        return fileStats.of(javaFile).map(file -> new FileStamp(file.modifiedMillis(), file.size()));
+    }
+
+    /**
+     * 인덱스 파일을 메모리 매핑으로 읽어 들입니다. 형식: magic, 항목 수, (경로 길이, 경로, 수정 시각, 크기, 해시 길이, 해시) 반복
+     */
+    private void loadIndex() {
+        Path indexFile = directory.resolve(INDEX_FILE);
+        if (!Files.exists(indexFile)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < Integer.BYTES * 2 || buffer.getInt() != INDEX_MAGIC) {
+                return;
+            }
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                String path = readString(buffer);
+                long modifiedMillis = buffer.getLong();
+                long size = buffer.getLong();
+                index.put(path, new IndexEntry(modifiedMillis, size, readString(buffer)));
+            }
+        } catch (IOException | RuntimeException e) {
+            index.clear();
+            System.err.println("[ERROR] Ignoring corrupted analysis cache index: " + indexFile);
+        }
+    }
+
+    private void writeIndex() {
+        List<Map.Entry<String, IndexEntry>> snapshot = new ArrayList<>(index.entrySet());
+        List<byte[]> paths = snapshot.stream()
+                .map(entry -> entry.getKey().getBytes(StandardCharsets.UTF_8))
+                .toList();
+        int capacity = Integer.BYTES * 2;
+        for (int i = 0; i < snapshot.size(); i++) {
+            capacity += Integer.BYTES * 2 + paths.get(i).length + Long.BYTES * 2
+                        + snapshot.get(i).getValue().contentHash().length();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(capacity);
+        buffer.putInt(INDEX_MAGIC).putInt(snapshot.size());
+        for (int i = 0; i < snapshot.size(); i++) {
+            IndexEntry entry = snapshot.get(i).getValue();
+            buffer.putInt(paths.get(i).length).put(paths.get(i));
+            buffer.putLong(entry.modifiedMillis()).putLong(entry.size());
+            byte[] hash = entry.contentHash().getBytes(StandardCharsets.US_ASCII);
+            buffer.putInt(hash.length).put(hash);
+        }
+        buffer.flip();
+        try {
+            Path temp = Files.createTempFile(directory, INDEX_FILE, ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(temp, directory.resolve(INDEX_FILE), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("[ERROR] Failed to write analysis cache index: " + directory);
+        }
+    }
+
+    /**
+     * 항목 파일의 총 크기가 상한을 넘으면 마지막 사용 시각이 오래된 것부터 삭제합니다.
+     */
+    private void evictOverflow() {
+        try (Stream<Path> files = Files.list(entries)) {
+            List<EntryFile> entryFiles = files.map(AnalysisCache::toEntryFile)
+                    .flatMap(Optional::stream)
+                    .sorted(Comparator.comparingLong(EntryFile::lastUsedMillis))
+                    .toList();
+            long totalBytes = entryFiles.stream().mapToLong(EntryFile::size).sum();
+            for (EntryFile entryFile : entryFiles) {
+                if (totalBytes <= maxBytes) {
+                    break;
+                }
+                Files.deleteIfExists(entryFile.path());
+                totalBytes -= entryFile.size();
+            }
+        } catch (IOException e) {
+            System.err.println("[ERROR] Failed to evict analysis cache entries: " + entries);
+        }
+    }
+
+    private static Optional<EntryFile> toEntryFile(Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return Optional.of(new EntryFile(path, attributes.size(), attributes.lastModifiedTime().toMillis()));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String sha256(String text) {
+        return sha256(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 캐시에 저장된 파일별 결과
+     *
+     * @param violations  위반 사항
+     * @param parseFailed 파싱에 실패한 파일인지 여부
+     */
+    public record CachedResult(List<Violation> violations, boolean parseFailed) {
+    }
+
+    /**
+     * 읽어 둔 파일에 대한 캐시 키 (내용 해시와, 읽을 당시의 수정 시각/크기)
+     */
+    public record CacheKey(Path javaFile, String contentHash, FileStamp stamp) {
+    }
+
+    record FileStamp(long modifiedMillis, long size) {
+        boolean matches(IndexEntry entry) {
+            return modifiedMillis == entry.modifiedMillis() && size == entry.size();
+        }
+    }
+
+    private record IndexEntry(long modifiedMillis, long size, String contentHash) {
+    }
+
+    private record EntryFile(Path path, long size, long lastUsedMillis) {
+    }
+
+    private record CacheEntry(boolean parseFailed, List<CachedViolation> violations,
+                              Map<String, CachedMember> members) {
+        private CacheEntry {
+            members = members == null ? Map.of() : members;
+        }
+    }
+
+    private record CachedMember(boolean traverse, List<List<CachedViolation>> violations) {
+    }
+
+    /**
+     * @param profile 여러 프로필을 검사할 때만 있고, 없으면 항목에 기록하지 않습니다.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private record CachedViolation(int line, String ruleId, String message, Severity severity, String profile) {
+        Violation toViolation(Path javaFile) {
+            return new Violation(javaFile, line, ruleId, message, severity, profile);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package clean.code.core;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 분석 실행 방식에 대한 옵션
+ *
+ * @param threads          파싱과 규칙 검사에 사용할 스레드 수
+ * @param asyncIo          파일 읽기를 가상 스레드로 분리할지 여부
+ * @param maxInFlightBytes 읽기 완료 후 검사를 기다리는 소스의 최대 바이트 수
+ * @param largeFileLines   규칙들을 동시에 적용할 큰 파일의 기준 라인 수 (0 이하이면 사용하지 않음)
+ * @param fileBudget       파일 하나의 크기와 파싱/규칙 검사 시간 한도
+ * @param failFast         분석을 멈출 위반 사항 수와 셀 위반 사항의 최소 중요도
+ * @param generatedCode    파싱하지 않고 건너뛸 생성 코드의 기준
+ * @param encoding         소스 파일의 인코딩
+ */
+public record AnalysisOptions(int threads, boolean asyncIo, long maxInFlightBytes, int largeFileLines,
+                              FileBudget fileBudget, FailFast failFast, GeneratedCode generatedCode,
+                              Charset encoding) {
+
+    private static final long DEFAULT_MAX_IN_FLIGHT_BYTES = 64L * 1024 * 1024;
+    private static final int DEFAULT_LARGE_FILE_LINES = 20_000;
+
+    /**
+     * 소스 파일을 UTF-8로 읽는 옵션
+     */
+    public AnalysisOptions(int threads, boolean asyncIo, long maxInFlightBytes, int largeFileLines,
+                           FileBudget fileBudget, FailFast failFast, GeneratedCode generatedCode) {
+        this(threads, asyncIo, maxInFlightBytes, largeFileLines, fileBudget, failFast, generatedCode,
+                StandardCharsets.UTF_8);
+    }
+
+    public static AnalysisOptions defaults() {
+        return new AnalysisOptions(Runtime.getRuntime().availableProcessors(), false, DEFAULT_MAX_IN_FLIGHT_BYTES,
+                DEFAULT_LARGE_FILE_LINES, FileBudget.defaults(), FailFast.disabled(), GeneratedCode.defaults());
+    }
+
+    public AnalysisOptions withThreads(int threads) {
+        return new AnalysisOptions(threads, asyncIo, maxInFlightBytes, largeFileLines, fileBudget, failFast,
+                generatedCode, encoding);
+    }
+
+    public AnalysisOptions withFileBudget(FileBudget fileBudget) {
+        return new AnalysisOptions(threads, asyncIo, maxInFlightBytes, largeFileLines, fileBudget, failFast,
+                generatedCode, encoding);
+    }
+
+    public AnalysisOptions withFailFast(FailFast failFast) {
+        return new AnalysisOptions(threads, asyncIo, maxInFlightBytes, largeFileLines, fileBudget, failFast,
+                generatedCode, encoding);
+    }
+
+    public AnalysisOptions withGeneratedCode(GeneratedCode generatedCode) {
+        return new AnalysisOptions(threads, asyncIo, maxInFlightBytes, largeFileLines, fileBudget, failFast,
+                generatedCode, encoding);
+    }
+
+    public AnalysisOptions withEncoding(Charset encoding) {
+        return new AnalysisOptions(threads, asyncIo, maxInFlightBytes, largeFileLines, fileBudget, failFast,
+                generatedCode, encoding);
+    }
+}
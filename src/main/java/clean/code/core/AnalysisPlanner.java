@@ -0,0 +1,68 @@
+package clean.code.core;
+
+import clean.code.rules.ParseRequirements;
+import clean.code.rules.ParseRequirements.Scope;
+import clean.code.rules.Rule;
+import clean.code.rules.TokenRule;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ParserConfiguration.LanguageLevel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 활성화된 규칙들이 선언한 {@link ParseRequirements}를 합쳐, 이를 만족하는 가장 가벼운 파서 설정을 만듭니다.
+ * <p>
+ * 기본 설정은 모든 주석을 수집해 노드에 연결하고 원본 줄바꿈 문자를 감지하지만, 규칙이 주석을 읽지 않으면 이 작업은 파싱 시간과 AST
+ * 크기만 늘립니다. 위반 사항의 라인과 분석기의 메서드 단위 캐시가 위치를 사용하므로 위치는 항상 포함합니다.
+ * <p>
+ * 모든 규칙이 {@link Scope#HEADER}이면 {@link SourceHeader}로 잘라낸 package/import 부분만 다루고, AST가
+ * 필요한 규칙이 없으면 파싱하지 않고 토큰으로만 나눕니다.
+ */
+final class AnalysisPlanner {
+    private static final ParseRequirements MINIMUM =
+            new ParseRequirements(Scope.HEADER, false, false, true, LanguageLevel.POPULAR);
+
+    private AnalysisPlanner() {
+    }
+
+    static ParseRequirements requirements(List<Rule> rules) {
+        ParseRequirements requirements = MINIMUM;
+        for (Rule rule : rules) {
+            requirements = requirements.merge(
+                    Objects.requireNonNullElse(rule.parseRequirements(), ParseRequirements.POSITIONS_ONLY));
+        }
+        return requirements;
+    }
+
+    /**
+     * 규칙을 검사 비용이 낮은 단계부터 나눕니다. 단계 안에서는 등록 순서를 유지하고, 규칙이 없는 단계는 빼고 반환합니다.
+     * <p>
+     * 헤더만 토큰으로 나누는 규칙, 헤더만 파싱하는 규칙, 파일 전체를 토큰으로 나누는 규칙, 파일 전체를 파싱하는 규칙 순입니다. JDK 21
+     * {@code java.base}에서 측정한 비용은 각각 0.9 s, 3.0 s, 3.7 s, 약 50 s입니다. (README의 파서 설정, 토큰 규칙 참고)
+     */
+    static List<List<Rule>> costTiers(List<Rule> rules) {
+        Map<Integer, List<Rule>> tiers = new TreeMap<>();
+        for (Rule rule : rules) {
+            boolean header = requirements(List.of(rule)).scope() == Scope.HEADER;
+            boolean tokens = rule instanceof TokenRule;
+            int tier = (header ? 0 : 2) + (tokens ? 0 : 1);
+            tiers.computeIfAbsent(tier, key -> new ArrayList<>()).add(rule);
+        }
+        return List.copyOf(tiers.values());
+    }
+
+    /**
+     * 요구 사항을 만족하는 새 파서 설정을 만듭니다. 설정은 변경 가능한 객체이므로 파서마다 새로 만듭니다.
+     */
+    static ParserConfiguration parserConfiguration(ParseRequirements requirements) {
+        return new ParserConfiguration()
+                .setLanguageLevel(requirements.languageLevel())
+                .setAttributeComments(requirements.comments())
+                .setStoreTokens(requirements.positions())
+                .setLexicalPreservationEnabled(false)
+                .setDetectOriginalLineSeparator(false);
+    }
+}
@@ -1,57 +1,654 @@
 package clean.code.core;
 
+import clean.code.report.SkippedFile;
 import clean.code.report.Violation;
+import clean.code.rules.NodeRule;
 import clean.code.rules.Rule;
-import com.github.javaparser.StaticJavaParser;
+import clean.code.rules.RuleProfile;
+import clean.code.rules.RuleScope;
+import clean.code.rules.ScopedRules;
+import clean.code.rules.SourceSkeleton;
+import clean.code.rules.TokenRule;
+import clean.code.rules.TokenStream;
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
 import com.github.javaparser.ast.CompilationUnit;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class Analyzer {
     private final List<Rule> rules;
+    private final RuleScope scope;
+    private final CheckPlan plan;
+    private final Map<List<Rule>, CheckPlan> scopedPlans = new ConcurrentHashMap<>();
+    private final Map<List<Rule>, String> scopedRuleSets = new ConcurrentHashMap<>();
+    private final AtomicInteger filesWithoutRules = new AtomicInteger();
+    private final AtomicInteger generatedFiles = new AtomicInteger();
+    private final AnalysisOptions options;
+    private final AnalysisCache cache;
+    private final CostHistory costs;
+    private final FileWatchdog watchdog;
+    private final HeapPressureThrottle throttle;
+    private final SourceLoader loader;
+    private final Queue<SkippedFile> skippedFiles = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger failures;
+    private final List<String> profiles;
+    private final Map<Rule, String> profileOfRule;
 
     public Analyzer(List<Rule> rules) {
+        this(rules, AnalysisOptions.defaults().withThreads(1));
+    }
+
+    public Analyzer(List<Rule> rules, AnalysisOptions options) {
+        this(rules, options, AnalysisCache.disabled());
+    }
+
+    public Analyzer(List<Rule> rules, AnalysisOptions options, AnalysisCache cache) {
+        this(rules, options, cache, CostHistory.inMemory());
+    }
+
+    public Analyzer(List<Rule> rules, AnalysisOptions options, AnalysisCache cache, CostHistory costs) {
+        this(rules, RuleScope.unscoped(), options, cache, costs, new AtomicInteger(), List.of(), Map.of());
+    }
+
+    /**
+     * 경로에 따라 적용할 규칙이 다른 분석기를 만듭니다. 적용할 규칙이 없는 파일은 읽거나 파싱하지 않습니다.
+     */
+    public Analyzer(ScopedRules rules, AnalysisOptions options, AnalysisCache cache, CostHistory costs) {
+        this(rules.rules(), rules.scope(), options, cache, costs, new AtomicInteger(), List.of(), Map.of());
+    }
+
+    /**
+     * @param scope         규칙 인스턴스별로 적용할 파일의 경로 조건
+     * @param failures      기준 중요도 이상인 위반 사항 수. 단계별로 나눠 검사하는 분석기들이 함께 셉니다.
+     * @param profiles      검사하는 규칙 프로필의 이름. 프로필이 둘 이상일 때만 있습니다.
+     * @param profileOfRule 규칙 인스턴스별 프로필 이름. 위반 사항에 프로필을 기록할 때 사용합니다.
+     */
+    private Analyzer(List<Rule> rules, RuleScope scope, AnalysisOptions options, AnalysisCache cache,
+                     CostHistory costs, AtomicInteger failures, List<String> profiles,
+                     Map<Rule, String> profileOfRule) {
         this.rules = rules;
+        this.scope = scope;
+        this.failures = failures;
+        this.profiles = profiles;
+        this.profileOfRule = profileOfRule;
+        this.options = options.withThreads(Math.max(1, options.threads()));
+        this.plan = new CheckPlan(rules, this.options.threads());
+        this.cache = cache;
+        this.costs = costs;
+        this.watchdog = new FileWatchdog(this.options.fileBudget());
+        this.throttle = HeapPressureThrottle.forHeap(this.options.threads());
+        this.loader = new SourceLoader(this.options.encoding(), this.options.generatedCode());
     }
 
     /**
-     * Java 파일 목록을 분석하여 위반 사항을 반환합니다.
+     * 여러 규칙 프로필을 한 번의 파싱으로 검사하는 분석기를 만듭니다. 모든 프로필의 규칙을 프로필 순서대로 이어 한 파일에 함께 적용하고,
+     * 위반 사항에는 찾은 규칙의 프로필 이름을 기록합니다. 프로필이 하나뿐이면 프로필 이름을 기록하지 않습니다.
+     */
+    public static Analyzer forProfiles(List<RuleProfile> profiles, AnalysisOptions options, AnalysisCache cache,
+                                       CostHistory costs) {
+        if (profiles.size() == 1) {
+            RuleProfile profile = profiles.getFirst();
+            return new Analyzer(new ScopedRules(profile.rules(), profile.scope()), options, cache, costs);
+        }
+        List<Rule> rules = new ArrayList<>();
+        Map<Rule, String> profileOfRule = new IdentityHashMap<>();
+        for (RuleProfile profile : profiles) {
+            for (Rule rule : profile.rules()) {
+                rules.add(rule);
+                profileOfRule.put(rule, profile.name());
+            }
+        }
+        List<String> names = profiles.stream().map(RuleProfile::name).toList();
+        RuleScope scope = RuleScope.merge(profiles.stream().map(RuleProfile::scope).toList());
+        return new Analyzer(rules, scope, options, cache, costs, new AtomicInteger(), names, profileOfRule);
+    }
+
+    /**
+     * Java 파일 목록을 분석하여 위반 사항을 반환합니다. 결과는 실행 방식과 관계없이 입력 파일 순서를 따릅니다.
+     * <p>
+     * 여러 스레드로 분석할 때는 {@link CostScheduler}가 정한 순서(예상 비용이 큰 파일부터)로 작업을 제출하고, 예상 실행 시간과 실제
+     * 실행 시간을 함께 출력합니다. 분석하는 동안 {@link HeapPressureThrottle}이 힙 사용량에 따라 동시에 파싱하는 파일 수를 조절합니다.
+     * <p>
+     * {@link FailFast}를 사용하면 기준 중요도 이상인 위반 사항이 정한 수에 이른 뒤 시작하는 파일은 분석하지 않습니다. 이때 규칙은
+     * {@link AnalysisPlanner#costTiers(List)}의 단계별로 나눠 모든 파일에 비용이 낮은 단계부터 적용하므로, 가벼운 규칙으로 찾을 수
+     * 있는 위반 사항이 있으면 AST가 필요한 규칙은 실행하지 않고 끝납니다.
      */
     public List<Violation> analyze(List<Path> javaFiles) {
-        List<Violation> allViolations = new ArrayList<>();
+        List<List<Rule>> tiers = options.failFast().isEnabled() ? AnalysisPlanner.costTiers(rules) : List.of(rules);
+        List<Violation> violations = tiers.size() > 1
+                ? analyzeInTiers(javaFiles, tiers)
+                : analyzeWithHeapMonitoring(javaFiles);
+        if (isFailFastTripped()) {
+            System.out.printf("[INFO] Fail-fast: stopped after %d violations at or above %s%n", failures.get(),
+                    options.failFast().threshold());
+        }
+        return violations;
+    }
+
+    /**
+     * 위반 사항이 {@link FailFast}의 기준 중요도 이상인지 여부. 종료 코드를 정할 때 사용합니다.
+     */
+    public boolean failsOn(Violation violation) {
+        return options.failFast().counts(violation);
+    }
+
+    /**
+     * 힙 사용량 감시를 시작합니다. 파일 단위로 {@link #analyzeFile(Path)}를 호출하는 동안 열어 두고, 닫으면 조절 내역을 출력합니다.
+     */
+    HeapPressureThrottle.Monitoring monitorHeap() {
+        return throttle.monitor();
+    }
 
+    private List<Violation> analyzeWithHeapMonitoring(List<Path> javaFiles) {
+        HeapPressureThrottle.Monitoring monitoring = monitorHeap();
+        try {
+            return analyzeMonitored(javaFiles);
+        } finally {
+            monitoring.close();
+        }
+    }
+
+    /**
+     * 규칙 단계마다 같은 설정과 위반 사항 수를 공유하는 분석기로 남은 파일을 검사합니다. 결과는 입력 파일 순서대로, 파일 안에서는 단계
+     * 순서대로 모읍니다.
+     * <p>
+     * 캐시의 결과가 유효한 파일은 먼저 캐시에서 읽습니다. 나머지 파일은 중간에 멈추면 일부 규칙의 결과만 남으므로 캐시에 저장하지 않습니다.
+     * 한도를 넘어 건너뛴 파일은 다음 단계에서 검사하지 않습니다.
+     */
+    private List<Violation> analyzeInTiers(List<Path> javaFiles, List<List<Rule>> tiers) {
+        Map<Path, List<Violation>> violationsPerFile = new LinkedHashMap<>();
+        List<Path> remaining = new ArrayList<>();
         for (Path javaFile : javaFiles) {
-            Optional<CompilationUnit> astOptional = parseFile(javaFile);
-            if (astOptional.isEmpty()) {
-                continue;
+            violationsPerFile.put(javaFile, new ArrayList<>());
+            if (cache.isFresh(javaFile)) {
+                violationsPerFile.get(javaFile).addAll(analyzeFile(javaFile));
+            } else {
+                remaining.add(javaFile);
+            }
+        }
+        Set<Path> skipped = new HashSet<>();
+        for (List<Rule> tier : tiers) {
+            if (remaining.isEmpty() || isFailFastTripped()) {
+                break;
+            }
+            Analyzer tierAnalyzer = new Analyzer(tier, scope, options, AnalysisCache.disabled(),
+                    CostHistory.inMemory(), failures, profiles, profileOfRule);
+            for (Violation violation : tierAnalyzer.analyzeWithHeapMonitoring(remaining)) {
+                violationsPerFile.computeIfAbsent(violation.filePath(), key -> new ArrayList<>()).add(violation);
             }
+            for (SkippedFile skippedFile : tierAnalyzer.skippedFiles()) {
+                if (skipped.add(skippedFile.filePath())) {
+                    skippedFiles.add(skippedFile);
+                }
+            }
+            remaining.removeIf(skipped::contains);
+        }
+        flushCache();
 
-            CompilationUnit ast = astOptional.get();
+        List<Violation> allViolations = new ArrayList<>();
+        violationsPerFile.values().forEach(allViolations::addAll);
+        return allViolations;
+    }
 
-            for (Rule rule : this.rules) {
-                allViolations.addAll(rule.check(javaFile, ast));
-            }
+    private List<Violation> analyzeMonitored(List<Path> javaFiles) {
+        long startedAt = System.nanoTime();
+        List<List<Violation>> violationsPerFile;
+        if (options.asyncIo() || (options.threads() > 1 && javaFiles.size() > 1)) {
+            CostScheduler.Schedule schedule = CostScheduler.plan(javaFiles, this::expectedCost, options.threads());
+            violationsPerFile = options.asyncIo()
+                    ? analyzeWithAsyncIo(javaFiles, schedule.order())
+                    : analyzeInParallel(javaFiles, schedule.order());
+            System.out.printf("[INFO] Cost-ordered schedule: predicted %d ms, actual %d ms%n",
+                    TimeUnit.NANOSECONDS.toMillis(schedule.predictedMakespanNanos()),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } else {
+            violationsPerFile = javaFiles.stream()
+                    .map(this::analyzeFile)
+                    .toList();
         }
+        flushCache();
+
+        List<Violation> allViolations = new ArrayList<>();
+        violationsPerFile.forEach(allViolations::addAll);
 
         System.out.println("[DEBUG] Analyzing " + javaFiles.size() + " files...");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        System.out.printf("[INFO] Analyzed %d files in %d ms (%d threads%s)%n", javaFiles.size(), elapsedMillis,
+                options.threads(), options.asyncIo() ? ", async I/O" : "");
+        printSkippedCounts();
         return allViolations;
     }
 
     /**
-     * 파일을 파싱하여 AST(CompilationUnit)를 반환합니다. [클린코드] 한 가지 일만 담당 (파일 파싱)
+     * 파싱하지 않고 건너뛴 파일 수를 출력합니다. 건너뛴 파일이 없으면 출력하지 않습니다.
+     */
+    void printSkippedCounts() {
+        if (filesWithoutRules.get() > 0) {
+            System.out.printf("[INFO] Skipped parsing %d files with no applicable rules%n", filesWithoutRules.get());
+        }
+        if (generatedFiles.get() > 0) {
+            System.out.printf("[INFO] Skipped %d generated files (marker in the first %d bytes)%n",
+                    generatedFiles.get(), GeneratedCode.HEAD_BYTES);
+        }
+    }
+
+    /**
+     * 함께 검사하는 규칙 프로필의 이름. 프로필이 둘 이상일 때만 있고, 위반 사항의 {@link Violation#profile()}로 결과를 나눕니다.
+     */
+    public List<String> profiles() {
+        return profiles;
+    }
+
+    /**
+     * 파일 단위 작업을 동시에 처리할 수 있는 스레드 수
+     */
+    public int parallelism() {
+        return options.threads();
+    }
+
+    /**
+     * 스캔할 때 읽은 파일 크기. 스캔하지 않은 파일은 지금 조회하고, 조회하지 못하면 0입니다.
+     */
+    long sizeOf(Path javaFile) {
+        return costs.sizeOf(javaFile);
+    }
+
+    /**
+     * 지금까지 {@link FileBudget}의 한도를 넘어 검사하지 않은 파일
+     */
+    public List<SkippedFile> skippedFiles() {
+        return List.copyOf(skippedFiles);
+    }
+
+    /**
+     * 단일 파일을 파싱하고 모든 규칙을 적용합니다. 파싱에 실패하거나 한도를 넘으면 빈 리스트를 반환합니다.
+     * <p>
+     * 캐시에 같은 내용의 결과가 있으면 파싱하지 않고 저장된 결과를 반환합니다. 경로에 적용할 규칙이 없거나 {@link FailFast}의
+     * 위반 사항 수에 이미 이르렀으면 파일을 읽지 않고 빈 리스트를 반환합니다. 앞부분에 {@link GeneratedCode}의 표식이 있는 생성
+     * 코드도 나머지를 읽지 않고 빈 리스트를 반환합니다.
+     */
+    public List<Violation> analyzeFile(Path javaFile) {
+        if (isFailFastTripped() || hasNoRules(javaFile)) {
+            return List.of();
+        }
+        Optional<AnalysisCache.CachedResult> cached = cache.find(javaFile);
+        if (cached.isPresent()) {
+            return fromCache(javaFile, cached.get());
+        }
+        return readSource(javaFile)
+                .map(content -> analyzeContent(javaFile, content))
+                .orElseGet(List::of);
+    }
+
+    /**
+     * 캐시 인덱스와 파일별 분석 시간 기록을 디스크에 기록합니다. 파일 단위로 {@link #analyzeFile(Path)}를 호출한 경우 마지막에 호출해야
+     * 합니다.
+     */
+    public void flushCache() {
+        cache.flush();
+        costs.flush();
+    }
+
+    /**
+     * 파일 하나의 예상 분석 시간(ns). 캐시에서 읽지 않고 결과를 찾을 파일은 0입니다.
+     */
+    private long expectedCost(Path javaFile) {
+        return cache.isFresh(javaFile) || planFor(javaFile).isEmpty() ? 0 : costs.estimate(javaFile);
+    }
+
+    /**
+     * 파일 경로에 적용할 규칙의 검사 계획. 경로 조건이 없으면 모든 규칙의 계획이고, 규칙 묶음마다 계획을 한 번만 만듭니다.
+     */
+    private CheckPlan planFor(Path javaFile) {
+        List<Rule> applicable = scope.rulesFor(rules, javaFile);
+        if (applicable == rules) {
+            return plan;
+        }
+        return scopedPlans.computeIfAbsent(applicable, key -> new CheckPlan(key, options.threads()));
+    }
+
+    /**
+     * 파일 경로에 적용할 규칙 묶음의 식별자. 모든 규칙을 적용하면 빈 문자열이고, 아니면 적용할 규칙의 순번입니다. 규칙 목록은 캐시
+     * 지문에 포함된 설정으로 정해지므로 실행마다 같은 식별자가 됩니다.
+     */
+    private String ruleSetOf(Path javaFile) {
+        List<Rule> applicable = scope.rulesFor(rules, javaFile);
+        if (applicable == rules) {
+            return "";
+        }
+        return scopedRuleSets.computeIfAbsent(applicable, key -> IntStream.range(0, rules.size())
+                .filter(index -> key.contains(rules.get(index)))
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(",")));
+    }
+
+    private boolean hasNoRules(Path javaFile) {
+        if (!planFor(javaFile).isEmpty()) {
+            return false;
+        }
+        filesWithoutRules.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * work-stealing 풀에 파일 단위 작업을 {@code order} 순서로 제출하고, 결과는 입력 파일 순서대로 모읍니다. 외부에서 제출한 작업은
+     * 제출한 순서대로 꺼내지므로 예상 비용이 큰 파일부터 시작합니다.
+     */
+    private List<List<Violation>> analyzeInParallel(List<Path> javaFiles, int[] order) {
+        ForkJoinPool pool = new ForkJoinPool(options.threads());
+        try {
+            List<ForkJoinTask<List<Violation>>> tasks = new ArrayList<>(Collections.nCopies(javaFiles.size(), null));
+            for (int index : order) {
+                Path javaFile = javaFiles.get(index);
+                tasks.set(index, pool.submit(() -> analyzeFile(javaFile)));
+            }
+            return tasks.stream()
+                    .map(ForkJoinTask::join)
+                    .toList();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 파일 읽기는 가상 스레드에서, 파싱과 규칙 검사는 코어 수만큼의 플랫폼 스레드에서 수행합니다. 읽었지만 아직 검사하지 않은 소스의 총량은
+     * {@link ByteBudget}으로 제한합니다. 작업은 {@code order} 순서로 시작하고, 결과는 입력 파일 순서대로 모읍니다.
+     */
+    private List<List<Violation>> analyzeWithAsyncIo(List<Path> javaFiles, int[] order) {
+        ByteBudget budget = new ByteBudget(options.maxInFlightBytes());
+        ExecutorService cpuPool = Executors.newFixedThreadPool(options.threads());
+        try (ExecutorService ioPool = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<List<Violation>>> futures = new ArrayList<>(
+                    Collections.nCopies(javaFiles.size(), null));
+            for (int index : order) {
+                Path javaFile = javaFiles.get(index);
+                futures.set(index, CompletableFuture
+                        .supplyAsync(() -> loadSource(javaFile, budget), ioPool)
+                        .thenApplyAsync(loaded -> analyzeLoadedSource(javaFile, loaded, budget), cpuPool));
+            }
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+        } finally {
+            cpuPool.shutdown();
+        }
+    }
+
+    private LoadedSource loadSource(Path javaFile, ByteBudget budget) {
+        if (isFailFastTripped() || hasNoRules(javaFile)) {
+            return new LoadedSource(Optional.empty(), Optional.empty(), 0);
+        }
+        Optional<AnalysisCache.CachedResult> cached = cache.find(javaFile);
+        if (cached.isPresent()) {
+            return new LoadedSource(Optional.empty(), cached, 0);
+        }
+        int reserved = 0;
+        try {
+            reserved = budget.acquire(costs.sizeOf(javaFile));
+            return new LoadedSource(readSource(javaFile), Optional.empty(), reserved);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new LoadedSource(Optional.empty(), Optional.empty(), reserved);
+        }
+    }
+
+    private List<Violation> analyzeLoadedSource(Path javaFile, LoadedSource loaded, ByteBudget budget) {
+        try {
+            if (loaded.cached().isPresent()) {
+                return fromCache(javaFile, loaded.cached().get());
+            }
+            if (isFailFastTripped()) {
+                return List.of();
+            }
+            return loaded.content()
+                    .map(content -> analyzeContent(javaFile, content))
+                    .orElseGet(List::of);
+        } finally {
+            budget.release(loaded.reserved());
+        }
+    }
+
+    /**
+     * 읽어 둔 내용의 해시로 캐시를 다시 확인한 뒤(수정 시각만 바뀐 경우), 없으면 파싱하고 검사한 결과를 캐시에 저장합니다.
+     * <p>
+     * 캐시를 사용하면 이전 버전 파일에서 바뀌지 않은 메서드/생성자는 {@link MemberResultCache}로 결과를 재사용합니다. 시간 한도를 넘어
+     * 건너뛴 파일은 다음 실행에서 다시 검사하도록 캐시에 저장하지 않습니다.
      */
-    private Optional<CompilationUnit> parseFile(Path javaFile) {
+    private List<Violation> analyzeContent(Path javaFile, byte[] content) {
         try {
-            return Optional.of(StaticJavaParser.parse(javaFile));
+            if (!cache.isEnabled()) {
+                return parseAndCheck(javaFile, content.length, loader.decode(content), null)
+                        .orElseGet(List::of);
+            }
+            AnalysisCache.CacheKey key = cache.keyOf(javaFile, content, ruleSetOf(javaFile));
+            Optional<AnalysisCache.CachedResult> cached = cache.find(key);
+            if (cached.isPresent()) {
+                return fromCache(javaFile, cached.get());
+            }
+            String source = loader.decode(content);
+            MemberResultCache members = new MemberResultCache(javaFile, source, cache.previousMembers(javaFile));
+            Optional<List<Violation>> violations = parseAndCheck(javaFile, content.length, source, members);
+            if (violations.isEmpty()) {
+                cache.storeParseFailure(key);
+                return List.of();
+            }
+            cache.store(key, violations.get(), members.recorded());
+            return violations.get();
+        } catch (FileWatchdog.BudgetExceededException e) {
+            skip(javaFile, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 파싱하고 모든 규칙을 검사합니다. 파싱에 실패하면 빈 값을 반환합니다. {@code members}가 없으면 큰 파일은 규칙들을 동시에 검사합니다.
+     * <p>
+     * 힙이 부족하면 {@link HeapPressureThrottle}이 허용할 때까지 대기합니다. 걸린 시간은 다음 실행에서 작업 순서를 정하도록
+     * {@link CostHistory}에 기록합니다.
+     * <p>
+     * 파싱과 규칙 검사 시간은 {@link FileWatchdog}가 각각 감시합니다. 한도를 넘어 버려진 작업이 이 스레드의 JavaParser를 아직 쓰고
+     * 있을 수 있으므로, 이후 파일에는 새 JavaParser를 사용합니다.
+     */
+    private Optional<List<Violation>> parseAndCheck(Path javaFile, long size, String source,
+                                                    MemberResultCache members)
+            throws FileWatchdog.BudgetExceededException {
+        CheckPlan filePlan = planFor(javaFile);
+        throttle.acquire(size);
+        JavaParser parser = filePlan.parser();
+        long startedAt = System.nanoTime();
+        try {
+            Optional<List<Violation>> violations = watchdog.run(progress -> {
+                Optional<ParsedSource> parsed = parseSource(filePlan, javaFile, source, parser);
+                progress.rulesStarted();
+                FileWatchdog.checkInterrupted();
+                return parsed.map(p -> members == null
+                        ? checkRules(filePlan, javaFile, p)
+                        : mergeInRuleOrder(filePlan, javaFile, p, dispatch(filePlan, javaFile, p, members)));
+            });
+            costs.record(javaFile, size, System.nanoTime() - startedAt);
+            violations.ifPresent(this::countFailures);
+            return violations;
+        } catch (FileWatchdog.BudgetExceededException e) {
+            filePlan.discardParser();
+            throw e;
+        } finally {
+            throttle.release();
+        }
+    }
+
+    private void skip(Path javaFile, String reason) {
+        System.err.println("[WARN] Skipped (budget exceeded: " + reason + "): " + javaFile);
+        skippedFiles.add(new SkippedFile(javaFile, reason));
+    }
+
+    private List<Violation> fromCache(Path javaFile, AnalysisCache.CachedResult cached) {
+        if (cached.parseFailed()) {
+            System.err.println("[ERROR] Failed to analyze (parse error): " + javaFile);
+        }
+        countFailures(cached.violations());
+        return cached.violations();
+    }
+
+    private void countFailures(List<Violation> violations) {
+        if (!options.failFast().isEnabled()) {
+            return;
+        }
+        int count = (int) violations.stream().filter(this::failsOn).count();
+        if (count > 0) {
+            failures.addAndGet(count);
+        }
+    }
+
+    private boolean isFailFastTripped() {
+        return options.failFast().isEnabled() && failures.get() >= options.failFast().maxViolations();
+    }
+
+    /**
+     * {@link NodeRule}은 골격을 한 번 순회하며 함께 검사하고, {@link TokenRule}은 토큰으로, 나머지 규칙은 AST로 개별적으로
+     * 검사합니다. 결과는 규칙 등록 순서대로 병합합니다.
+     * <p>
+     * 기준 라인 수 이상인 큰 파일은 규칙 묶음들을 동시에 적용해 한 파일이 전체 실행 시간을 끌지 않도록 합니다. 파일 단위 fork-join
+     * 풀 밖(가상 스레드 I/O, 스트리밍 워커)에서 호출되면 공용 풀 대신 그 파일을 검사하는 동안만 쓰는 풀에서 실행합니다.
+     */
+    private List<Violation> checkRules(CheckPlan filePlan, Path javaFile, ParsedSource parsed) {
+        if (isLargeFile(filePlan, parsed)) {
+            return inRuleOrder(filePlan, filePlan.concurrentChecker().check(javaFile, parsed));
+        }
+        return mergeInRuleOrder(filePlan, javaFile, parsed, dispatch(filePlan, javaFile, parsed, null));
+    }
+
+    private List<List<Violation>> dispatch(CheckPlan filePlan, Path javaFile, ParsedSource parsed,
+                                           MemberResultCache members) {
+        return parsed.skeleton()
+                .map(skeleton -> filePlan.dispatcher().dispatch(javaFile, skeleton, members))
+                .orElseGet(List::of);
+    }
+
+    private List<Violation> mergeInRuleOrder(CheckPlan filePlan, Path javaFile, ParsedSource parsed,
+                                             List<List<Violation>> violationsPerNodeRule) {
+        Iterator<List<Violation>> dispatched = violationsPerNodeRule.iterator();
+        List<List<Violation>> violationsPerRule = new ArrayList<>(filePlan.rules().size());
+        for (Rule rule : filePlan.rules()) {
+            FileWatchdog.checkInterrupted();
+            violationsPerRule.add(rule instanceof NodeRule ? dispatched.next() : parsed.check(rule, javaFile));
+        }
+        return inRuleOrder(filePlan, violationsPerRule);
+    }
+
+    /**
+     * 규칙별 위반 사항을 규칙 등록 순서대로 합칩니다. 여러 프로필을 검사하면 규칙의 프로필 이름을 기록합니다.
+     */
+    private List<Violation> inRuleOrder(CheckPlan filePlan, List<List<Violation>> violationsPerRule) {
+        List<Violation> violations = new ArrayList<>();
+        for (int i = 0; i < violationsPerRule.size(); i++) {
+            String profile = profileOfRule.get(filePlan.rules().get(i));
+            for (Violation violation : violationsPerRule.get(i)) {
+                violations.add(profile == null ? violation : violation.withProfile(profile));
+            }
+        }
+        return violations;
+    }
+
+    private boolean isLargeFile(CheckPlan filePlan, ParsedSource parsed) {
+        if (options.largeFileLines() <= 0 || options.threads() < 2 || filePlan.rules().size() < 2) {
+            return false;
+        }
+        int lines = parsed.lastLine();
+        return lines > 0 && lines >= options.largeFileLines();
+    }
+
+    /**
+     * 파일 내용을 읽습니다. 캐시 키 계산과 파싱이 같은 바이트를 사용하도록 파싱과 분리합니다. 크기 한도를 넘는 파일은 읽지 않습니다.
+     * <p>
+     * 앞부분 {@link GeneratedCode#HEAD_BYTES}바이트를 먼저 읽어 생성 코드 표식이 있으면 나머지는 읽지 않습니다. 표식이 없으면 같은
+     * 채널에서 이어 읽으므로 앞부분을 두 번 읽지 않습니다. 읽는 방법은 {@link SourceLoader}가 파일 크기와 압축 파일 안의 항목인지에 따라
+     * 정합니다.
+     */
+    private Optional<byte[]> readSource(Path javaFile) {
+        try (FileChannel channel = FileChannel.open(javaFile)) {
+            long size = channel.size();
+            FileBudget budget = options.fileBudget();
+            if (budget.exceedsBytes(size)) {
+                skip(javaFile, "size " + size + " bytes > " + budget.maxBytes() + " bytes");
+                return Optional.empty();
+            }
+            boolean mappable = !SourceTree.isArchived(javaFile);
+            Optional<byte[]> content = loader.read(channel, Math.toIntExact(size), mappable);
+            if (content.isEmpty()) {
+                generatedFiles.incrementAndGet();
+            }
+            return content;
         } catch (IOException e) {
             System.err.println("[ERROR] Failed to parse file: " + javaFile);
             return Optional.empty();
+        }
+    }
+
+    /**
+     * 소스 문자열을 파싱하여 AST(CompilationUnit)와 토큰을 반환합니다. [클린코드] 한 가지 일만 담당 (파일 파싱)
+     * <p>
+     * StaticJavaParser의 전역 설정을 공유하지 않도록 분석 스레드마다 {@link CheckPlan}의 JavaParser 인스턴스를 사용합니다.
+     * 모든 규칙이 package/import 선언만 보면 {@link SourceHeader}로 잘라낸 헤더만 다룹니다. AST는 AST가 필요한 규칙이 있을 때만,
+     * 토큰은 {@link TokenRule}이 있을 때만 만듭니다.
+     * <p>
+     * {@link NodeRule}은 AST에서 뽑은 {@link SourceSkeleton}을 검사하므로, AST를 직접 검사하는 규칙이 없으면 골격을 만든 뒤 AST를
+     * 버립니다. 여러 파일을 동시에 검사할 때 워커마다 AST 전체를 들고 있지 않게 됩니다.
+     */
+    private Optional<ParsedSource> parseSource(CheckPlan filePlan, Path javaFile, String source, JavaParser parser) {
+        String text = filePlan.headerOnly() ? SourceHeader.of(source) : source;
+        try {
+            Optional<CompilationUnit> ast = Optional.empty();
+            Optional<SourceSkeleton> skeleton = Optional.empty();
+            if (filePlan.syntaxTree()) {
+                Optional<CompilationUnit> parsed = toCompilationUnit(javaFile, parser.parse(text));
+                if (parsed.isEmpty()) {
+                    return Optional.empty();
+                }
+                skeleton = filePlan.hasNodeRules() ? Optional.of(SourceSkeleton.of(parsed.get())) : Optional.empty();
+                ast = filePlan.retainsSyntaxTree() ? parsed : Optional.empty();
+            }
+            Optional<TokenStream> tokens = filePlan.hasTokenRules()
+                    ? Optional.of(TokenStream.tokenize(text))
+                    : Optional.empty();
+            return Optional.of(new ParsedSource(ast, skeleton, tokens));
         } catch (Exception e) {
             System.err.println("[ERROR] Failed to analyze (parse error): " + javaFile);
             return Optional.empty();
         }
     }
-}
\ No newline at end of file
+
+    private Optional<CompilationUnit> toCompilationUnit(Path javaFile, ParseResult<CompilationUnit> result) {
+        if (!result.isSuccessful()) {
+            System.err.println("[ERROR] Failed to analyze (parse error): " + javaFile);
+            return Optional.empty();
+        }
+        return result.getResult();
+    }
+
+    private record LoadedSource(Optional<byte[]> content, Optional<AnalysisCache.CachedResult> cached, int reserved) {
+    }
+}
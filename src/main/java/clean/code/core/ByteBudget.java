@@ -0,0 +1,31 @@
+package clean.code.core;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * 동시에 메모리에 올라와 있는 소스의 총 바이트 수를 제한하는 세마포어
+ * <p>
+ * 예산보다 큰 파일은 예산 전체를 점유하므로, 한 파일이 영원히 대기하는 일은 없습니다.
+ */
+class ByteBudget {
+    private final Semaphore permits;
+    private final int capacity;
+
+    ByteBudget(long maxBytes) {
+        this.capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(1, maxBytes));
+        this.permits = new Semaphore(capacity, true);
+    }
+
+    /**
+     * 주어진 크기만큼 예산을 확보할 때까지 대기하고, 실제로 확보한 양을 반환합니다.
+     */
+    int acquire(long bytes) throws InterruptedException {
+        int amount = (int) Math.min(capacity, Math.max(1, bytes));
+        permits.acquire(amount);
+        return amount;
+    }
+
+    void release(int amount) {
+        permits.release(amount);
+    }
+}
@@ -0,0 +1,20 @@
+package clean.code.core;
+
+import java.nio.file.Path;
+
+/**
+ * 분석 결과 캐시에 대한 옵션
+ *
+ * @param enabled   캐시 사용 여부
+ * @param directory 캐시 디렉토리
+ * @param maxBytes  캐시 항목 파일 총 크기의 상한
+ */
+public record CacheOptions(boolean enabled, Path directory, long maxBytes) {
+
+    public static final String DEFAULT_DIRECTORY = ".clean-code-cache";
+    private static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+
+    public static CacheOptions disabled() {
+        return new CacheOptions(false, Path.of(DEFAULT_DIRECTORY), DEFAULT_MAX_BYTES);
+    }
+}
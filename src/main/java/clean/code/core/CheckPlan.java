@@ -0,0 +1,103 @@
+package clean.code.core;
+
+import clean.code.rules.NodeRule;
+import clean.code.rules.ParseRequirements;
+import clean.code.rules.Rule;
+import clean.code.rules.RuleDispatcher;
+import clean.code.rules.TokenRule;
+import com.github.javaparser.JavaParser;
+import java.util.List;
+
+/**
+ * 파일에 적용할 규칙 묶음과, 그 규칙들이 요구하는 만큼만 파싱하도록 {@link AnalysisPlanner}가 정한 파서 설정
+ * <p>
+ * 경로에 따라 적용할 규칙이 다르면 분석기는 규칙 묶음마다 검사 계획을 하나씩 만들어 재사용합니다.
+ */
+final class CheckPlan {
+    private final List<Rule> rules;
+    private final RuleDispatcher dispatcher;
+    private final ConcurrentRuleChecker concurrentChecker;
+    private final ThreadLocal<JavaParser> parsers;
+    private final boolean headerOnly;
+    private final boolean syntaxTree;
+    private final boolean hasNodeRules;
+    private final boolean hasTokenRules;
+    private final boolean retainsSyntaxTree;
+
+    CheckPlan(List<Rule> rules, int threads) {
+        this.rules = rules;
+        this.dispatcher = new RuleDispatcher(rules.stream()
+                .filter(NodeRule.class::isInstance)
+                .map(NodeRule.class::cast)
+                .toList());
+        this.concurrentChecker = new ConcurrentRuleChecker(rules, threads);
+        ParseRequirements requirements = AnalysisPlanner.requirements(rules);
+        this.headerOnly = requirements.scope() == ParseRequirements.Scope.HEADER;
+        this.syntaxTree = requirements.syntaxTree();
+        this.hasNodeRules = rules.stream().anyMatch(NodeRule.class::isInstance);
+        this.hasTokenRules = rules.stream().anyMatch(TokenRule.class::isInstance);
+        this.retainsSyntaxTree = rules.stream()
+                .anyMatch(rule -> !(rule instanceof NodeRule) && !(rule instanceof TokenRule));
+        this.parsers = ThreadLocal.withInitial(
+                () -> new JavaParser(AnalysisPlanner.parserConfiguration(requirements)));
+    }
+
+    List<Rule> rules() {
+        return rules;
+    }
+
+    boolean isEmpty() {
+        return rules.isEmpty();
+    }
+
+    RuleDispatcher dispatcher() {
+        return dispatcher;
+    }
+
+    ConcurrentRuleChecker concurrentChecker() {
+        return concurrentChecker;
+    }
+
+    /**
+     * 현재 스레드의 JavaParser
+     */
+    JavaParser parser() {
+        return parsers.get();
+    }
+
+    /**
+     * 현재 스레드의 JavaParser를 버립니다. 다음 파일은 새 JavaParser로 파싱합니다.
+     */
+    void discardParser() {
+        parsers.remove();
+    }
+
+    /**
+     * 모든 규칙이 package/import 선언만 보는지 여부
+     */
+    boolean headerOnly() {
+        return headerOnly;
+    }
+
+    /**
+     * AST를 만들어야 하는지 여부
+     */
+    boolean syntaxTree() {
+        return syntaxTree;
+    }
+
+    boolean hasNodeRules() {
+        return hasNodeRules;
+    }
+
+    boolean hasTokenRules() {
+        return hasTokenRules;
+    }
+
+    /**
+     * AST를 직접 검사하는 규칙이 있어 골격을 만든 뒤에도 AST를 유지해야 하는지 여부
+     */
+    boolean retainsSyntaxTree() {
+        return retainsSyntaxTree;
+    }
+}
@@ -4,11 +4,17 @@ import clean.code.report.ConsoleReporter;
 import clean.code.report.Violation;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 실제 스캔, 분석, 리포팅의 흐름(workflow)을 담당하는 실행 객체
  */
 public class CodeCheckRunner {
+    /**
+     * 기준 중요도 이상인 위반 사항이 있을 때의 종료 코드
+     */
+    public static final int EXIT_VIOLATIONS = 1;
+
     private final ProjectScanner projectScanner;
     private final Analyzer analyzer;
     private final ConsoleReporter consoleReporter;
@@ -23,12 +29,74 @@ public class CodeCheckRunner {
      * 메인 실행 로직
      *
      * @param projectPath 검사할 프로젝트 경로
+     * @return 종료 코드. 기준 중요도 이상인 위반 사항이 있으면 {@link #EXIT_VIOLATIONS}, 없으면 0
      */
-    public void run(Path projectPath) {
-        System.out.println("[INFO] Scanning project: " + projectPath.toAbsolutePath());
+    public int run(Path projectPath) {
+        System.out.println("[INFO] Scanning project: " + SourceTree.describe(projectPath));
         List<Path> javaFiles = projectScanner.scan(projectPath);
         List<Violation> violations = analyzer.analyze(javaFiles);
-        consoleReporter.report(violations);
+        if (analyzer.profiles().isEmpty()) {
+            consoleReporter.report(violations);
+        } else {
+            for (String profile : analyzer.profiles()) {
+                consoleReporter.reportProfile(profile, violations.stream()
+                        .filter(violation -> profile.equals(violation.profile()))
+                        .toList());
+            }
+        }
+        consoleReporter.reportSkipped(analyzer.skippedFiles());
+        System.out.println("[INFO] Scan finished.");
+        return violations.stream().anyMatch(analyzer::failsOn) ? EXIT_VIOLATIONS : 0;
+    }
+
+    /**
+     * 스캔, 분석, 리포트를 동시에 진행하는 스트리밍 실행 로직. 파일 분석이 끝나는 즉시 결과를 출력합니다.
+     *
+     * @param projectPath 검사할 프로젝트 경로
+     * @return 종료 코드. 기준 중요도 이상인 위반 사항이 있으면 {@link #EXIT_VIOLATIONS}, 없으면 0
+     */
+    public int runStreaming(Path projectPath) throws InterruptedException {
+        System.out.println("[INFO] Scanning project: " + SourceTree.describe(projectPath));
+        int failures = new StreamingPipeline(projectScanner, analyzer, consoleReporter).run(projectPath);
+        consoleReporter.reportSkipped(analyzer.skippedFiles());
+        System.out.println("[INFO] Scan finished.");
+        return failures > 0 ? EXIT_VIOLATIONS : 0;
+    }
+
+    /**
+     * 최근에 바뀐 파일부터 분석하고, 파일 분석이 끝나는 즉시 결과를 출력합니다. 개발자가 방금 고친 파일의 위반 사항을 전체 분석이
+     * 끝나기 전에 먼저 볼 수 있습니다.
+     *
+     * @param projectPath 검사할 프로젝트 경로
+     * @param order       "최근"을 판단하는 기준
+     * @return 종료 코드. 기준 중요도 이상인 위반 사항이 있으면 {@link #EXIT_VIOLATIONS}, 없으면 0
+     */
+    public int runRecentFirst(Path projectPath, RecentOrder order) throws InterruptedException {
+        System.out.println("[INFO] Scanning project: " + SourceTree.describe(projectPath));
+        List<Path> javaFiles = projectScanner.scanRecentFirst(projectPath, order);
+        int failures = new StreamingPipeline(projectScanner, analyzer, consoleReporter).run(javaFiles);
+        consoleReporter.reportSkipped(analyzer.skippedFiles());
+        System.out.println("[INFO] Scan finished.");
+        return failures > 0 ? EXIT_VIOLATIONS : 0;
+    }
+
+    /**
+     * 파일의 일부만 층화 무작위 표본으로 분석해 규칙별 위반 사항 수를 신뢰구간과 함께 추정합니다. 전체 위반 사항 수의 추정치가 목표
+     * 정밀도에 이르면 남은 파일은 분석하지 않습니다.
+     *
+     * @param projectPath 검사할 프로젝트 경로
+     * @return 종료 코드. 표본에서 기준 중요도 이상인 위반 사항을 찾으면 {@link #EXIT_VIOLATIONS}, 없으면 0
+     */
+    public int runSampled(Path projectPath, SampleOptions options) throws InterruptedException {
+        System.out.println("[INFO] Scanning project: " + SourceTree.describe(projectPath));
+        List<Path> javaFiles = projectScanner.scan(projectPath);
+        long startedAt = System.nanoTime();
+        SamplingPipeline pipeline = new SamplingPipeline(analyzer, options);
+        StratifiedSample sample = pipeline.run(javaFiles);
+        consoleReporter.reportEstimates(sample.sampledFiles(), javaFiles.size(), sample.strata(), options.seed(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), sample.total(), sample.perRule());
+        consoleReporter.reportSkipped(analyzer.skippedFiles());
         System.out.println("[INFO] Scan finished.");
+        return pipeline.failures() > 0 ? EXIT_VIOLATIONS : 0;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,110 @@
+package clean.code.core;
+
+import clean.code.report.Violation;
+import clean.code.rules.NodeRule;
+import clean.code.rules.Rule;
+import clean.code.rules.RuleDispatcher;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * 규칙을 여러 묶음으로 나누어 같은 파싱 결과(읽기 전용)에 동시에 적용하는 검사기
+ * <p>
+ * 아주 큰 파일 하나가 워커 하나를 오래 점유하지 않도록, 규칙 묶음마다 별도의 fork-join 작업으로 실행하고 결과는 규칙 등록 순서대로
+ * 병합합니다.
+ */
+class ConcurrentRuleChecker {
+    private final int ruleCount;
+    private final List<RuleGroup> groups;
+
+    ConcurrentRuleChecker(List<Rule> rules, int parallelism) {
+        this.ruleCount = rules.size();
+        this.groups = partition(rules, Math.max(1, Math.min(parallelism, rules.size())));
+    }
+
+    /**
+     * 규칙 등록 순서대로 규칙별 위반 사항을 반환합니다. 공용 풀이 아닌 fork-join 풀의 작업 안에서 호출되면 그 풀에서 나누어 실행하고,
+     * 그 밖에서 호출되면 규칙 묶음 수(분석 스레드 수 이하) 크기의 풀을 만들어 실행한 뒤 종료합니다.
+     */
+    List<List<Violation>> check(Path javaFile, ParsedSource parsed) {
+        List<ForkJoinTask<List<List<Violation>>>> tasks = groups.stream()
+                .map(group -> ForkJoinTask.adapt(() -> group.check(javaFile, parsed)))
+                .toList();
+        if (ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool() != ForkJoinPool.commonPool()) {
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(groups.size());
+            try {
+                pool.invoke(ForkJoinTask.adapt(() -> {
+                    ForkJoinTask.invokeAll(tasks);
+                }));
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        List<List<Violation>> violationsPerRule = new ArrayList<>(ruleCount);
+        for (int i = 0; i < ruleCount; i++) {
+            violationsPerRule.add(List.of());
+        }
+        for (int g = 0; g < groups.size(); g++) {
+            int[] ruleIndices = groups.get(g).ruleIndices;
+            List<List<Violation>> groupResult = tasks.get(g).join();
+            for (int i = 0; i < ruleIndices.length; i++) {
+                violationsPerRule.set(ruleIndices[i], groupResult.get(i));
+            }
+        }
+        return violationsPerRule;
+    }
+
+    /**
+     * 규칙을 라운드 로빈으로 묶음에 배분합니다.
+     */
+    private static List<RuleGroup> partition(List<Rule> rules, int groupCount) {
+        List<RuleGroup> groups = new ArrayList<>(groupCount);
+        for (int g = 0; g < groupCount; g++) {
+            List<Rule> members = new ArrayList<>();
+            List<Integer> indices = new ArrayList<>();
+            for (int i = g; i < rules.size(); i += groupCount) {
+                members.add(rules.get(i));
+                indices.add(i);
+            }
+            groups.add(new RuleGroup(members, indices.stream().mapToInt(Integer::intValue).toArray()));
+        }
+        return groups;
+    }
+
+    private static final class RuleGroup {
+        private final List<Rule> rules;
+        private final int[] ruleIndices;
+        private final RuleDispatcher dispatcher;
+
+        private RuleGroup(List<Rule> rules, int[] ruleIndices) {
+            this.rules = rules;
+            this.ruleIndices = ruleIndices;
+            this.dispatcher = new RuleDispatcher(rules.stream()
+                    .filter(NodeRule.class::isInstance)
+                    .map(NodeRule.class::cast)
+                    .toList());
+        }
+
+        /**
+         * 묶음 내 규칙 순서대로 규칙별 위반 사항을 반환합니다.
+         */
+        List<List<Violation>> check(Path javaFile, ParsedSource parsed) {
+            Iterator<List<Violation>> dispatched = parsed.skeleton()
+                    .map(skeleton -> dispatcher.dispatch(javaFile, skeleton))
+                    .orElseGet(List::of)
+                    .iterator();
+            List<List<Violation>> result = new ArrayList<>(rules.size());
+            for (Rule rule : rules) {
+                result.add(rule instanceof NodeRule ? dispatched.next() : parsed.check(rule, javaFile));
+            }
+            return result;
+        }
+    }
+}
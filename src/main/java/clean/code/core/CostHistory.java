@@ -0,0 +1,176 @@
+package clean.code.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 파일별 분석 시간(파싱 + 규칙 검사)의 측정 기록
+ * <p>
+ * 규칙 설정이 바뀌면 분석 비용도 바뀌므로 {@link AnalysisCache}와 같은 지문 디렉토리의 {@code costs.bin}에 경로별 (크기, 시간)을
+ * 저장합니다. 기록이 없는 파일의 비용은 크기에 기록 전체의 바이트당 평균 시간을 곱해 추정하고, 기록도 없으면 기본값을 사용합니다.
+ */
+public class CostHistory {
+    private static final int HISTORY_MAGIC = 0x43435431;
+    private static final String HISTORY_FILE = "costs.bin";
+    private static final double DEFAULT_NANOS_PER_BYTE = 1_000;
+
+    private final Path historyFile;
+    private final FileStats fileStats;
+    private final Map<String, Cost> costs = new ConcurrentHashMap<>();
+    private final double nanosPerByte;
+
+    private CostHistory(Path historyFile, FileStats fileStats) {
+        this.historyFile = historyFile;
+        this.fileStats = fileStats;
+        if (historyFile != null) {
+            load();
+        }
+        this.nanosPerByte = averageNanosPerByte();
+    }
+
+    /**
+     * 디스크에 저장하지 않는 기록. 파일 크기로만 비용을 추정합니다.
+     */
+    public static CostHistory inMemory() {
+        return inMemory(new FileStats());
+    }
+
+    /**
+     * @param fileStats 스캔할 때 읽은 파일 크기
+     */
+    public static CostHistory inMemory(FileStats fileStats) {
+        return new CostHistory(null, fileStats);
+    }
+
+    /**
+     * @param cacheDir    캐시 루트 디렉토리
+     * @param fingerprint 규칙 설정과 검사기 버전의 지문 ({@link AnalysisCache#fingerprint(String, String)})
+     */
+    public static CostHistory open(Path cacheDir, String fingerprint) {
+        return open(cacheDir, fingerprint, new FileStats());
+    }
+
+    /**
+     * @param cacheDir    캐시 루트 디렉토리
+     * @param fingerprint 규칙 설정과 검사기 버전의 지문 ({@link AnalysisCache#fingerprint(String, String)})
+     * @param fileStats   스캔할 때 읽은 파일 크기
+     */
+    public static CostHistory open(Path cacheDir, String fingerprint, FileStats fileStats) {
+        try {
+            Path directory = cacheDir.resolve(fingerprint);
+            Files.createDirectories(directory);
+            return new CostHistory(directory.resolve(HISTORY_FILE), fileStats);
+        } catch (IOException e) {
+            System.err.println("[ERROR] Failed to open cost history: " + cacheDir);
+            return inMemory(fileStats);
+        }
+    }
+
+    /**
+     * 파일 하나를 분석하는 데 걸릴 시간(ns)을 추정합니다. 기록이 있으면 기록된 시간을 크기 변화에 비례해 조정합니다.
+     */
+    long estimate(Path javaFile) {
+        long size = sizeOf(javaFile);
+        Cost cost = costs.get(keyOf(javaFile));
+        if (cost == null || cost.size() <= 0) {
+            return (long) (size * nanosPerByte);
+        }
+        return (long) (cost.nanos() * ((double) size / cost.size()));
+    }
+
+    void record(Path javaFile, long size, long nanos) {
+        costs.put(keyOf(javaFile), new Cost(size, nanos));
+    }
+
+    /**
+     * 기록을 디스크에 씁니다. 형식: magic, 항목 수, (경로 길이, 경로, 크기, 시간) 반복
+     */
+    public void flush() {
+        if (historyFile == null) {
+            return;
+        }
+        List<Map.Entry<String, Cost>> snapshot = new ArrayList<>(costs.entrySet());
+        List<byte[]> paths = snapshot.stream()
+                .map(entry -> entry.getKey().getBytes(StandardCharsets.UTF_8))
+                .toList();
+        int capacity = Integer.BYTES * 2;
+        for (byte[] path : paths) {
+            capacity += Integer.BYTES + path.length + Long.BYTES * 2;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(capacity);
+        buffer.putInt(HISTORY_MAGIC).putInt(snapshot.size());
+        for (int i = 0; i < snapshot.size(); i++) {
+            Cost cost = snapshot.get(i).getValue();
+            buffer.putInt(paths.get(i).length).put(paths.get(i));
+            buffer.putLong(cost.size()).putLong(cost.nanos());
+        }
+        buffer.flip();
+        try {
+            Path temp = Files.createTempFile(historyFile.getParent(), HISTORY_FILE, ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(temp, historyFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("[ERROR] Failed to write cost history: " + historyFile);
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(historyFile)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(historyFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < Integer.BYTES * 2 || buffer.getInt() != HISTORY_MAGIC) {
+                return;
+            }
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                byte[] path = new byte[buffer.getInt()];
+                buffer.get(path);
+                costs.put(new String(path, StandardCharsets.UTF_8), new Cost(buffer.getLong(), buffer.getLong()));
+            }
+        } catch (IOException | RuntimeException e) {
+            costs.clear();
+            System.err.println("[ERROR] Ignoring corrupted cost history: " + historyFile);
+        }
+    }
+
+    private double averageNanosPerByte() {
+        long totalBytes = 0;
+        long totalNanos = 0;
+        for (Cost cost : costs.values()) {
+            totalBytes += cost.size();
+            totalNanos += cost.nanos();
+        }
+        return totalBytes > 0 ? (double) totalNanos / totalBytes : DEFAULT_NANOS_PER_BYTE;
+    }
+
+    /**
+     * 스캔할 때 읽은 파일 크기. 스캔하지 않은 파일은 지금 조회하고, 조회하지 못하면 0입니다.
+     */
+    long sizeOf(Path javaFile) {
+        return fileStats.sizeOf(javaFile);
+    }
+
+    private static String keyOf(Path javaFile) {
+        return SourceTree.keyOf(javaFile);
+    }
+
+    private record Cost(long size, long nanos) {
+    }
+}
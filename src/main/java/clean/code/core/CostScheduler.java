@@ -0,0 +1,61 @@
+package clean.code.core;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * 예상 비용이 큰 파일부터 처리하도록 작업 순서를 정합니다. (LPT: Longest Processing Time first)
+ * <p>
+ * 큰 파일이 마지막에 시작되면 다른 스레드가 모두 쉬는 동안 그 파일 하나가 전체 실행 시간을 결정합니다. 큰 작업을 먼저 나눠 주고 작은
+ * 작업으로 빈 시간을 채우면 스레드들이 거의 같은 시각에 끝납니다.
+ */
+final class CostScheduler {
+
+    private CostScheduler() {
+    }
+
+    /**
+     * @param estimator 파일 하나의 예상 분석 시간(ns)
+     * @return 입력 목록의 인덱스를 예상 비용이 큰 순서로 나열한 순서와, 그 순서로 스레드에 배분했을 때의 예상 실행 시간
+     */
+    static Schedule plan(List<Path> javaFiles, ToLongFunction<Path> estimator, int threads) {
+        long[] costs = new long[javaFiles.size()];
+        for (int i = 0; i < costs.length; i++) {
+            costs[i] = estimator.applyAsLong(javaFiles.get(i));
+        }
+        int[] order = IntStream.range(0, costs.length)
+                .boxed()
+                .sorted(Comparator.comparingLong((Integer i) -> costs[i]).reversed())
+                .mapToInt(Integer::intValue)
+                .toArray();
+        return new Schedule(order, makespan(order, costs, threads));
+    }
+
+    /**
+     * 순서대로 가장 먼저 비는 스레드에 작업을 배분했을 때 마지막 스레드가 끝나는 시각(ns)
+     */
+    private static long makespan(int[] order, long[] costs, int threads) {
+        PriorityQueue<Long> finishTimes = new PriorityQueue<>();
+        for (int i = 0; i < Math.max(1, threads); i++) {
+            finishTimes.add(0L);
+        }
+        long makespan = 0;
+        for (int index : order) {
+            long finishedAt = finishTimes.poll() + costs[index];
+            finishTimes.add(finishedAt);
+            makespan = Math.max(makespan, finishedAt);
+        }
+        return makespan;
+    }
+
+    /**
+     * @param order                  입력 목록의 인덱스를 처리할 순서
+     * @param predictedMakespanNanos 예상 실행 시간(ns)
+     */
+    record Schedule(int[] order, long predictedMakespanNanos) {
+    }
+}
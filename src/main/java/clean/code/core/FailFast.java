@@ -0,0 +1,28 @@
+package clean.code.core;
+
+import clean.code.report.Violation;
+import clean.code.rules.Severity;
+
+/**
+ * 위반 사항이 일정 수에 이르면 남은 분석을 멈추는 fail-fast 설정. 종료 코드를 정할 때도 같은 기준 중요도를 사용합니다.
+ *
+ * @param maxViolations 분석을 멈출 위반 사항 수 (0 이하이면 끝까지 분석)
+ * @param threshold     셀 위반 사항의 최소 중요도
+ */
+public record FailFast(int maxViolations, Severity threshold) {
+
+    public static FailFast disabled() {
+        return new FailFast(0, Severity.MEDIUM);
+    }
+
+    boolean isEnabled() {
+        return maxViolations > 0;
+    }
+
+    /**
+     * 위반 사항이 기준 중요도 이상인지 여부
+     */
+    public boolean counts(Violation violation) {
+        return violation.severity().isAtLeast(threshold);
+    }
+}
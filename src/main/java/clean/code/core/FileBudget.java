@@ -0,0 +1,31 @@
+package clean.code.core;
+
+/**
+ * 파일 하나를 분석하는 데 허용하는 한도. 한도를 넘은 파일은 분석을 중단하고 건너뜁니다. 0 이하인 한도는 사용하지 않습니다.
+ *
+ * @param maxBytes       파일의 최대 바이트 수. 넘으면 읽지 않습니다.
+ * @param maxParseMillis 파싱(골격, 토큰 생성 포함)에 허용하는 최대 시간(ms)
+ * @param maxRuleMillis  모든 규칙을 검사하는 데 허용하는 최대 시간(ms)
+ */
+public record FileBudget(long maxBytes, long maxParseMillis, long maxRuleMillis) {
+
+    private static final long DEFAULT_MAX_BYTES = 8L * 1024 * 1024;
+    private static final long DEFAULT_MAX_PARSE_MILLIS = 10_000;
+    private static final long DEFAULT_MAX_RULE_MILLIS = 10_000;
+
+    public static FileBudget defaults() {
+        return new FileBudget(DEFAULT_MAX_BYTES, DEFAULT_MAX_PARSE_MILLIS, DEFAULT_MAX_RULE_MILLIS);
+    }
+
+    public static FileBudget unlimited() {
+        return new FileBudget(0, 0, 0);
+    }
+
+    boolean exceedsBytes(long bytes) {
+        return maxBytes > 0 && bytes > maxBytes;
+    }
+
+    boolean limitsTime() {
+        return maxParseMillis > 0 || maxRuleMillis > 0;
+    }
+}
@@ -0,0 +1,80 @@
+package clean.code.core;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스캔할 때 읽은 파일 속성(크기, 수정 시각)과 소스 묶음
+ * <p>
+ * 디렉토리를 탐색하면서 이미 읽은 속성을 경로별로 기록해 두어, 작업 순서, 캐시 확인, 읽기 예산처럼 뒤 단계에서 같은 파일의 속성을
+ * 다시 조회하지 않게 합니다. 기록이 없는 파일(스캔하지 않은 파일)은 그때 조회합니다. 한 번의 실행 동안만 사용하므로, 스캔한 뒤에 바뀐
+ * 파일은 다음 실행에서 반영됩니다. 빌드 파일에서 찾은 소스 디렉토리를 스캔하면 파일마다 그 디렉토리의 소스 묶음(main/test)도
+ * 기록합니다.
+ */
+public final class FileStats {
+    private final Map<Path, ScannedFile> scanned = new ConcurrentHashMap<>();
+    private final Map<Path, SourceSet> sourceSets = new ConcurrentHashMap<>();
+
+    void record(ScannedFile file) {
+        scanned.put(file.path(), file);
+    }
+
+    /**
+     * @param sourceSet 파일을 찾은 소스 디렉토리의 소스 묶음. 없으면 기록하지 않습니다.
+     */
+    void record(ScannedFile file, SourceSet sourceSet) {
+        record(file);
+        if (sourceSet != null) {
+            sourceSets.put(file.path(), sourceSet);
+        }
+    }
+
+    /**
+     * @return 스캔할 때 기록한 소스 묶음. 기록이 없으면 디렉토리 관례로 판단한 소스 묶음
+     */
+    public SourceSet sourceSetOf(Path javaFile) {
+        SourceSet sourceSet = sourceSets.get(javaFile);
+        return sourceSet != null ? sourceSet : SourceSet.byConvention(javaFile);
+    }
+
+    /**
+     * 경로별 규칙 설정에서 사용할, 소스 묶음 이름({@link SourceSet#id()})별로 파일이 그 묶음에 속하는지 판단하는 조건
+     */
+    public Map<String, PathMatcher> sourceSetMatchers() {
+        Map<String, PathMatcher> matchers = new LinkedHashMap<>();
+        for (SourceSet sourceSet : SourceSet.values()) {
+            matchers.put(sourceSet.id(), javaFile -> sourceSetOf(javaFile) == sourceSet);
+        }
+        return matchers;
+    }
+
+    /**
+     * @return 스캔할 때 기록한 속성. 기록이 없으면 지금 조회한 속성, 조회하지 못하면 빈 값
+     */
+    Optional<ScannedFile> of(Path javaFile) {
+        ScannedFile file = scanned.get(javaFile);
+        if (file != null) {
+            return Optional.of(file);
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(javaFile, BasicFileAttributes.class);
+            return Optional.of(ScannedFile.of(javaFile, attributes));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return 파일 크기. 조회하지 못하면 0
+     */
+    long sizeOf(Path javaFile) {
+        return of(javaFile).map(ScannedFile::size).orElse(0L);
+    }
+}
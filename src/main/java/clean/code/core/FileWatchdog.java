@@ -0,0 +1,135 @@
+package clean.code.core;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 파일 하나의 파싱과 규칙 검사를 {@link FileBudget}의 시간 한도 안에서 실행합니다.
+ * <p>
+ * 작업은 가상 스레드에서 실행하고, 호출한 스레드는 현재 단계(파싱 또는 규칙 검사)의 한도까지만 기다립니다. 한도를 넘으면 작업 스레드를
+ * 인터럽트하고 결과를 버리므로, 인터럽트를 확인하지 않는 JavaParser 파싱 중에 멈춘 파일도 실행 전체를 막지 못합니다. 버려진 작업은 다음
+ * {@link #checkInterrupted()} 지점에서 멈춥니다. 시간 한도가 없으면 호출한 스레드에서 바로 실행합니다.
+ */
+final class FileWatchdog {
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final FileBudget budget;
+
+    FileWatchdog(FileBudget budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * 작업을 실행하고 결과를 반환합니다. 작업에서 발생한 예외는 그대로 전달합니다.
+     *
+     * @throws BudgetExceededException 현재 단계의 시간 한도를 넘은 경우
+     */
+    <T> T run(Task<T> task) throws BudgetExceededException {
+        if (!budget.limitsTime()) {
+            return task.run(new Progress());
+        }
+        Progress progress = new Progress();
+        FutureTask<T> future = new FutureTask<>(() -> task.run(progress));
+        Thread.ofVirtual().name("file-watchdog").start(future);
+        try {
+            return await(future, progress);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for file analysis");
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    /**
+     * 작업 중인 스레드가 버려졌으면(인터럽트되었으면) 작업을 멈춥니다.
+     */
+    static void checkInterrupted() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("File analysis exceeded its budget");
+        }
+    }
+
+    /**
+     * 단계가 바뀌면 새 단계의 한도로 다시 기다립니다. 한도가 없는 단계는 단계가 바뀌는지 주기적으로 확인합니다.
+     */
+    private <T> T await(FutureTask<T> future, Progress progress)
+            throws InterruptedException, ExecutionException, BudgetExceededException {
+        while (true) {
+            Stage stage = progress.stage;
+            long limitNanos = TimeUnit.MILLISECONDS.toNanos(stage.phase().limitMillis(budget));
+            long waitNanos = limitNanos > 0 ? stage.startedAt() + limitNanos - System.nanoTime() : POLL_NANOS;
+            try {
+                return future.get(Math.max(0, waitNanos), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (limitNanos > 0 && stage == progress.stage) {
+                    future.cancel(true);
+                    throw new BudgetExceededException(stage.phase().describe(budget));
+                }
+            }
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    @FunctionalInterface
+    interface Task<T> {
+        T run(Progress progress);
+    }
+
+    /**
+     * 작업이 지금 어느 단계에 있는지 감시하는 스레드에 알립니다.
+     */
+    static final class Progress {
+        private volatile Stage stage = new Stage(Phase.PARSE, System.nanoTime());
+
+        void rulesStarted() {
+            stage = new Stage(Phase.RULES, System.nanoTime());
+        }
+    }
+
+    private record Stage(Phase phase, long startedAt) {
+    }
+
+    private enum Phase {
+        PARSE("parse time"),
+        RULES("rule time");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        long limitMillis(FileBudget budget) {
+            return this == PARSE ? budget.maxParseMillis() : budget.maxRuleMillis();
+        }
+
+        String describe(FileBudget budget) {
+            return label + " > " + limitMillis(budget) + " ms";
+        }
+    }
+
+    /**
+     * 파일 분석이 한도를 넘었음을 알립니다. 메시지는 넘은 한도입니다.
+     */
+    static final class BudgetExceededException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        BudgetExceededException(String reason) {
+            super(reason);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package clean.code.core;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 파싱하지 않고 건너뛸 생성 코드의 기준
+ * <p>
+ * 생성 코드는 규칙을 적용해도 고칠 수 없는 위반 사항만 나오므로, 파싱하기 전에 값싸게 걸러냅니다. 생성 코드 출력 디렉토리는 스캔할 때
+ * 하위 디렉토리째 건너뛰고, 나머지 파일은 앞부분 {@link #HEAD_BYTES}바이트만 읽어 표식이 있으면 나머지를 읽지 않습니다.
+ *
+ * @param skip        생성 코드를 건너뛸지 여부
+ * @param markers     파일 앞부분에 있으면 생성 코드로 보는 문자열
+ * @param directories 이름이 같으면 하위 파일을 모두 생성 코드로 보는 디렉토리
+ */
+public record GeneratedCode(boolean skip, List<String> markers, List<String> directories) {
+
+    /**
+     * 표식을 찾는 파일 앞부분의 크기. 라이선스 주석과 import 뒤의 클래스 애너테이션까지 들어오는 크기입니다.
+     */
+    public static final int HEAD_BYTES = 4096;
+
+    private static final List<String> DEFAULT_MARKERS = List.of(
+            "@Generated",
+            "@javax.annotation.Generated",
+            "@javax.annotation.processing.Generated",
+            "@jakarta.annotation.Generated",
+            "DO NOT EDIT",
+            "Generated by the protocol buffer compiler");
+    private static final List<String> DEFAULT_DIRECTORIES = List.of(
+            "generated",
+            "generated-sources",
+            "generated-test-sources",
+            "generated-src");
+
+    public static GeneratedCode defaults() {
+        return new GeneratedCode(true, DEFAULT_MARKERS, DEFAULT_DIRECTORIES);
+    }
+
+    public static GeneratedCode disabled() {
+        return new GeneratedCode(false, List.of(), List.of());
+    }
+
+    /**
+     * 기본 기준에 표식과 디렉토리를 더합니다.
+     */
+    public GeneratedCode withAdditional(List<String> moreMarkers, List<String> moreDirectories) {
+        List<String> allMarkers = new ArrayList<>(markers);
+        List<String> allDirectories = new ArrayList<>(directories);
+        if (moreMarkers != null) {
+            allMarkers.addAll(moreMarkers);
+        }
+        if (moreDirectories != null) {
+            allDirectories.addAll(moreDirectories);
+        }
+        return new GeneratedCode(skip, List.copyOf(allMarkers), List.copyOf(allDirectories));
+    }
+
+    boolean isGeneratedDirectory(Path directory) {
+        Path name = directory.getFileName();
+        return skip && name != null && directories.contains(name.toString());
+    }
+}
@@ -0,0 +1,219 @@
+package clean.code.core;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+
+/**
+ * 힙 사용량에 따라 동시에 파싱하는 파일 수를 조절하는 스로틀
+ * <p>
+ * GC가 끝날 때마다 힙 메모리 풀의 GC 직후 사용량({@link MemoryPoolMXBean#getCollectionUsage()})으로 점유율을 계산합니다. 점유율이
+ * {@link #HIGH_OCCUPANCY} 이상이면 동시에 파싱하는 파일 수의 한도를 절반으로 줄이고, 큰 파일은 다른 파일이 모두 끝날 때까지 미룹니다.
+ * 직전에 줄인 한도가 아직 반영되지 않았으면(파싱 중인 파일 수가 한도보다 많으면) 더 줄이지 않습니다. 점유율이 {@link #LOW_OCCUPANCY}
+ * 아래로 내려가면 큰 파일을 다시 받고, GC마다 한도를 하나씩 늘려 원래 값으로 돌아갑니다. 한도는 1 아래로 내려가지 않으므로 분석은
+ * 항상 진행됩니다.
+ */
+final class HeapPressureThrottle {
+    static final double HIGH_OCCUPANCY = 0.75;
+    static final double LOW_OCCUPANCY = 0.5;
+
+    /**
+     * 파싱 중 AST가 차지하는 힙은 소스 크기의 약 30배입니다. (README의 소스 골격 측정 참고)
+     */
+    private static final long AST_BYTES_PER_SOURCE_BYTE = 30;
+    /**
+     * AST가 최대 힙의 이 비율 이상을 차지할 파일을 큰 파일로 봅니다.
+     */
+    private static final long LARGE_FILE_HEAP_DIVISOR = 20;
+    private static final int MAX_LOGGED_DECISIONS = 20;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final int maxInFlight;
+    private final long largeFileBytes;
+    private final List<String> decisions = new ArrayList<>();
+    private int limit;
+    private int inFlight;
+    private boolean underPressure;
+    private int reductions;
+    private int increases;
+    private int deferredFiles;
+    private double peakOccupancy;
+
+    HeapPressureThrottle(int maxInFlight, long largeFileBytes) {
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.largeFileBytes = largeFileBytes;
+        this.limit = this.maxInFlight;
+    }
+
+    /**
+     * 최대 힙 크기에 맞춰 큰 파일의 기준을 정합니다.
+     */
+    static HeapPressureThrottle forHeap(int maxInFlight) {
+        long largeFileBytes = Runtime.getRuntime().maxMemory() / LARGE_FILE_HEAP_DIVISOR / AST_BYTES_PER_SOURCE_BYTE;
+        return new HeapPressureThrottle(maxInFlight, largeFileBytes);
+    }
+
+    /**
+     * GC 알림을 받기 시작합니다. 반환한 객체를 닫으면 알림을 그만 받고, 한도를 조절한 적이 있으면 요약을 출력합니다.
+     */
+    Monitoring monitor() {
+        NotificationListener listener = (notification, handback) -> {
+            if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                onHeapOccupancy(heapOccupancyAfterGc());
+            }
+        };
+        List<NotificationEmitter> emitters = new ArrayList<>();
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (collector instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(listener, null, null);
+                emitters.add(emitter);
+            }
+        }
+        return () -> {
+            for (NotificationEmitter emitter : emitters) {
+                try {
+                    emitter.removeNotificationListener(listener);
+                } catch (ListenerNotFoundException e) {
+                    // 이미 제거됨
+                }
+            }
+            summary().forEach(System.out::println);
+        };
+    }
+
+    /**
+     * 파일 하나를 파싱해도 될 때까지 대기합니다. 끝나면 {@link #release()}를 호출해야 합니다.
+     *
+     * @param size 파일 크기(바이트)
+     */
+    void acquire(long size) {
+        lock.lock();
+        try {
+            boolean deferred = false;
+            while (inFlight >= limit || isDeferred(size)) {
+                if (!deferred && isDeferred(size)) {
+                    deferred = true;
+                    deferredFiles++;
+                }
+                released.await();
+            }
+            inFlight++;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for heap to recover");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * GC 직후 힙 점유율(0~1)로 한도를 조절합니다.
+     */
+    void onHeapOccupancy(double occupancy) {
+        lock.lock();
+        try {
+            peakOccupancy = Math.max(peakOccupancy, occupancy);
+            if (occupancy >= HIGH_OCCUPANCY && inFlight <= limit) {
+                int reduced = Math.max(1, limit / 2);
+                if (reduced < limit || !underPressure) {
+                    reductions++;
+                    log(occupancy, reduced, "deferring large files");
+                }
+                limit = reduced;
+                underPressure = true;
+            } else if (occupancy < LOW_OCCUPANCY && (underPressure || limit < maxInFlight)) {
+                int raised = Math.min(maxInFlight, limit + 1);
+                increases++;
+                log(occupancy, raised, underPressure ? "accepting large files" : null);
+                limit = raised;
+                underPressure = false;
+                released.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int limit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 한도를 조절한 기록. 조절한 적이 없으면 비어 있습니다.
+     */
+    List<String> summary() {
+        lock.lock();
+        try {
+            if (reductions == 0 && increases == 0) {
+                return List.of();
+            }
+            List<String> lines = new ArrayList<>();
+            lines.add(String.format("[INFO] Heap throttle: %d reductions, %d increases, %d large files deferred"
+                                    + " (peak heap %d%% after GC)", reductions, increases, deferredFiles,
+                    Math.round(peakOccupancy * 100)));
+            decisions.forEach(decision -> lines.add("   - " + decision));
+            return lines;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isDeferred(long size) {
+        return underPressure && size >= largeFileBytes && inFlight > 0;
+    }
+
+    private void log(double occupancy, int newLimit, String note) {
+        if (decisions.size() == MAX_LOGGED_DECISIONS) {
+            return;
+        }
+        decisions.add(String.format("heap %d%% after GC: in-flight limit %d -> %d%s", Math.round(occupancy * 100),
+                limit, newLimit, note == null ? "" : ", " + note));
+    }
+
+    private static double heapOccupancyAfterGc() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage usage = pool.getType() == MemoryType.HEAP ? pool.getCollectionUsage() : null;
+            if (usage != null) {
+                used += usage.getUsed();
+            }
+        }
+        return (double) used / Runtime.getRuntime().maxMemory();
+    }
+
+    /**
+     * GC 알림 수신. 닫으면 수신을 멈추고 요약을 출력합니다.
+     */
+    @FunctionalInterface
+    interface Monitoring extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
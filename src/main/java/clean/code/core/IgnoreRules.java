@@ -0,0 +1,189 @@
+package clean.code.core;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 한 디렉토리의 {@code .gitignore} 규칙과 상위 디렉토리들의 규칙
+ * <p>
+ * 패턴은 git과 같이 해석합니다. {@code /}가 중간이나 앞에 있으면 규칙 파일이 있는 디렉토리 기준 경로에, 없으면 어느 깊이의 이름에든
+ * 맞추고, {@code /}로 끝나면 디렉토리에만 맞춥니다. {@code !}로 시작하면 앞의 규칙이 제외한 경로를 다시 포함합니다. 한 파일 안에서는
+ * 뒤에 적힌 규칙이, 여러 파일 사이에서는 더 깊은 디렉토리의 규칙이 우선합니다.
+ */
+final class IgnoreRules {
+    static final String FILE_NAME = ".gitignore";
+
+    private static final IgnoreRules NONE = new IgnoreRules(null, List.of(), null);
+
+    private final Path base;
+    private final List<Rule> rules;
+    private final IgnoreRules parent;
+
+    private IgnoreRules(Path base, List<Rule> rules, IgnoreRules parent) {
+        this.base = base;
+        this.rules = rules;
+        this.parent = parent;
+    }
+
+    static IgnoreRules none() {
+        return NONE;
+    }
+
+    /**
+     * @param base  패턴의 기준 디렉토리 (절대 경로)
+     * @param lines {@code .gitignore} 형식의 패턴
+     */
+    static IgnoreRules of(Path base, List<String> lines) {
+        return NONE.with(base, lines);
+    }
+
+    /**
+     * 검사를 시작할 루트 디렉토리와 git 저장소 최상위까지의 상위 디렉토리에 있는 {@code .gitignore}를 읽습니다. 루트의 하위
+     * 디렉토리는 탐색하면서 {@link #enter(Path)}로 읽습니다. git 저장소 안이 아니면 루트의 파일만 읽습니다.
+     *
+     * @param root 검사를 시작할 루트 디렉토리 (절대 경로)
+     */
+    static IgnoreRules forRoot(Path root) {
+        List<Path> directories = new ArrayList<>();
+        for (Path directory = root; directory != null; directory = directory.getParent()) {
+            directories.addFirst(directory);
+            if (Files.exists(directory.resolve(".git"))) {
+                IgnoreRules rules = NONE;
+                for (Path ancestor : directories) {
+                    rules = rules.enter(ancestor);
+                }
+                return rules;
+            }
+        }
+        return NONE.enter(root);
+    }
+
+    /**
+     * 디렉토리에 들어갈 때 그 디렉토리의 {@code .gitignore}를 더한 규칙. 파일이 없으면 이 규칙을 그대로 반환합니다.
+     */
+    IgnoreRules enter(Path directory) {
+        Path file = directory.resolve(FILE_NAME);
+        if (!Files.isRegularFile(file)) {
+            return this;
+        }
+        try {
+            return with(directory, Files.readAllLines(file, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("[WARN] Failed to read " + file);
+            return this;
+        }
+    }
+
+    /**
+     * @param path      절대 경로
+     * @param directory {@code path}가 디렉토리인지 여부
+     * @return 맞는 규칙이 있으면 제외 여부, 없으면 {@code null}
+     */
+    Boolean isIgnored(Path path, boolean directory) {
+        for (IgnoreRules level = this; level != NONE; level = level.parent) {
+            if (!path.startsWith(level.base)) {
+                continue;
+            }
+            String relative = level.base.relativize(path).toString().replace('\\', '/');
+            for (int i = level.rules.size() - 1; i >= 0; i--) {
+                Rule rule = level.rules.get(i);
+                if ((directory || !rule.directoryOnly()) && rule.pattern().matcher(relative).matches()) {
+                    return !rule.negated();
+                }
+            }
+        }
+        return null;
+    }
+
+    private IgnoreRules with(Path directory, List<String> lines) {
+        List<Rule> parsed = new ArrayList<>();
+        for (String line : lines) {
+            Rule rule = Rule.parse(line);
+            if (rule != null) {
+                parsed.add(rule);
+            }
+        }
+        return parsed.isEmpty() ? this : new IgnoreRules(directory, List.copyOf(parsed), this);
+    }
+
+    private record Rule(Pattern pattern, boolean negated, boolean directoryOnly) {
+
+        static Rule parse(String line) {
+            String pattern = stripTrailingSpaces(line);
+            if (pattern.isEmpty() || pattern.startsWith("#")) {
+                return null;
+            }
+            boolean negated = pattern.startsWith("!");
+            if (negated) {
+                pattern = pattern.substring(1);
+            } else if (pattern.startsWith("\\#") || pattern.startsWith("\\!")) {
+                pattern = pattern.substring(1);
+            }
+            boolean directoryOnly = pattern.endsWith("/");
+            if (directoryOnly) {
+                pattern = pattern.substring(0, pattern.length() - 1);
+            }
+            boolean anchored = pattern.contains("/");
+            if (pattern.startsWith("/")) {
+                pattern = pattern.substring(1);
+            }
+            if (pattern.isEmpty()) {
+                return null;
+            }
+            String regex = toRegex(pattern);
+            return new Rule(Pattern.compile(anchored ? regex : "(?:.*/)?" + regex), negated, directoryOnly);
+        }
+
+        private static String stripTrailingSpaces(String line) {
+            int end = line.length();
+            while (end > 0 && line.charAt(end - 1) == ' ' && (end < 2 || line.charAt(end - 2) != '\\')) {
+                end--;
+            }
+            return line.substring(0, end);
+        }
+
+        /**
+         * {@code **}는 여러 디렉토리에, {@code *}와 {@code ?}는 {@code /}를 제외한 문자에 맞춥니다.
+         */
+        private static String toRegex(String glob) {
+            StringBuilder regex = new StringBuilder();
+            int i = 0;
+            while (i < glob.length()) {
+                char c = glob.charAt(i);
+                if (glob.startsWith("**/", i) && (i == 0 || glob.charAt(i - 1) == '/')) {
+                    regex.append("(?:.*/)?");
+                    i += 3;
+                } else if (glob.startsWith("**", i) && i + 2 == glob.length() && (i == 0 || glob.charAt(i - 1) == '/')) {
+                    regex.append(".*");
+                    i += 2;
+                } else if (c == '*') {
+                    regex.append("[^/]*");
+                    i++;
+                } else if (c == '?') {
+                    regex.append("[^/]");
+                    i++;
+                } else if (c == '[' && glob.indexOf(']', i + 2) > 0) {
+                    int close = glob.indexOf(']', i + 2);
+                    String set = glob.substring(i + 1, close);
+                    if (set.startsWith("!")) {
+                        set = "^" + set.substring(1);
+                    }
+                    regex.append('[').append(set.replace("\\", "\\\\").replace("[", "\\[")).append(']');
+                    i = close + 1;
+                } else if (c == '\\' && i + 1 < glob.length()) {
+                    regex.append(Pattern.quote(String.valueOf(glob.charAt(i + 1))));
+                    i += 2;
+                } else {
+                    regex.append(Pattern.quote(String.valueOf(c)));
+                    i++;
+                }
+            }
+            return regex.toString();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package clean.code.core;
+
+import clean.code.report.Violation;
+import clean.code.rules.NodeRule;
+import clean.code.rules.RuleDispatcher;
+import clean.code.rules.RuleDispatcher.MemberResult;
+import clean.code.rules.SourceSkeleton;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 한 파일의 메서드/생성자(멤버)별 {@link NodeRule#isMemberScoped()} 규칙 결과를 소스 지문으로 저장하고 재사용합니다.
+ * <p>
+ * 이전 버전 파일에 같은 지문의 멤버가 있으면 그 결과의 라인만 옮겨 사용하므로, 파일에서 수정한 멤버만 다시 검사합니다. 결과는 멤버 시작
+ * 라인 기준 상대 라인으로 저장합니다.
+ * <p>
+ * 조상이 모두 타입 선언인 멤버({@link SourceSkeleton#isTypeMember(int)})만 저장합니다. 익명 클래스나 필드 초기화 식 안의 메서드는
+ * 바깥 문맥(예: static final 필드)의 영향을 받으므로 매번 검사합니다.
+ */
+class MemberResultCache implements RuleDispatcher.MemberResults {
+    private static final long HASH_SEED_HIGH = 0xcbf29ce484222325L;
+    private static final long HASH_SEED_LOW = 0x9e3779b97f4a7c15L;
+    private static final long HASH_MULTIPLIER_HIGH = 0x100000001b3L;
+    private static final long HASH_MULTIPLIER_LOW = 0xc2b2ae3d27d4eb4fL;
+
+    private final Path javaFile;
+    private final String source;
+    private final List<Integer> lineStarts = new ArrayList<>();
+    private final Map<String, MemberResult> previous;
+    private final Map<String, MemberResult> recorded = new HashMap<>();
+    private String pendingFingerprint;
+
+    /**
+     * @param previous 이전 버전 파일의 멤버 지문별 결과
+     */
+    MemberResultCache(Path javaFile, String source, Map<String, MemberResult> previous) {
+        this.javaFile = javaFile;
+        this.source = source;
+        this.previous = previous;
+        indexLines();
+    }
+
+    @Override
+    public Optional<MemberResult> find(SourceSkeleton skeleton, int member) {
+        pendingFingerprint = null;
+        if (!skeleton.isTypeMember(member) || skeleton.beginLine(member) == 0) {
+            return Optional.empty();
+        }
+        String fingerprint = fingerprint(skeleton.beginLine(member), skeleton.beginColumn(member),
+                skeleton.endLine(member));
+        MemberResult relative = previous.get(fingerprint);
+        if (relative == null) {
+            pendingFingerprint = fingerprint;
+            return Optional.empty();
+        }
+        recorded.put(fingerprint, relative);
+        return Optional.of(shift(relative, skeleton.beginLine(member)));
+    }
+
+    @Override
+    public void record(SourceSkeleton skeleton, int member, MemberResult result) {
+        if (pendingFingerprint == null) {
+            return;
+        }
+        recorded.put(pendingFingerprint, shift(result, -skeleton.beginLine(member)));
+        pendingFingerprint = null;
+    }
+
+    /**
+     * 이번 버전 파일의 멤버 지문별 결과
+     */
+    Map<String, MemberResult> recorded() {
+        return recorded;
+    }
+
+    private MemberResult shift(MemberResult result, int lineDelta) {
+        List<List<Violation>> shifted = result.violations().stream()
+                .map(violations -> violations.stream()
+                        .map(v -> new Violation(javaFile, v.line() + lineDelta, v.ruleId(), v.message(), v.severity()))
+                        .toList())
+                .toList();
+        return new MemberResult(shifted, result.traverse());
+    }
+
+    /**
+     * JavaParser와 같이 \r\n, \r, \n을 모두 줄바꿈으로 보고 각 라인의 시작 위치를 기록합니다.
+     */
+    private void indexLines() {
+        lineStarts.add(0);
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '\r' && i + 1 < source.length() && source.charAt(i + 1) == '\n') {
+                i++;
+            }
+            if (c == '\r' || c == '\n') {
+                lineStarts.add(i + 1);
+            }
+        }
+    }
+
+    /**
+     * 멤버가 걸친 라인 전체, 길이, 시작 열로 128비트 지문을 만듭니다. 라인 전체를 쓰므로 같은 라인의 다른 코드가 바뀌어도 다시
+     * 검사합니다. 파일 내용 해시(SHA-256)와 달리 멤버마다 계산하므로, 문자열 복사 없이 두 갈래의 64비트 해시를 함께 계산합니다.
+     */
+    private String fingerprint(int beginLine, int beginColumn, int endLine) {
+        int from = lineStarts.get(Math.min(beginLine - 1, lineStarts.size() - 1));
+        int to = endLine < lineStarts.size() ? lineStarts.get(endLine) : source.length();
+        long high = HASH_SEED_HIGH ^ beginColumn;
+        long low = HASH_SEED_LOW ^ (to - from);
+        for (int i = from; i < to; i++) {
+            char c = source.charAt(i);
+            high = (high ^ c) * HASH_MULTIPLIER_HIGH;
+            low = Long.rotateLeft(low ^ c, 31) * HASH_MULTIPLIER_LOW;
+        }
+        return HexFormat.of().toHexDigits(mix(high)) + HexFormat.of().toHexDigits(mix(low));
+    }
+
+    private static long mix(long hash) {
+        long mixed = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        mixed = (mixed ^ (mixed >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return mixed ^ (mixed >>> 33);
+    }
+}
@@ -0,0 +1,42 @@
+package clean.code.core;
+
+import clean.code.report.Violation;
+import clean.code.rules.NodeRule;
+import clean.code.rules.Rule;
+import clean.code.rules.SourceSkeleton;
+import clean.code.rules.TokenRule;
+import clean.code.rules.TokenStream;
+import com.github.javaparser.ast.CompilationUnit;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 규칙이 검사할 파싱 결과. 필요한 규칙이 없는 쪽은 비어 있습니다.
+ *
+ * @param ast      {@link NodeRule}도 {@link TokenRule}도 아닌 규칙이 있을 때만 유지하는 AST
+ * @param skeleton {@link NodeRule}이 검사하는 소스 골격
+ * @param tokens   {@link TokenRule}이 검사하는 토큰
+ */
+record ParsedSource(Optional<CompilationUnit> ast, Optional<SourceSkeleton> skeleton, Optional<TokenStream> tokens) {
+
+    /**
+     * 파일의 마지막 라인. 골격도 AST도 없으면 0입니다.
+     */
+    int lastLine() {
+        return skeleton.map(SourceSkeleton::lastLine)
+                .or(() -> ast.flatMap(CompilationUnit::getRange).map(range -> range.end.line))
+                .orElse(0);
+    }
+
+    /**
+     * {@link NodeRule}이 아닌 규칙 하나를 검사합니다. {@link NodeRule}은 {@link clean.code.rules.RuleDispatcher}로 함께
+     * 검사합니다.
+     */
+    List<Violation> check(Rule rule, Path javaFile) {
+        if (rule instanceof TokenRule tokenRule) {
+            return tokenRule.check(javaFile, tokens.orElseThrow());
+        }
+        return rule.check(javaFile, ast.orElseThrow());
+    }
+}
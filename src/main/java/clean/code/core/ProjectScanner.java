@@ -1,19 +1,53 @@
 package clean.code.core;
 
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
 
 public class ProjectScanner {
 
-    private static final String JAVA_EXTENSION = ".java";
+    private final GeneratedCode generatedCode;
+    private final ScanExclusions exclusions;
+    private final FileStats fileStats;
+    private final int threads;
+    private final boolean sourceRootsOnly;
+
+    public ProjectScanner() {
+        this(GeneratedCode.disabled(), ScanOptions.none(), new FileStats());
+    }
 
     /**
-     * 지정된 경로와 그 하위 디렉토리에서 모든 .java 파일을 재귀적으로 찾음
+     * @param generatedCode 하위 디렉토리째 건너뛸 생성 코드 출력 디렉토리의 기준
+     * @param options       제외 기준, 탐색 스레드 수, 소스 디렉토리만 탐색할지 여부
+     * @param fileStats     찾은 파일의 크기, 수정 시각, 소스 묶음을 기록해 뒤 단계와 공유할 곳
+     */
+    public ProjectScanner(GeneratedCode generatedCode, ScanOptions options, FileStats fileStats) {
+        this.generatedCode = generatedCode;
+        this.exclusions = options.exclusions();
+        this.fileStats = fileStats;
+        this.threads = Math.max(1, options.threads());
+        this.sourceRootsOnly = options.sourceRootsOnly();
+    }
+
+    /**
+     * 지정된 경로와 그 하위 디렉토리에서 모든 .java 파일을 재귀적으로 찾음. 소스 디렉토리만 탐색하면 모듈 선언 순서대로 소스
+     * 디렉토리 안에서만 찾습니다. 여러 스레드로 탐색하면 경로 순으로 정렬해 실행마다 같은 순서를 반환합니다.
      *
      * @param projectPath 검사를 시작할 루트 디렉토리
      * @return .java 파일 경로 리스트
@@ -23,14 +57,199 @@ public class ProjectScanner {
             return Collections.emptyList();
         }
 
-        try (Stream<Path> walk = Files.walk(projectPath)) {
-            return walk
-                    .filter(Files::isRegularFile)
-                    .filter(path -> path.toString().endsWith(JAVA_EXTENSION))
-                    .collect(Collectors.toList());
+        List<Path> javaFiles = new ArrayList<>();
+        try {
+            walk(projectPath, javaFiles::add);
+            if (threads > 1) {
+                Collections.sort(javaFiles);
+            }
+            return javaFiles;
         } catch (IOException e) {
             System.err.println("[ERROR] Failed to scan project directory: " + projectPath);
             return Collections.emptyList();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 전체 목록을 모으지 않고, .java 파일을 발견하는 즉시 consumer에 전달. 여러 스레드로 탐색해도 consumer는 한 번에 한 스레드에서만
+     * 호출합니다.
+     *
+     * @param projectPath 검사를 시작할 루트 디렉토리
+     * @param consumer    발견한 .java 파일을 받을 대상
+     */
+    public void scan(Path projectPath, Consumer<Path> consumer) {
+        if (!Files.exists(projectPath) || !Files.isDirectory(projectPath)) {
+            return;
+        }
+
+        try {
+            walk(projectPath, consumer);
+        } catch (IOException e) {
+            System.err.println("[ERROR] Failed to scan project directory: " + projectPath);
+        }
+    }
+
+    /**
+     * 모든 .java 파일을 찾아 최근에 바뀐 파일부터 정렬. 순서를 정하려면 전체 목록이 필요하므로 스캔이 끝난 뒤 반환합니다.
+     *
+     * @param projectPath 검사를 시작할 루트 디렉토리
+     * @param order       "최근"을 판단하는 기준
+     * @return 최근에 바뀐 파일이 앞에 오는 .java 파일 경로 리스트
+     */
+    public List<Path> scanRecentFirst(Path projectPath, RecentOrder order) {
+        List<Path> javaFiles = scan(projectPath);
+        if (javaFiles.isEmpty()) {
+            return javaFiles;
+        }
+        return RecentChanges.sort(projectPath, javaFiles, order, fileStats);
+    }
+
+    /**
+     * 들어갈 필요가 없는 디렉토리({@link ScanFilter})는 {@link FileVisitResult#SKIP_SUBTREE}로 하위 디렉토리째 건너뛰고, 건너뛴
+     * 수를 출력합니다. 읽을 수 없는 디렉토리는 경고를 출력하고 계속 탐색합니다. 찾은 파일의 속성과 소스 묶음은 {@link FileStats}에
+     * 기록합니다.
+     */
+    private void walk(Path projectPath, Consumer<Path> consumer) throws IOException {
+        List<SourceRoot> roots = sourceRootsOnly
+                ? SourceRoots.discover(projectPath)
+                : List.of(SourceRoot.whole(projectPath));
+        ScanFilter filter = new ScanFilter(projectPath, roots.stream().map(SourceRoot::directory).toList(),
+                generatedCode, exclusions);
+        for (SourceRoot root : roots) {
+            Consumer<ScannedFile> recorder = file -> {
+                fileStats.record(file, root.sourceSet());
+                consumer.accept(file.path());
+            };
+            if (threads > 1) {
+                walkInParallel(root.directory(), filter, recorder);
+            } else {
+                walkSequentially(root.directory(), filter, recorder);
+            }
+        }
+        filter.printSkippedCounts();
+    }
+
+    private void walkSequentially(Path root, ScanFilter filter, Consumer<ScannedFile> consumer)
+            throws IOException {
+        Deque<IgnoreRules> gitignores = new ArrayDeque<>();
+        Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
+                new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+                        if (!filter.enters(directory, attributes, gitignores.peek())) {
+                            return FileVisitResult.SKIP_SUBTREE;
+                        }
+                        gitignores.push(filter.gitignoreOf(directory, gitignores.peek()));
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                        if (filter.accepts(file, attributes, gitignores.peek())) {
+                            consumer.accept(ScannedFile.of(file, attributes));
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException e) {
+                        if (e instanceof FileSystemLoopException) {
+                            filter.loopDetected();
+                        } else {
+                            System.err.println("[WARN] Failed to read " + file + ": " + e.getMessage());
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult postVisitDirectory(Path directory, IOException e) {
+                        gitignores.pop();
+                        if (e != null) {
+                            System.err.println("[WARN] Failed to read " + directory + ": " + e.getMessage());
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+    }
+
+    /**
+     * 하위 디렉토리마다 {@link DirectoryTask}를 만들어 fork-join으로 동시에 탐색합니다. consumer는 한 번에 한 스레드에서만
+     * 호출합니다.
+     */
+    private void walkInParallel(Path root, ScanFilter filter, Consumer<ScannedFile> consumer)
+            throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(root, BasicFileAttributes.class);
+        if (!filter.enters(root, attributes, IgnoreRules.none())) {
+            return;
+        }
+        Consumer<ScannedFile> serialized = file -> {
+            synchronized (consumer) {
+                consumer.accept(file);
+            }
+        };
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new DirectoryTask(root, IgnoreRules.none(), filter, serialized));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 디렉토리 하나의 항목을 읽고, 들어갈 하위 디렉토리는 새 작업으로 나눠 동시에 탐색합니다.
+     */
+    private static final class DirectoryTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Path directory;
+        private final transient IgnoreRules parentGitignore;
+        private final transient ScanFilter filter;
+        private final transient Consumer<ScannedFile> consumer;
+
+        DirectoryTask(Path directory, IgnoreRules parentGitignore, ScanFilter filter,
+                      Consumer<ScannedFile> consumer) {
+            this.directory = directory;
+            this.parentGitignore = parentGitignore;
+            this.filter = filter;
+            this.consumer = consumer;
+        }
+
+        @Override
+        protected void compute() {
+            IgnoreRules gitignore = filter.gitignoreOf(directory, parentGitignore);
+            List<DirectoryTask> subdirectories = new ArrayList<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (Path entry : entries) {
+                    BasicFileAttributes attributes = attributesOf(entry);
+                    if (attributes == null) {
+                        continue;
+                    }
+                    if (attributes.isDirectory()) {
+                        if (filter.enters(entry, attributes, gitignore)) {
+                            subdirectories.add(new DirectoryTask(entry, gitignore, filter, consumer));
+                        }
+                    } else if (filter.accepts(entry, attributes, gitignore)) {
+                        consumer.accept(ScannedFile.of(entry, attributes));
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("[WARN] Failed to read " + directory + ": " + e.getMessage());
+            }
+            invokeAll(subdirectories);
+        }
+
+        /**
+         * 심볼릭 링크는 따라간 대상의 속성을 읽습니다. 대상이 없는 링크는 조용히 건너뜁니다.
+         */
+        private static BasicFileAttributes attributesOf(Path entry) {
+            try {
+                return Files.readAttributes(entry, BasicFileAttributes.class);
+            } catch (NoSuchFileException e) {
+                return null;
+            } catch (IOException e) {
+                System.err.println("[WARN] Failed to read " + entry + ": " + e.getMessage());
+                return null;
+            }
+        }
+    }
+}
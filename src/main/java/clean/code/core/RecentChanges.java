@@ -0,0 +1,187 @@
+package clean.code.core;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스캔한 파일을 최근에 바뀐 순서로 정렬
+ * <p>
+ * {@link RecentOrder#GIT}은 커밋되지 않은 파일, 최근 {@link #HISTORY_COMMITS}개 커밋에서 바뀐 파일(마지막 커밋 시각 순), 나머지
+ * 파일 순으로 정렬하고, 같은 묶음 안에서는 수정 시각 순으로 정렬합니다. 새로 clone한 저장소처럼 모든 파일의 수정 시각이 같아도 최근
+ * 커밋의 파일이 앞에 옵니다. 이력은 로컬 저장소에서 {@code git status}와 {@code git log}로 읽습니다.
+ */
+class RecentChanges {
+    static final int HISTORY_COMMITS = 200;
+
+    private static final long GIT_TIMEOUT_SECONDS = 30;
+    private static final String COMMIT_TIME_PREFIX = "@";
+    private static final int UNCOMMITTED = 0;
+    private static final int COMMITTED_RECENTLY = 1;
+    private static final int UNCHANGED = 2;
+
+    private final Path projectPath;
+    private final Path realRoot;
+    private final Set<Path> uncommitted = new HashSet<>();
+    private final Map<Path, Long> commitTimes = new HashMap<>();
+
+    RecentChanges(Path projectPath) {
+        this.projectPath = projectPath;
+        this.realRoot = realPath(projectPath);
+    }
+
+    /**
+     * @param projectPath 스캔한 루트 디렉토리
+     * @param javaFiles   {@code projectPath} 아래에서 스캔한 파일
+     * @param fileStats   스캔할 때 읽은 수정 시각
+     * @return 최근에 바뀐 파일이 앞에 오는 새 목록. 순서를 정할 수 없는 파일끼리는 스캔 순서를 유지합니다.
+     */
+    static List<Path> sort(Path projectPath, List<Path> javaFiles, RecentOrder order, FileStats fileStats) {
+        RecentChanges changes = new RecentChanges(projectPath);
+        boolean fromGit = order == RecentOrder.GIT && changes.readGit();
+        Map<Path, Long> modifiedTimes = new HashMap<>();
+        javaFiles.forEach(javaFile -> modifiedTimes.put(javaFile,
+                fileStats.of(javaFile).map(ScannedFile::modifiedMillis).orElse(0L)));
+        Comparator<Path> newestFirst = Comparator.comparing(modifiedTimes::get, Comparator.reverseOrder());
+        Comparator<Path> comparator = fromGit
+                ? Comparator.comparingInt(changes::tier)
+                .thenComparing(changes::commitTime, Comparator.reverseOrder())
+                .thenComparing(newestFirst)
+                : newestFirst;
+
+        List<Path> sorted = new ArrayList<>(javaFiles);
+        sorted.sort(comparator);
+        if (fromGit) {
+            System.out.printf("[INFO] Ordered %d files by git history (%d uncommitted, %d changed in the last %d "
+                    + "commits)%n", sorted.size(), changes.count(sorted, UNCOMMITTED),
+                    changes.count(sorted, COMMITTED_RECENTLY), HISTORY_COMMITS);
+        } else {
+            System.out.printf("[INFO] Ordered %d files by modification time, newest first%n", sorted.size());
+        }
+        return sorted;
+    }
+
+    /**
+     * @return git 이력을 읽었는지 여부. 읽지 못하면 경고를 출력하고 수정 시각만 사용합니다.
+     */
+    private boolean readGit() {
+        if (SourceTree.isArchived(projectPath)) {
+            System.err.println("[WARN] Cannot read git history inside an archive, ordering by modification time");
+            return false;
+        }
+        try {
+            Path topLevel = Path.of(git("rev-parse", "--show-toplevel").strip());
+            parseStatus(topLevel, git("status", "--porcelain", "-z", "--untracked-files=all", "--", "."));
+            parseLog(topLevel, git("log", "-n", String.valueOf(HISTORY_COMMITS),
+                    "--format=" + COMMIT_TIME_PREFIX + "%ct", "--name-only", "--", "."));
+            return true;
+        } catch (IOException e) {
+            System.err.println("[WARN] Cannot read git history, ordering by modification time: " + e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * {@code git status --porcelain -z}의 항목은 {@code XY 경로}이고, 이름이 바뀐 항목은 원래 경로가 항목 하나를 더 차지합니다.
+     */
+    void parseStatus(Path topLevel, String status) {
+        String[] entries = status.split("\0");
+        for (int i = 0; i < entries.length; i++) {
+            String entry = entries[i];
+            if (entry.length() < 4) {
+                continue;
+            }
+            uncommitted.add(topLevel.resolve(entry.substring(3)).normalize());
+            if (entry.charAt(0) == 'R' || entry.charAt(0) == 'C') {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * {@code git log}는 최신 커밋부터 출력하므로, 파일마다 처음 나온 커밋 시각이 마지막으로 바뀐 시각입니다.
+     */
+    void parseLog(Path topLevel, String log) {
+        long commitTime = 0;
+        for (String line : log.split("\n")) {
+            if (line.startsWith(COMMIT_TIME_PREFIX)) {
+                commitTime = Long.parseLong(line.substring(COMMIT_TIME_PREFIX.length()));
+            } else if (!line.isBlank()) {
+                commitTimes.putIfAbsent(topLevel.resolve(line).normalize(), commitTime);
+            }
+        }
+    }
+
+    /**
+     * @return 커밋되지 않은 파일은 0, 최근 커밋에서 바뀐 파일은 1, 나머지는 2
+     */
+    int tier(Path javaFile) {
+        Path key = key(javaFile);
+        if (uncommitted.contains(key)) {
+            return UNCOMMITTED;
+        }
+        return commitTimes.containsKey(key) ? COMMITTED_RECENTLY : UNCHANGED;
+    }
+
+    long commitTime(Path javaFile) {
+        return commitTimes.getOrDefault(key(javaFile), 0L);
+    }
+
+    private long count(List<Path> javaFiles, int tier) {
+        return javaFiles.stream().filter(javaFile -> tier(javaFile) == tier).count();
+    }
+
+    /**
+     * git은 심볼릭 링크를 따라간 실제 경로를 출력하므로, 스캔한 경로도 루트의 실제 경로 기준으로 바꿔 비교합니다.
+     */
+    private Path key(Path javaFile) {
+        return realRoot.resolve(projectPath.relativize(javaFile)).normalize();
+    }
+
+    private static Path realPath(Path projectPath) {
+        try {
+            return projectPath.toRealPath();
+        } catch (IOException e) {
+            return projectPath.toAbsolutePath().normalize();
+        }
+    }
+
+    /**
+     * 출력은 임시 파일로 받습니다. 파이프에서 읽으면 git이 출력을 닫을 때까지 기다리므로, 잠금을 기다리며 멈춘 git에는 시간 제한이
+     * 적용되지 않습니다.
+     */
+    private String git(String... args) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(
+                List.of("git", "-C", projectPath.toString(), "-c", "core.quotePath=false"));
+        command.addAll(List.of(args));
+        Path output = Files.createTempFile("clean-code-git", ".out");
+        try {
+            Process process = new ProcessBuilder(command)
+                    .redirectOutput(output.toFile())
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (!process.waitFor(GIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new IOException("git " + args[0] + " timed out");
+            }
+            if (process.exitValue() != 0) {
+                throw new IOException("git " + args[0] + " exited with " + process.exitValue());
+            }
+            return Files.readString(output, StandardCharsets.UTF_8);
+        } finally {
+            Files.deleteIfExists(output);
+        }
+    }
+}
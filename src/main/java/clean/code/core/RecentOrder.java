@@ -0,0 +1,16 @@
+package clean.code.core;
+
+/**
+ * 최근에 바뀐 파일부터 분석할 때 "최근"을 판단하는 기준
+ */
+public enum RecentOrder {
+    /**
+     * 파일의 마지막 수정 시각
+     */
+    MTIME,
+    /**
+     * 로컬 git 저장소의 커밋되지 않은 변경과 최근 커밋 이력. git 저장소가 아니거나 git을 실행할 수 없으면 {@link #MTIME}을
+     * 사용합니다.
+     */
+    GIT
+}
@@ -0,0 +1,10 @@
+package clean.code.core;
+
+/**
+ * 표본 분석 옵션
+ *
+ * @param precision 목표 정밀도. 전체 위반 사항 수 추정치의 95% 신뢰구간 반폭이 추정치의 이 비율 이하가 되면 분석을 멈춥니다.
+ * @param seed      표본 순서를 정하는 난수 시드. 같은 파일 목록과 시드는 같은 표본을 뽑습니다.
+ */
+public record SampleOptions(double precision, long seed) {
+}
@@ -0,0 +1,79 @@
+package clean.code.core;
+
+import clean.code.report.Violation;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * {@link StratifiedSample}이 고르는 순서대로 파일을 분석하다가 추정치가 목표 정밀도에 이르면 멈추는 표본 분석
+ * <p>
+ * 파일은 여러 스레드에서 동시에 분석하지만 결과는 꺼낸 순서대로 기록하고 그때마다 정밀도를 확인하므로, 같은 시드는 스레드 수와
+ * 관계없이 같은 표본에서 멈춥니다. 멈출 때 아직 시작하지 않은 파일은 취소하고, 이미 시작한 파일의 결과는 버립니다. 스레드마다 두
+ * 파일까지만({@link StratifiedSample#ALLOCATION_LAG}개 이하) 미리 제출해 버리는 작업을 줄입니다.
+ */
+class SamplingPipeline {
+    private static final int SUBMITTED_PER_WORKER = 2;
+
+    private final Analyzer analyzer;
+    private final SampleOptions options;
+    private int failures;
+
+    SamplingPipeline(Analyzer analyzer, SampleOptions options) {
+        this.analyzer = analyzer;
+        this.options = options;
+    }
+
+    /**
+     * 크기를 읽지 못한 파일은 가장 작은 층에 넣고, 분석할 때 오류를 출력합니다.
+     *
+     * @return 분석을 멈춘 시점의 표본과 추정치
+     */
+    StratifiedSample run(List<Path> javaFiles) throws InterruptedException {
+        StratifiedSample sample = StratifiedSample.of(javaFiles, analyzer::sizeOf, options.seed());
+        int workers = Math.max(1, analyzer.parallelism());
+        int window = Math.min(workers * SUBMITTED_PER_WORKER, StratifiedSample.ALLOCATION_LAG);
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        Deque<Future<List<Violation>>> submitted = new ArrayDeque<>();
+        HeapPressureThrottle.Monitoring monitoring = analyzer.monitorHeap();
+        try {
+            while (!sample.isPrecise(options.precision())) {
+                while (sample.hasNext() && submitted.size() < window) {
+                    Path javaFile = sample.next();
+                    submitted.add(pool.submit(() -> analyzer.analyzeFile(javaFile)));
+                }
+                List<Violation> violations = resultOf(submitted.poll());
+                failures += (int) violations.stream().filter(analyzer::failsOn).count();
+                sample.record(violations);
+            }
+            analyzer.flushCache();
+            analyzer.printSkippedCounts();
+            return sample;
+        } finally {
+            monitoring.close();
+            submitted.forEach(future -> future.cancel(false));
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 표본에서 찾은 위반 사항 중 {@link Analyzer#failsOn(Violation)}에 해당하는 수
+     */
+    int failures() {
+        return failures;
+    }
+
+    private static List<Violation> resultOf(Future<List<Violation>> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            System.err.println("[ERROR] Failed to analyze: " + e.getCause());
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package clean.code.core;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 스캔할 때 들어가지 않을 디렉토리와 건너뛸 파일의 기준
+ * <p>
+ * 소스가 없는 VCS, 빌드 도구, IDE, 패키지 관리자 디렉토리는 .java 파일을 찾기 전에 하위 디렉토리째 건너뛰어 파일 조회를 줄입니다.
+ * 빌드 출력 디렉토리({@code build}, {@code target}, {@code out})는 이름이 같은 패키지와 구분하도록, 같은 디렉토리에 해당 빌드
+ * 도구의 파일이 있을 때만 건너뜁니다.
+ *
+ * @param skipDefaults 기본 제외 디렉토리를 건너뛸지 여부
+ * @param gitignore    {@code .gitignore}에 맞는 경로를 건너뛸지 여부
+ * @param patterns     {@code .gitignore} 형식으로 적은, 검사를 시작할 루트 디렉토리 기준의 제외 패턴.
+ *                     {@code .gitignore}의 {@code !} 패턴보다 우선합니다.
+ */
+public record ScanExclusions(boolean skipDefaults, boolean gitignore, List<String> patterns) {
+
+    private static final Set<String> DEFAULT_DIRECTORIES = Set.of(
+            ".git", ".hg", ".svn", ".gradle", ".idea", ".vscode", ".settings", "node_modules");
+    private static final Map<String, List<String>> BUILD_OUTPUT_DIRECTORIES = Map.of(
+            "build", List.of("build.gradle", "build.gradle.kts", "settings.gradle", "settings.gradle.kts"),
+            "target", List.of("pom.xml", "build.sbt"),
+            "out", List.of(".idea", "build.gradle", "build.gradle.kts"));
+
+    public static ScanExclusions defaults() {
+        return new ScanExclusions(true, true, List.of());
+    }
+
+    public static ScanExclusions none() {
+        return new ScanExclusions(false, false, List.of());
+    }
+
+    /**
+     * 제외 패턴을 더합니다.
+     */
+    public ScanExclusions withAdditional(List<String> morePatterns) {
+        if (morePatterns == null || morePatterns.isEmpty()) {
+            return this;
+        }
+        List<String> allPatterns = new ArrayList<>(patterns);
+        allPatterns.addAll(morePatterns);
+        return new ScanExclusions(skipDefaults, gitignore, List.copyOf(allPatterns));
+    }
+
+    public ScanExclusions withGitignore(boolean honour) {
+        return new ScanExclusions(skipDefaults, honour, patterns);
+    }
+
+    public ScanExclusions withDefaults(boolean skip) {
+        return new ScanExclusions(skip, gitignore, patterns);
+    }
+
+    boolean isDefaultExcluded(Path directory) {
+        Path name = directory.getFileName();
+        if (!skipDefaults || name == null) {
+            return false;
+        }
+        if (DEFAULT_DIRECTORIES.contains(name.toString())) {
+            return true;
+        }
+        List<String> buildFiles = BUILD_OUTPUT_DIRECTORIES.get(name.toString());
+        return buildFiles != null && buildFiles.stream().anyMatch(file -> Files.exists(directory.resolveSibling(file)));
+    }
+}
@@ -0,0 +1,162 @@
+package clean.code.core;
+
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 스캔 한 번에서 들어갈 디렉토리와 전달할 파일을 정하고, 건너뛴 수를 셉니다.
+ * <p>
+ * 다음 경로는 건너뜁니다. 검사를 시작할 루트 디렉토리는 이름과 관계없이 탐색하고, 그 아래의 소스 디렉토리에서 탐색을 시작하면
+ * 루트 디렉토리부터 소스 디렉토리까지의 디렉토리에도 같은 기준을 적용합니다.
+ * <ul>
+ *     <li>생성 코드 출력 디렉토리</li>
+ *     <li>{@link ScanExclusions}의 기본 제외 디렉토리와 제외 패턴에 맞는 경로</li>
+ *     <li>{@code .gitignore}에 맞는 경로. 하위 디렉토리의 {@code .gitignore}는 들어갈 때 읽습니다.</li>
+ *     <li>심볼릭 링크를 따라가다 다시 만난 디렉토리. 파일 키가 같으면 같은 디렉토리로 봅니다.</li>
+ * </ul>
+ * 여러 스레드가 함께 탐색해도 되도록 수는 원자적으로 세고, 규칙({@link IgnoreRules})은 디렉토리마다 따로 전달받습니다.
+ */
+final class ScanFilter {
+    private static final String JAVA_EXTENSION = ".java";
+
+    private final Path projectPath;
+    private final Path absoluteRoot;
+    private final Set<Path> walkRoots;
+    private final GeneratedCode generatedCode;
+    private final ScanExclusions exclusions;
+    private final IgnoreRules excludedPatterns;
+    private final Set<Object> visitedDirectories = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger generated = new AtomicInteger();
+    private final AtomicInteger excluded = new AtomicInteger();
+    private final AtomicInteger ignored = new AtomicInteger();
+    private final AtomicInteger duplicates = new AtomicInteger();
+
+    ScanFilter(Path projectPath, GeneratedCode generatedCode, ScanExclusions exclusions) {
+        this(projectPath, List.of(projectPath), generatedCode, exclusions);
+    }
+
+    /**
+     * @param walkRoots 탐색을 시작할 디렉토리. 모두 {@code projectPath}이거나 그 하위 디렉토리입니다.
+     */
+    ScanFilter(Path projectPath, List<Path> walkRoots, GeneratedCode generatedCode, ScanExclusions exclusions) {
+        this.projectPath = projectPath;
+        this.absoluteRoot = projectPath.toAbsolutePath().normalize();
+        this.walkRoots = Set.copyOf(walkRoots);
+        this.generatedCode = generatedCode;
+        this.exclusions = exclusions;
+        this.excludedPatterns = IgnoreRules.of(absoluteRoot, exclusions.patterns());
+    }
+
+    /**
+     * @param gitignore 디렉토리를 담은 상위 디렉토리의 규칙. 루트 디렉토리는 무시합니다.
+     * @return 디렉토리에 들어갈지 여부. 들어가지 않으면 건너뛴 수를 셉니다.
+     */
+    boolean enters(Path directory, BasicFileAttributes attributes, IgnoreRules gitignore) {
+        if (walkRoots.contains(directory) ? !entersWalkRoot(directory) : isSkippedDirectory(directory, gitignore)) {
+            return false;
+        }
+        Object fileKey = attributes.fileKey();
+        if (fileKey != null && !visitedDirectories.add(fileKey)) {
+            duplicates.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param parent 디렉토리를 담은 상위 디렉토리의 규칙. 탐색을 시작한 디렉토리는 무시하고 저장소 최상위까지의 규칙을 읽습니다.
+     * @return 들어간 디렉토리 안에 적용할 {@code .gitignore} 규칙
+     */
+    IgnoreRules gitignoreOf(Path directory, IgnoreRules parent) {
+        if (!exclusions.gitignore()) {
+            return IgnoreRules.none();
+        }
+        return walkRoots.contains(directory)
+                ? IgnoreRules.forRoot(absolute(directory))
+                : parent.enter(absolute(directory));
+    }
+
+    /**
+     * @param gitignore 파일을 담은 디렉토리의 규칙
+     * @return 스캔 결과로 전달할 .java 파일인지 여부
+     */
+    boolean accepts(Path file, BasicFileAttributes attributes, IgnoreRules gitignore) {
+        return attributes.isRegularFile() && file.toString().endsWith(JAVA_EXTENSION)
+                && !isSkipped(absolute(file), false, gitignore);
+    }
+
+    /**
+     * 심볼릭 링크가 상위 디렉토리를 가리켜 순환하는 경로를 만났을 때
+     */
+    void loopDetected() {
+        duplicates.incrementAndGet();
+    }
+
+    /**
+     * 건너뛴 수를 출력합니다. 건너뛴 디렉토리의 하위 항목은 세지 않습니다.
+     */
+    void printSkippedCounts() {
+        if (generated.get() > 0) {
+            System.out.printf("[INFO] Skipped %d generated source directories%n", generated.get());
+        }
+        int skipped = excluded.get() + ignored.get() + duplicates.get();
+        if (skipped > 0) {
+            System.out.printf("[INFO] Skipped %d entries while scanning (%d excluded, %d ignored by .gitignore, "
+                    + "%d duplicate symlinked directories)%n", skipped, excluded.get(), ignored.get(), duplicates.get());
+        }
+    }
+
+    /**
+     * 루트 디렉토리 아래에서 탐색을 시작하는 디렉토리는 루트 디렉토리 바로 아래까지 거슬러 올라가며, 건너뛸 디렉토리 안에 있으면
+     * 탐색하지 않습니다.
+     */
+    private boolean entersWalkRoot(Path walkRoot) {
+        for (Path directory = walkRoot; !directory.equals(projectPath); directory = directory.getParent()) {
+            IgnoreRules gitignore = exclusions.gitignore()
+                    ? IgnoreRules.forRoot(absolute(directory.getParent()))
+                    : IgnoreRules.none();
+            if (isSkippedDirectory(directory, gitignore)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isSkippedDirectory(Path directory, IgnoreRules gitignore) {
+        if (generatedCode.isGeneratedDirectory(directory)) {
+            generated.incrementAndGet();
+            return true;
+        }
+        if (exclusions.isDefaultExcluded(directory)) {
+            excluded.incrementAndGet();
+            return true;
+        }
+        return isSkipped(absolute(directory), true, gitignore);
+    }
+
+    /**
+     * 제외 패턴은 {@code .gitignore}보다 우선합니다.
+     */
+    private boolean isSkipped(Path absolute, boolean directory, IgnoreRules gitignore) {
+        Boolean excludedByPattern = excludedPatterns.isIgnored(absolute, directory);
+        if (excludedByPattern != null) {
+            if (excludedByPattern) {
+                excluded.incrementAndGet();
+            }
+            return excludedByPattern;
+        }
+        if (Boolean.TRUE.equals(gitignore.isIgnored(absolute, directory))) {
+            ignored.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private Path absolute(Path path) {
+        return absoluteRoot.resolve(projectPath.relativize(path)).normalize();
+    }
+}
@@ -0,0 +1,34 @@
+package clean.code.core;
+
+/**
+ * 프로젝트를 스캔하는 방식에 대한 옵션
+ *
+ * @param exclusions      들어가지 않을 디렉토리와 건너뛸 파일의 기준
+ * @param threads         디렉토리를 동시에 탐색할 스레드 수. 1이면 한 스레드에서 순서대로 탐색합니다.
+ * @param sourceRootsOnly 빌드 파일에 선언된 모듈의 소스 디렉토리({@link SourceRoots})만 탐색하고 파일을 main/test로 구분할지 여부
+ */
+public record ScanOptions(ScanExclusions exclusions, int threads, boolean sourceRootsOnly) {
+
+    public static ScanOptions defaults() {
+        return new ScanOptions(ScanExclusions.defaults(), 1, false);
+    }
+
+    /**
+     * 아무것도 제외하지 않고 한 스레드에서 모든 디렉토리를 탐색하는 옵션
+     */
+    public static ScanOptions none() {
+        return new ScanOptions(ScanExclusions.none(), 1, false);
+    }
+
+    public ScanOptions withExclusions(ScanExclusions exclusions) {
+        return new ScanOptions(exclusions, threads, sourceRootsOnly);
+    }
+
+    public ScanOptions withThreads(int threads) {
+        return new ScanOptions(exclusions, threads, sourceRootsOnly);
+    }
+
+    public ScanOptions withSourceRootsOnly(boolean sourceRootsOnly) {
+        return new ScanOptions(exclusions, threads, sourceRootsOnly);
+    }
+}
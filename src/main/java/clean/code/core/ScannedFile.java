@@ -0,0 +1,18 @@
+package clean.code.core;
+
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * 스캔한 .java 파일과 탐색할 때 함께 읽은 속성
+ *
+ * @param path           스캔한 경로
+ * @param size           파일 크기 (바이트)
+ * @param modifiedMillis 마지막 수정 시각 (epoch ms)
+ */
+record ScannedFile(Path path, long size, long modifiedMillis) {
+
+    static ScannedFile of(Path path, BasicFileAttributes attributes) {
+        return new ScannedFile(path, attributes.size(), attributes.lastModifiedTime().toMillis());
+    }
+}
@@ -0,0 +1,104 @@
+package clean.code.core;
+
+/**
+ * 소스에서 package 선언과 import 선언 부분(헤더)만 잘라냅니다.
+ * <p>
+ * 헤더는 파일의 앞부분이므로 잘라낸 소스를 파싱해도 라인과 열은 원본과 같습니다. 헤더 앞에 어노테이션이 있는 경우(package-info)처럼
+ * 단순하게 판단할 수 없으면 원본 전체를 반환합니다.
+ */
+final class SourceHeader {
+    private static final String PACKAGE_KEYWORD = "package";
+    private static final String IMPORT_KEYWORD = "import";
+
+    private SourceHeader() {
+    }
+
+    static String of(String source) {
+        int end = 0;
+        int i = skipWhitespaceAndComments(source, 0);
+        while (i < source.length()) {
+            if (source.charAt(i) == ';') {
+                i = skipWhitespaceAndComments(source, i + 1);
+                continue;
+            }
+            if (!startsWithKeyword(source, i, PACKAGE_KEYWORD) && !startsWithKeyword(source, i, IMPORT_KEYWORD)) {
+                break;
+            }
+            int semicolon = findStatementEnd(source, i);
+            if (semicolon < 0) {
+                return source;
+            }
+            end = semicolon + 1;
+            i = skipWhitespaceAndComments(source, end);
+        }
+        if (i < source.length() && source.charAt(i) == '@' && end == 0) {
+            return source;
+        }
+        return source.substring(0, end);
+    }
+
+    private static boolean startsWithKeyword(String source, int index, String keyword) {
+        int after = index + keyword.length();
+        return source.startsWith(keyword, index)
+               && (after >= source.length() || !Character.isJavaIdentifierPart(source.charAt(after)));
+    }
+
+    /**
+     * 선언을 끝내는 세미콜론의 위치. 선언 중간의 주석은 건너뜁니다.
+     */
+    private static int findStatementEnd(String source, int from) {
+        int i = from;
+        while (i < source.length()) {
+            int next = skipComment(source, i);
+            if (next != i) {
+                i = next;
+                continue;
+            }
+            if (source.charAt(i) == ';') {
+                return i;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static int skipWhitespaceAndComments(String source, int from) {
+        int i = from;
+        while (i < source.length()) {
+            if (Character.isWhitespace(source.charAt(i)) || source.charAt(i) == '\uFEFF') {
+                i++;
+                continue;
+            }
+            int next = skipComment(source, i);
+            if (next == i) {
+                return i;
+            }
+            i = next;
+        }
+        return i;
+    }
+
+    /**
+     * {@code from}에서 주석이 시작하면 주석 다음 위치를, 아니면 {@code from}을 반환합니다.
+     */
+    private static int skipComment(String source, int from) {
+        if (source.startsWith("//", from)) {
+            int lineEnd = indexOfLineEnd(source, from);
+            return lineEnd < 0 ? source.length() : lineEnd;
+        }
+        if (source.startsWith("/*", from)) {
+            int close = source.indexOf("*/", from + 2);
+            return close < 0 ? source.length() : close + 2;
+        }
+        return from;
+    }
+
+    private static int indexOfLineEnd(String source, int from) {
+        for (int i = from; i < source.length(); i++) {
+            if (source.charAt(i) == '\n' || source.charAt(i) == '\r') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
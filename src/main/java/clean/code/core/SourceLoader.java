@@ -0,0 +1,177 @@
+package clean.code.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 소스 파일의 내용을 읽고 파서에 넘길 문자열로 디코딩
+ * <p>
+ * {@link #MAP_THRESHOLD} 이상인 큰 파일은 {@link FileChannel#map}으로 매핑해 페이지 캐시에서 배열로 한 번만 복사합니다. 힙 배열로
+ * 읽으면 JDK가 스레드별 임시 direct 버퍼를 거쳐 두 번 복사하기 때문입니다. 작은 파일은 매핑과 해제 비용이 복사보다 커서 힙 배열로
+ * 바로 읽으며, 임시 direct 버퍼는 JDK가 스레드마다 재사용합니다. 압축 파일 안의 항목은 매핑할 수 없으므로 크기와 관계없이 압축을
+ * 풀며 배열로 읽습니다.
+ * <p>
+ * 앞부분 {@link GeneratedCode#HEAD_BYTES}바이트에서 생성 코드 표식을 찾고, 표식이 있으면 나머지는 읽지 않습니다. 표식마다 앞부분 전체를
+ * 검색하지 않도록 여러 표식이 공유하는 단어(기본 표식은 {@code Generated}, {@code EDIT})로 한 번씩 검색한 뒤, 찾은 위치에서만 표식을
+ * 확인합니다.
+ * <p>
+ * UTF-8 파일은 BOM을 건너뛰고 한 번에 디코딩합니다. ASCII로만 된 소스는 JDK가 문자마다 변환하지 않고 배열을 그대로 복사합니다.
+ */
+final class SourceLoader {
+    static final int MAP_THRESHOLD = 256 * 1024;
+
+    private static final byte[] UTF_8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final Charset encoding;
+    private final boolean skipGenerated;
+    private final Map<String, List<Marker>> markersByAnchor;
+
+    /**
+     * @param encoding      소스 파일의 인코딩
+     * @param generatedCode 앞부분에서 찾을 생성 코드 표식
+     */
+    SourceLoader(Charset encoding, GeneratedCode generatedCode) {
+        this.encoding = encoding;
+        this.skipGenerated = generatedCode.skip() && !generatedCode.markers().isEmpty();
+        this.markersByAnchor = groupByAnchor(generatedCode.markers());
+    }
+
+    /**
+     * @param channel  처음 위치의 파일 채널
+     * @param size     파일 크기
+     * @param mappable 채널을 메모리 매핑할 수 있는지 여부
+     * @return 파일 내용. 앞부분에 생성 코드 표식이 있으면 빈 값
+     */
+    Optional<byte[]> read(FileChannel channel, int size, boolean mappable) throws IOException {
+        if (mappable && size >= MAP_THRESHOLD) {
+            return readMapped(channel, size);
+        }
+        byte[] content = new byte[size];
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        int head = readFully(channel, buffer.limit(Math.min(size, GeneratedCode.HEAD_BYTES)));
+        if (isGeneratedHead(content, head)) {
+            return Optional.empty();
+        }
+        int length = head < buffer.limit() ? head : head + readFully(channel, buffer.limit(size));
+        return Optional.of(length == size ? content : Arrays.copyOf(content, length));
+    }
+
+    /**
+     * 파서에 넘길 문자열. UTF-8의 BOM은 소스 코드가 아니므로 제외합니다.
+     */
+    String decode(byte[] content) {
+        if (encoding.equals(StandardCharsets.UTF_8) && startsWithBom(content)) {
+            return new String(content, UTF_8_BOM.length, content.length - UTF_8_BOM.length, encoding);
+        }
+        return new String(content, encoding);
+    }
+
+    /**
+     * 파일 앞부분에 생성 코드 표식이 있는지 여부. 잘린 멀티바이트 문자는 대체 문자가 되어 표식과 맞지 않을 뿐입니다. 표식 뒤에
+     * 식별자가 이어지면({@code @GeneratedValue}) 다른 이름이므로 표식으로 보지 않습니다.
+     *
+     * @param head   파일 내용의 앞부분
+     * @param length {@code head}에서 읽은 바이트 수
+     */
+    boolean isGeneratedHead(byte[] head, int length) {
+        if (!skipGenerated) {
+            return false;
+        }
+        String text = new String(head, 0, length, encoding);
+        for (Map.Entry<String, List<Marker>> entry : markersByAnchor.entrySet()) {
+            String anchor = entry.getKey();
+            for (int at = text.indexOf(anchor); at >= 0; at = text.indexOf(anchor, at + 1)) {
+                for (Marker marker : entry.getValue()) {
+                    int start = at - marker.anchorOffset();
+                    if (text.startsWith(marker.text(), start) && endsAtBoundary(text, marker, start)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean endsAtBoundary(String text, Marker marker, int start) {
+        String markerText = marker.text();
+        int end = start + markerText.length();
+        return end == text.length()
+                || !Character.isJavaIdentifierPart(markerText.charAt(markerText.length() - 1))
+                || !Character.isJavaIdentifierPart(text.charAt(end));
+    }
+
+    private Optional<byte[]> readMapped(FileChannel channel, int size) throws IOException {
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        int length = Math.min(mapped.limit(), size);
+        byte[] content = new byte[length];
+        int head = Math.min(length, GeneratedCode.HEAD_BYTES);
+        mapped.get(content, 0, head);
+        if (isGeneratedHead(content, head)) {
+            return Optional.empty();
+        }
+        mapped.get(content, head, length - head);
+        return Optional.of(content);
+    }
+
+    /**
+     * 버퍼가 차거나 파일 끝에 이를 때까지 읽고, 읽은 바이트 수를 반환합니다.
+     */
+    private static int readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        int read = 0;
+        while (buffer.hasRemaining()) {
+            int count = channel.read(buffer);
+            if (count < 0) {
+                break;
+            }
+            read += count;
+        }
+        return read;
+    }
+
+    private static boolean startsWithBom(byte[] content) {
+        return content.length >= UTF_8_BOM.length && content[0] == UTF_8_BOM[0] && content[1] == UTF_8_BOM[1]
+                && content[2] == UTF_8_BOM[2];
+    }
+
+    /**
+     * 표식마다 가장 많은 표식이 공유하는 단어를 검색어로 정하고(같으면 긴 단어), 검색어별로 표식을 묶습니다. 단어가 없는 표식은 표식
+     * 전체가 검색어입니다.
+     */
+    private static Map<String, List<Marker>> groupByAnchor(List<String> markers) {
+        Map<String, Integer> sharedBy = new HashMap<>();
+        for (String marker : markers) {
+            wordsOf(marker).stream().distinct().forEach(word -> sharedBy.merge(word, 1, Integer::sum));
+        }
+        Comparator<String> bestAnchor = Comparator.<String>comparingInt(sharedBy::get).thenComparingInt(String::length);
+        Map<String, List<Marker>> grouped = new LinkedHashMap<>();
+        for (String marker : markers) {
+            String anchor = wordsOf(marker).stream().max(bestAnchor).orElse(marker);
+            grouped.computeIfAbsent(anchor, key -> new ArrayList<>()).add(new Marker(marker, marker.indexOf(anchor)));
+        }
+        return grouped;
+    }
+
+    private static List<String> wordsOf(String marker) {
+        return Arrays.stream(marker.split("[^\\p{L}\\p{N}_]+"))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    /**
+     * @param anchorOffset 표식 안에서 검색어가 시작하는 위치
+     */
+    private record Marker(String text, int anchorOffset) {
+    }
+}
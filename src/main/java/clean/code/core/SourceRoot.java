@@ -0,0 +1,19 @@
+package clean.code.core;
+
+import java.nio.file.Path;
+
+/**
+ * 스캔을 시작할 디렉토리
+ *
+ * @param directory 탐색할 디렉토리
+ * @param sourceSet 이 디렉토리 아래 파일의 소스 묶음. 없으면 파일마다 디렉토리 관례로 판단합니다.
+ */
+record SourceRoot(Path directory, SourceSet sourceSet) {
+
+    /**
+     * 프로젝트 전체를 탐색하는 루트
+     */
+    static SourceRoot whole(Path projectPath) {
+        return new SourceRoot(projectPath, null);
+    }
+}
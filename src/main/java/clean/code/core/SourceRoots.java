@@ -0,0 +1,276 @@
+package clean.code.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
+/**
+ * 빌드 파일에 선언된 모듈과 모듈별 소스 디렉토리
+ * <p>
+ * 빌드 도구를 실행하지 않고 파일 내용만 읽습니다.
+ * <ul>
+ *     <li>Gradle: {@code settings.gradle(.kts)}의 {@code include}, {@code project(':a').projectDir = file('b')},
+ *     {@code includeBuild}. {@code build.gradle}의 {@code sourceSets} 설정은 읽지 않고 관례 디렉토리를 사용합니다.</li>
+ *     <li>Maven: {@code pom.xml}의 {@code modules}(프로필 안의 모듈 포함), {@code build/sourceDirectory},
+ *     {@code build/testSourceDirectory}</li>
+ * </ul>
+ * 검사를 시작할 루트 디렉토리도 모듈이며, 모듈마다 {@code src/main/java}와 {@code src/test/java}(Maven은 선언된 디렉토리) 중
+ * 실제로 있는 디렉토리만 소스 디렉토리로 사용합니다. 루트 디렉토리 밖을 가리키는 모듈과 디렉토리는 사용하지 않습니다.
+ */
+final class SourceRoots {
+    private static final List<String> GRADLE_SETTINGS = List.of("settings.gradle", "settings.gradle.kts");
+    private static final List<String> GRADLE_BUILDS = List.of("build.gradle", "build.gradle.kts");
+    private static final String POM = "pom.xml";
+    private static final String MAIN_DIRECTORY = "src/main/java";
+    private static final String TEST_DIRECTORY = "src/test/java";
+    private static final List<String> BASEDIR_PROPERTIES = List.of("${project.basedir}/", "${basedir}/");
+
+    private static final Pattern COMMENTS = Pattern.compile(
+            "(?:^|(?<=\\s))//[^\\n]*|/\\*.*?\\*/", Pattern.MULTILINE | Pattern.DOTALL);
+    private static final String QUOTED = "[\"']([^\"'\\n]*)[\"']";
+    private static final Pattern QUOTED_STRING = Pattern.compile(QUOTED);
+    private static final Pattern INCLUDE = Pattern.compile(
+            "\\binclude\\b\\s*\\(?\\s*((?:" + QUOTED + "\\s*,\\s*)*" + QUOTED + ")");
+    private static final Pattern INCLUDE_BUILD = Pattern.compile("\\bincludeBuild\\s*\\(?\\s*" + QUOTED);
+    private static final Pattern PROJECT_DIRECTORY = Pattern.compile(
+            "\\bproject\\s*\\(\\s*" + QUOTED + "\\s*\\)\\s*\\.projectDir\\s*=\\s*(?:new\\s+)?(?:file|File)\\s*\\(\\s*"
+                    + "(?:(?:rootDir|settingsDir)\\s*,\\s*)?" + QUOTED);
+
+    private final Path projectPath;
+    private final Map<Path, SourceRoot> roots = new LinkedHashMap<>();
+    private final Deque<Path> pendingModules = new ArrayDeque<>();
+    private final Set<Path> modules = new HashSet<>();
+
+    private SourceRoots(Path projectPath) {
+        this.projectPath = projectPath;
+    }
+
+    /**
+     * 찾은 모듈과 소스 디렉토리 수를 출력합니다. 루트 디렉토리에 빌드 파일이 없으면 경고를 출력하고 루트 디렉토리 전체를 반환합니다.
+     *
+     * @param projectPath 검사를 시작할 루트 디렉토리
+     * @return 모듈 선언 순서의 소스 디렉토리. 하나의 디렉토리는 한 번만 포함합니다.
+     */
+    static List<SourceRoot> discover(Path projectPath) {
+        if (!isModule(projectPath)) {
+            System.err.println("[WARN] No settings.gradle, build.gradle or pom.xml found in " + projectPath
+                    + ". Scanning the whole directory.");
+            return List.of(SourceRoot.whole(projectPath));
+        }
+        SourceRoots discovered = new SourceRoots(projectPath);
+        discovered.readModules();
+        List<SourceRoot> roots = List.copyOf(discovered.roots.values());
+        long tests = roots.stream().filter(root -> root.sourceSet() == SourceSet.TEST).count();
+        System.out.printf("[INFO] Found %d modules with %d source roots (%d main, %d test)%n",
+                discovered.modules.size(), roots.size(), roots.size() - tests, tests);
+        return roots;
+    }
+
+    private static boolean isModule(Path directory) {
+        return Files.isRegularFile(directory.resolve(POM))
+                || GRADLE_SETTINGS.stream().anyMatch(file -> Files.isRegularFile(directory.resolve(file)))
+                || GRADLE_BUILDS.stream().anyMatch(file -> Files.isRegularFile(directory.resolve(file)));
+    }
+
+    /**
+     * 루트 디렉토리에서 시작해 선언된 하위 모듈을 차례로 읽습니다. 모듈 경로는 루트 디렉토리 기준의 상대 경로로 다룹니다.
+     */
+    private void readModules() {
+        pendingModules.add(Path.of(""));
+        while (!pendingModules.isEmpty()) {
+            Path module = pendingModules.poll();
+            if (modules.add(module)) {
+                readModule(module);
+            }
+        }
+    }
+
+    private void readModule(Path module) {
+        Path directory = projectPath.resolve(module);
+        String main = MAIN_DIRECTORY;
+        String test = TEST_DIRECTORY;
+        Path pom = directory.resolve(POM);
+        if (Files.isRegularFile(pom)) {
+            Element project = readPom(pom);
+            if (project != null) {
+                main = declaredDirectory(child(project, "build"), "sourceDirectory", main);
+                test = declaredDirectory(child(project, "build"), "testSourceDirectory", test);
+                addMavenModules(module, project);
+            }
+        }
+        for (String settingsFile : GRADLE_SETTINGS) {
+            Path settings = directory.resolve(settingsFile);
+            if (Files.isRegularFile(settings)) {
+                addGradleModules(module, settings);
+            }
+        }
+        addRoot(module, main, SourceSet.MAIN);
+        addRoot(module, test, SourceSet.TEST);
+    }
+
+    private void addRoot(Path module, String directory, SourceSet sourceSet) {
+        Path root = withinProject(module, directory);
+        if (root != null && Files.isDirectory(projectPath.resolve(root))) {
+            roots.putIfAbsent(root, new SourceRoot(projectPath.resolve(root), sourceSet));
+        }
+    }
+
+    private void addModule(Path module, String directory) {
+        Path submodule = withinProject(module, directory);
+        if (submodule != null && Files.isDirectory(projectPath.resolve(submodule))) {
+            pendingModules.add(submodule);
+        }
+    }
+
+    /**
+     * @return 루트 디렉토리 기준의 정규화된 경로. 루트 디렉토리 밖이면 {@code null}
+     */
+    private static Path withinProject(Path module, String directory) {
+        Path resolved = module.resolve(directory.replace('\\', '/')).normalize();
+        if (resolved.isAbsolute() || resolved.startsWith("..")) {
+            return null;
+        }
+        return resolved;
+    }
+
+    // --- Gradle ---
+
+    /**
+     * {@code include ':a:b'}는 {@code a}와 {@code a/b} 디렉토리의 모듈을 선언합니다. {@code projectDir}을 바꾼 프로젝트는 그
+     * 디렉토리를 사용합니다.
+     */
+    private void addGradleModules(Path module, Path settings) {
+        String script = readGradleScript(settings);
+        Map<String, String> projectDirectories = new LinkedHashMap<>();
+        Matcher projectDirectory = PROJECT_DIRECTORY.matcher(script);
+        while (projectDirectory.find()) {
+            projectDirectories.put(normalizeProjectPath(projectDirectory.group(1)), projectDirectory.group(2));
+        }
+        Matcher include = INCLUDE.matcher(script);
+        while (include.find()) {
+            Matcher name = QUOTED_STRING.matcher(include.group(1));
+            while (name.find()) {
+                String gradlePath = normalizeProjectPath(name.group(1));
+                for (int end = gradlePath.indexOf(':'); end > 0; end = gradlePath.indexOf(':', end + 1)) {
+                    String parent = gradlePath.substring(0, end);
+                    addModule(module, projectDirectories.getOrDefault(parent, parent.replace(':', '/')));
+                }
+                addModule(module, projectDirectories.getOrDefault(gradlePath, gradlePath.replace(':', '/')));
+            }
+        }
+        Matcher includeBuild = INCLUDE_BUILD.matcher(script);
+        while (includeBuild.find()) {
+            addModule(module, includeBuild.group(1));
+        }
+    }
+
+    private static String normalizeProjectPath(String gradlePath) {
+        return gradlePath.startsWith(":") ? gradlePath.substring(1) : gradlePath;
+    }
+
+    private static String readGradleScript(Path settings) {
+        try {
+            return COMMENTS.matcher(Files.readString(settings, StandardCharsets.UTF_8)).replaceAll("");
+        } catch (IOException e) {
+            System.err.println("[WARN] Failed to read " + settings + ": " + e.getMessage());
+            return "";
+        }
+    }
+
+    // --- Maven ---
+
+    private void addMavenModules(Path module, Element project) {
+        addModules(module, child(project, "modules"));
+        Element profiles = child(project, "profiles");
+        if (profiles != null) {
+            children(profiles, "profile").forEach(profile -> addModules(module, child(profile, "modules")));
+        }
+    }
+
+    /**
+     * 모듈은 디렉토리나 그 안의 {@code pom.xml} 경로로 적을 수 있습니다.
+     */
+    private void addModules(Path module, Element modulesElement) {
+        if (modulesElement == null) {
+            return;
+        }
+        for (Element moduleElement : children(modulesElement, "module")) {
+            String directory = moduleElement.getTextContent().trim();
+            if (directory.endsWith(".xml")) {
+                int separator = directory.lastIndexOf('/');
+                directory = separator < 0 ? "" : directory.substring(0, separator);
+            }
+            if (!directory.isEmpty()) {
+                addModule(module, directory);
+            }
+        }
+    }
+
+    /**
+     * {@code ${project.basedir}}로 시작하는 경로는 모듈 디렉토리 기준으로 읽고, 그 밖의 속성을 사용한 경로는 무시합니다.
+     */
+    private static String declaredDirectory(Element build, String name, String defaultDirectory) {
+        Element element = build == null ? null : child(build, name);
+        if (element == null) {
+            return defaultDirectory;
+        }
+        String directory = element.getTextContent().trim();
+        for (String property : BASEDIR_PROPERTIES) {
+            if (directory.startsWith(property)) {
+                directory = directory.substring(property.length());
+            }
+        }
+        return directory.isEmpty() || directory.contains("${") ? defaultDirectory : directory;
+    }
+
+    /**
+     * DTD와 외부 엔티티는 읽지 않습니다. 압축 파일 안의 {@code pom.xml}도 읽도록 스트림으로 읽습니다.
+     *
+     * @return {@code project} 요소. 읽지 못하면 {@code null}
+     */
+    private static Element readPom(Path pom) {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setExpandEntityReferences(false);
+            try (InputStream input = Files.newInputStream(pom)) {
+                return factory.newDocumentBuilder().parse(input).getDocumentElement();
+            }
+        } catch (IOException | SAXException | ParserConfigurationException e) {
+            System.err.println("[WARN] Failed to read " + pom + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static Element child(Element parent, String name) {
+        List<Element> matching = children(parent, name);
+        return matching.isEmpty() ? null : matching.getFirst();
+    }
+
+    private static List<Element> children(Element parent, String name) {
+        List<Element> matching = new ArrayList<>();
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof Element element && name.equals(element.getTagName())) {
+                matching.add(element);
+            }
+        }
+        return matching;
+    }
+}
@@ -0,0 +1,39 @@
+package clean.code.core;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * 파일이 속한 소스 묶음. 경로별 규칙 설정에서 main 코드와 테스트 코드에 다른 규칙을 적용할 때 사용합니다.
+ */
+public enum SourceSet {
+    MAIN,
+    TEST;
+
+    private static final String SOURCE_DIRECTORY = "src";
+
+    /**
+     * @return 설정 파일에 적는 이름 ({@code main}, {@code test})
+     */
+    public String id() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 빌드 파일로 찾지 않은 파일은 Gradle과 Maven의 디렉토리 관례로 판단합니다. {@code src} 바로 아래 디렉토리 이름이
+     * {@code test}로 시작하거나 {@code Test}로 끝나면({@code src/test}, {@code src/testFixtures},
+     * {@code src/integrationTest}) 테스트 코드로 봅니다.
+     */
+    static SourceSet byConvention(Path file) {
+        for (int i = 0; i + 1 < file.getNameCount(); i++) {
+            if (!file.getName(i).toString().equals(SOURCE_DIRECTORY)) {
+                continue;
+            }
+            String next = file.getName(i + 1).toString();
+            if (next.startsWith("test") || next.endsWith("Test")) {
+                return TEST;
+            }
+        }
+        return MAIN;
+    }
+}
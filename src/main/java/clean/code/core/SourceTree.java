@@ -0,0 +1,84 @@
+package clean.code.core;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 검사할 경로가 가리키는 소스 트리
+ * <p>
+ * {@code .zip}/{@code .jar} 파일이나 {@code archive.jar!/sub/dir} 형식의 경로는 압축을 풀지 않고 읽기 전용
+ * {@code ZipFileSystem}으로 엽니다. 스캐너와 분석기는 디렉토리와 같은 {@link Path} API로 항목을 탐색하고 읽으며, 위반 사항의 경로는
+ * 압축 파일 안의 항목 경로({@code /sub/dir/A.java})가 됩니다. 그 밖의 경로는 그대로 사용합니다.
+ */
+public final class SourceTree implements AutoCloseable {
+    private static final Pattern ARCHIVE = Pattern.compile("(?i)(.+?\\.(?:zip|jar))(?:!(.*))?");
+    private static final String ARCHIVE_ROOT = "/";
+
+    private final Path root;
+    private final FileSystem archive;
+
+    private SourceTree(Path root, FileSystem archive) {
+        this.root = root;
+        this.archive = archive;
+    }
+
+    /**
+     * @param path 검사할 디렉토리, 압축 파일, 또는 {@code 압축 파일!/압축 파일 안의 디렉토리}
+     * @throws IOException 압축 파일을 열 수 없을 때
+     */
+    public static SourceTree open(Path path) throws IOException {
+        Matcher archivePath = ARCHIVE.matcher(path.toString());
+        if (!archivePath.matches() || !Files.isRegularFile(Path.of(archivePath.group(1)))) {
+            return new SourceTree(path, null);
+        }
+        FileSystem archive = FileSystems.newFileSystem(Path.of(archivePath.group(1)),
+                Map.of("accessMode", "readOnly"));
+        String entry = archivePath.group(2) == null ? "" : archivePath.group(2).replace('\\', '/');
+        return new SourceTree(archive.getPath(ARCHIVE_ROOT, entry).normalize(), archive);
+    }
+
+    /**
+     * @return 스캔을 시작할 디렉토리. 압축 파일이면 압축 파일 안의 경로입니다.
+     */
+    public Path root() {
+        return root;
+    }
+
+    /**
+     * 압축 파일을 열었으면 닫습니다. 닫은 뒤에는 압축 파일 안의 경로를 읽을 수 없습니다.
+     */
+    @Override
+    public void close() throws IOException {
+        if (archive != null) {
+            archive.close();
+        }
+    }
+
+    /**
+     * @return 압축 파일 안의 경로인지 여부. 압축 파일 안의 항목은 메모리 매핑하거나 git 이력을 읽을 수 없습니다.
+     */
+    static boolean isArchived(Path path) {
+        return path.getFileSystem() != FileSystems.getDefault();
+    }
+
+    /**
+     * 캐시에 파일을 기록할 때 쓰는 키. 압축 파일 안의 항목은 다른 압축 파일의 같은 항목과 구분되도록 압축 파일 경로를 포함한
+     * URI({@code jar:file:///.../archive.jar!/sub/dir/A.java})를 사용합니다.
+     */
+    static String keyOf(Path file) {
+        return isArchived(file) ? file.toUri().toString() : file.toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * 출력에 쓸 경로. 압축 파일 안의 경로는 압축 파일 경로를 포함합니다.
+     */
+    static String describe(Path path) {
+        return isArchived(path) ? path.toUri().toString() : path.toAbsolutePath().toString();
+    }
+}
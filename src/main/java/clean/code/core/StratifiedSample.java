@@ -0,0 +1,316 @@
+package clean.code.core;
+
+import clean.code.report.Violation;
+import clean.code.report.ViolationEstimate;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * 파일 크기와 패키지로 층을 나눈 무작위 표본과, 표본으로 계산한 위반 사항 수의 추정치
+ * <p>
+ * 파일을 크기 순서로 {@link #SIZE_STRATA}개 층으로 나누고, 층마다 패키지(디렉토리)별로 섞은 뒤 패키지 크기에 비례해 번갈아 놓아
+ * 앞에서부터 몇 개를 꺼내도 패키지별 비율이 층 안의 비율과 같게 합니다. {@link #next()}는 층마다 기록된 위반 사항 수의 표준편차
+ * {@code S_h}로 {@code N_h·S_h}에 비례하도록(Neyman 배분) 다음 층을 고릅니다. 위반 사항은 큰 파일에 몰려 있으므로 큰 파일의 층에서
+ * 더 많이 뽑습니다. 모든 층에서 {@link #PILOT_FILES}개를 기록하기 전에는 층 크기에 비례해 고릅니다.
+ * <p>
+ * 배분에는 {@link #ALLOCATION_LAG}개 앞 위치까지의 결과만 사용하므로, 그만큼 미리 꺼내 동시에 분석해도 같은 시드는 항상 같은 순서를
+ * 만듭니다.
+ * <p>
+ * {@link #record(List)}로 꺼낸 순서대로 결과를 기록하면 층화 추정량 {@code Σ N_h·ȳ_h}로 전체 위반 사항 수를 추정하고, 유한 모집단
+ * 보정을 한 분산 {@code Σ N_h²·(1 − n_h/N_h)·s_h²/n_h}로 정규 근사 95% 신뢰구간을 계산합니다.
+ */
+final class StratifiedSample {
+    static final double Z_95 = 1.96;
+    /**
+     * 정밀도를 판단하기 전에 분석할 최소 파일 수
+     */
+    static final int MIN_FILES = 30;
+    /**
+     * 다음 층을 고를 때 아직 기록되지 않아도 되는 앞 위치의 수. 결과를 기다리지 않고 꺼낼 수 있는 파일 수의 상한입니다.
+     */
+    static final int ALLOCATION_LAG = 64;
+
+    private static final int SIZE_STRATA = 8;
+    private static final int MIN_FILES_PER_STRATUM = 2;
+    private static final int PILOT_FILES = 5;
+    /**
+     * 지금까지 위반 사항이 없던 층도 계속 뽑도록, 층의 표준편차를 가장 큰 표준편차의 이 비율 이상으로 봅니다.
+     */
+    private static final double MIN_DEVIATION_RATIO = 0.1;
+
+    private final List<List<Path>> strata;
+    private final int[] population;
+    private final int[] taken;
+    private final int[] stratumAt;
+    private final int[] violationsAt;
+    private final Tally total;
+    private final Map<String, Tally> perRule = new TreeMap<>();
+    private final Tally allocation;
+    private int next;
+    private int recorded;
+    private int allocated;
+
+    private StratifiedSample(List<List<Path>> strata) {
+        this.strata = strata;
+        this.population = strata.stream().mapToInt(List::size).toArray();
+        int size = Arrays.stream(population).sum();
+        this.taken = new int[population.length];
+        this.stratumAt = new int[size];
+        this.violationsAt = new int[size];
+        this.total = new Tally(new int[population.length]);
+        this.allocation = new Tally(new int[population.length]);
+    }
+
+    /**
+     * @param sizeOf 파일 크기(바이트)
+     * @param seed   패키지와 파일을 섞는 난수 시드
+     */
+    static StratifiedSample of(List<Path> files, ToLongFunction<Path> sizeOf, long seed) {
+        Random random = new Random(seed);
+        long[] sizes = files.stream().mapToLong(sizeOf).toArray();
+        long[] sorted = sizes.clone();
+        Arrays.sort(sorted);
+        int strata = files.size() >= SIZE_STRATA * MIN_FILES_PER_STRATUM ? SIZE_STRATA : 1;
+
+        List<Map<Path, List<Path>>> packagesPerStratum = new ArrayList<>();
+        for (int i = 0; i < strata; i++) {
+            packagesPerStratum.add(new LinkedHashMap<>());
+        }
+        for (int i = 0; i < files.size(); i++) {
+            Path file = files.get(i);
+            packagesPerStratum.get(sizeClass(sizes[i], sorted, strata))
+                    .computeIfAbsent(file.getParent(), key -> new ArrayList<>())
+                    .add(file);
+        }
+        return new StratifiedSample(packagesPerStratum.stream()
+                .filter(packages -> !packages.isEmpty())
+                .map(packages -> spreadOverPackages(packages, random))
+                .toList());
+    }
+
+    int size() {
+        return stratumAt.length;
+    }
+
+    int strata() {
+        return population.length;
+    }
+
+    boolean hasNext() {
+        return next < size();
+    }
+
+    /**
+     * 다음에 분석할 파일. 기록하지 않은 파일이 {@link #ALLOCATION_LAG}개가 되면 더 꺼낼 수 없습니다.
+     *
+     * @throws IllegalStateException 기록하지 않은 파일이 이미 {@link #ALLOCATION_LAG}개일 때
+     */
+    Path next() {
+        if (next - recorded >= ALLOCATION_LAG) {
+            throw new IllegalStateException("Record results before taking more than " + ALLOCATION_LAG + " files");
+        }
+        while (allocated <= next - ALLOCATION_LAG) {
+            allocation.add(stratumAt[allocated], violationsAt[allocated]);
+            allocated++;
+        }
+        double[] weights = allocationWeights();
+        double remainingWeight = 0;
+        for (int stratum = 0; stratum < population.length; stratum++) {
+            remainingWeight += taken[stratum] < population[stratum] ? weights[stratum] : 0;
+        }
+        int chosen = -1;
+        double largestDeficit = Double.NEGATIVE_INFINITY;
+        for (int stratum = 0; stratum < population.length; stratum++) {
+            double deficit = (next + 1) * weights[stratum] / remainingWeight - taken[stratum];
+            if (taken[stratum] < population[stratum] && deficit > largestDeficit) {
+                largestDeficit = deficit;
+                chosen = stratum;
+            }
+        }
+        stratumAt[next++] = chosen;
+        return strata.get(chosen).get(taken[chosen]++);
+    }
+
+    int sampledFiles() {
+        return recorded;
+    }
+
+    /**
+     * {@link #next()}로 꺼낸 파일 중 아직 기록하지 않은 첫 파일의 분석 결과를 기록합니다.
+     */
+    void record(List<Violation> violations) {
+        int stratum = stratumAt[recorded];
+        violationsAt[recorded++] = violations.size();
+        total.add(stratum, violations.size());
+        Map<String, Integer> counts = new TreeMap<>();
+        for (Violation violation : violations) {
+            String key = violation.profile() == null
+                    ? violation.ruleId()
+                    : violation.ruleId() + " (" + violation.profile() + ")";
+            counts.merge(key, 1, Integer::sum);
+        }
+        counts.forEach((key, count) -> perRule.computeIfAbsent(key, k -> new Tally(total.sampled))
+                .addCount(stratum, count));
+    }
+
+    /**
+     * 전체 위반 사항 수 추정치의 신뢰구간 반폭이 추정치의 {@code precision} 비율 이하인지 여부. {@link #MIN_FILES}개 이상, 모든 층에서
+     * 분산을 계산할 수 있을 만큼 분석하기 전에는 {@code false}입니다. 모든 파일을 분석했으면 {@code true}입니다.
+     */
+    boolean isPrecise(double precision) {
+        if (recorded == size()) {
+            return true;
+        }
+        if (recorded < MIN_FILES) {
+            return false;
+        }
+        for (int stratum = 0; stratum < population.length; stratum++) {
+            if (total.sampled[stratum] < Math.min(MIN_FILES_PER_STRATUM, population[stratum])) {
+                return false;
+            }
+        }
+        ViolationEstimate estimate = total();
+        return estimate.halfWidth() <= precision * estimate.total();
+    }
+
+    /**
+     * 모든 규칙의 위반 사항 수 합계의 추정치
+     */
+    ViolationEstimate total() {
+        return total.estimate(null);
+    }
+
+    /**
+     * 표본에서 한 번 이상 나온 규칙별 추정치. 규칙 ID 순서입니다.
+     */
+    List<ViolationEstimate> perRule() {
+        return perRule.entrySet().stream()
+                .map(entry -> entry.getValue().estimate(entry.getKey()))
+                .toList();
+    }
+
+    /**
+     * 층별 배분 가중치. 모든 층에서 {@link #PILOT_FILES}개를 기록하기 전이나 위반 사항이 하나도 없으면 층 크기이고, 그 뒤에는
+     * {@code N_h·S_h}입니다.
+     */
+    private double[] allocationWeights() {
+        double[] deviations = new double[population.length];
+        double largestDeviation = 0;
+        for (int stratum = 0; stratum < population.length; stratum++) {
+            if (allocation.sampled[stratum] < Math.min(PILOT_FILES, population[stratum])) {
+                return Arrays.stream(population).asDoubleStream().toArray();
+            }
+            deviations[stratum] = Math.sqrt(allocation.sampleVariance(stratum));
+            largestDeviation = Math.max(largestDeviation, deviations[stratum]);
+        }
+        double[] weights = new double[population.length];
+        for (int stratum = 0; stratum < population.length; stratum++) {
+            double deviation = Math.max(deviations[stratum], MIN_DEVIATION_RATIO * largestDeviation);
+            weights[stratum] = largestDeviation == 0 ? population[stratum] : population[stratum] * deviation;
+        }
+        return weights;
+    }
+
+    private static int sizeClass(long size, long[] sorted, int strata) {
+        int sizeClass = 0;
+        for (int i = 1; i < strata; i++) {
+            if (size >= sorted[i * sorted.length / strata]) {
+                sizeClass = i;
+            }
+        }
+        return sizeClass;
+    }
+
+    /**
+     * 패키지마다 파일을 섞은 뒤 패키지 크기에 비례하는 간격으로 번갈아 놓습니다. 파일이 {@code N_g}개인 패키지의 {@code k}번째 파일은
+     * {@code (k + u_g) / N_g} 위치에 놓이므로({@code u_g}는 패키지마다 무작위), 어느 앞부분이든 패키지별 비율이 층 안의 비율과
+     * 같습니다.
+     */
+    private static List<Path> spreadOverPackages(Map<Path, List<Path>> packages, Random random) {
+        List<Placement> placements = new ArrayList<>();
+        for (List<Path> files : packages.values()) {
+            Collections.shuffle(files, random);
+            double offset = random.nextDouble();
+            for (int k = 0; k < files.size(); k++) {
+                placements.add(new Placement((k + offset) / files.size(), files.get(k)));
+            }
+        }
+        placements.sort(Comparator.comparingDouble(Placement::position));
+        return placements.stream().map(Placement::file).toList();
+    }
+
+    private record Placement(double position, Path file) {
+    }
+
+    /**
+     * 층별 기록한 파일 수와 파일당 위반 사항 수의 합, 제곱합
+     */
+    private final class Tally {
+        private final int[] sampled;
+        private final double[] sums;
+        private final double[] squares;
+
+        /**
+         * @param sampled 층별 기록한 파일 수. 같은 파일들을 세는 규칙별 집계는 전체 집계와 공유합니다.
+         */
+        Tally(int[] sampled) {
+            this.sampled = sampled;
+            this.sums = new double[sampled.length];
+            this.squares = new double[sampled.length];
+        }
+
+        /**
+         * 파일 하나를 기록합니다.
+         */
+        void add(int stratum, int count) {
+            sampled[stratum]++;
+            addCount(stratum, count);
+        }
+
+        /**
+         * 파일 수를 공유하는 집계에 파일 하나의 위반 사항 수를 더합니다. 위반 사항이 없는 파일은 더하지 않아도 됩니다.
+         */
+        void addCount(int stratum, int count) {
+            sums[stratum] += count;
+            squares[stratum] += (double) count * count;
+        }
+
+        double sampleVariance(int stratum) {
+            int n = sampled[stratum];
+            if (n < 2) {
+                return 0;
+            }
+            double mean = sums[stratum] / n;
+            return Math.max(0, (squares[stratum] - n * mean * mean) / (n - 1));
+        }
+
+        /**
+         * 아직 표본이 없는 층은 추정치에서 빠지고, 표본이 하나뿐인 층은 분산을 0으로 봅니다. ({@link #isPrecise(double)}는 그 전에
+         * 멈추지 않습니다.)
+         */
+        ViolationEstimate estimate(String ruleId) {
+            double estimate = 0;
+            double variance = 0;
+            for (int stratum = 0; stratum < population.length; stratum++) {
+                int n = sampled[stratum];
+                if (n == 0) {
+                    continue;
+                }
+                estimate += population[stratum] * sums[stratum] / n;
+                double finitePopulation = 1 - (double) n / population[stratum];
+                variance += (double) population[stratum] * population[stratum] * finitePopulation
+                            * sampleVariance(stratum) / n;
+            }
+            return new ViolationEstimate(ruleId, estimate, Z_95 * Math.sqrt(variance));
+        }
+    }
+}
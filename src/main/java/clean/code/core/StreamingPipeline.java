@@ -0,0 +1,196 @@
+package clean.code.core;
+
+import clean.code.report.ConsoleReporter;
+import clean.code.report.Violation;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * 스캔 → 분석 → 리포트를 제한된 크기의 큐로 연결한 스트리밍 파이프라인
+ * <p>
+ * 첫 파일이 발견되는 즉시 분석을 시작하고, 파일 분석이 끝나는 즉시 결과를 출력합니다. 큐가 가득 차면 앞 단계가 대기하므로(backpressure)
+ * 메모리 사용량은 프로젝트 크기와 무관합니다. 출력 순서는 분석이 끝난 순서입니다. 정렬한 파일 목록을 받으면 그 순서대로 분석을
+ * 시작하므로, 출력도 스레드 수만큼의 차이 안에서 그 순서를 따릅니다.
+ */
+class StreamingPipeline {
+    private static final int PATH_QUEUE_CAPACITY = 256;
+    private static final int RESULT_QUEUE_CAPACITY = 64;
+    private static final Path END_OF_PATHS = Path.of("");
+    private static final FileResult END_OF_RESULTS = new FileResult(END_OF_PATHS, List.of());
+
+    private final ProjectScanner projectScanner;
+    private final Analyzer analyzer;
+    private final ConsoleReporter consoleReporter;
+
+    StreamingPipeline(ProjectScanner projectScanner, Analyzer analyzer, ConsoleReporter consoleReporter) {
+        this.projectScanner = projectScanner;
+        this.analyzer = analyzer;
+        this.consoleReporter = consoleReporter;
+    }
+
+    /**
+     * @return 출력한 위반 사항 중 {@link Analyzer#failsOn(Violation)}에 해당하는 수
+     */
+    int run(Path projectPath) throws InterruptedException {
+        return run(consumer -> {
+            try {
+                projectScanner.scan(projectPath, consumer);
+            } catch (PipelineInterruptedException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                System.err.println("[ERROR] Failed to scan project directory: " + projectPath);
+            }
+        });
+    }
+
+    /**
+     * 이미 스캔한 파일을 주어진 순서대로 분석합니다.
+     *
+     * @return 출력한 위반 사항 중 {@link Analyzer#failsOn(Violation)}에 해당하는 수
+     */
+    int run(List<Path> javaFiles) throws InterruptedException {
+        return run(javaFiles::forEach);
+    }
+
+    private int run(Consumer<Consumer<Path>> source) throws InterruptedException {
+        int workers = Math.max(1, analyzer.parallelism());
+        BlockingQueue<Path> paths = new ArrayBlockingQueue<>(PATH_QUEUE_CAPACITY);
+        BlockingQueue<FileResult> results = new ArrayBlockingQueue<>(RESULT_QUEUE_CAPACITY);
+
+        Thread scanner = Thread.ofVirtual().start(() -> feed(source, paths, workers));
+        ExecutorService workerPool = Executors.newFixedThreadPool(workers);
+        HeapPressureThrottle.Monitoring monitoring = analyzer.monitorHeap();
+        try {
+            for (int i = 0; i < workers; i++) {
+                workerPool.execute(() -> analyze(paths, results));
+            }
+            int failures = report(results, workers);
+            analyzer.flushCache();
+            analyzer.printSkippedCounts();
+            return failures;
+        } finally {
+            monitoring.close();
+            workerPool.shutdownNow();
+            scanner.interrupt();
+        }
+    }
+
+    private void feed(Consumer<Consumer<Path>> source, BlockingQueue<Path> paths, int workers) {
+        try {
+            source.accept(path -> put(paths, path));
+        } catch (PipelineInterruptedException e) {
+            return;
+        }
+        try {
+            for (int i = 0; i < workers; i++) {
+                put(paths, END_OF_PATHS);
+            }
+        } catch (PipelineInterruptedException e) {
+            // 리포트 단계가 먼저 끝나 파이프라인을 정리하는 중
+        }
+    }
+
+    /**
+     * 워커가 예상하지 못한 오류로 끝나도 리포트 단계가 기다리지 않도록 끝났음을 알립니다. 중단된 경우는 리포트 단계가 먼저 끝나
+     * 파이프라인을 정리하는 중입니다.
+     */
+    private void analyze(BlockingQueue<Path> paths, BlockingQueue<FileResult> results) {
+        try {
+            Path javaFile = paths.take();
+            while (javaFile != END_OF_PATHS) {
+                results.put(new FileResult(javaFile, analyzeSafely(javaFile)));
+                javaFile = paths.take();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (!Thread.currentThread().isInterrupted()) {
+                put(results, END_OF_RESULTS);
+            }
+        }
+    }
+
+    /**
+     * 깊게 중첩된 코드에서 나는 {@link StackOverflowError}도 파일 하나의 실패로 보고 다음 파일을 분석합니다.
+     */
+    private List<Violation> analyzeSafely(Path javaFile) {
+        try {
+            return analyzer.analyzeFile(javaFile);
+        } catch (RuntimeException | StackOverflowError e) {
+            System.err.println("[ERROR] Failed to analyze: " + javaFile + " (" + e + ")");
+            return List.of();
+        }
+    }
+
+    private int report(BlockingQueue<FileResult> results, int workers) throws InterruptedException {
+        int finishedWorkers = 0;
+        int totalViolations = 0;
+        int failures = 0;
+        int filesWithViolations = 0;
+        Map<String, ProfileSummary> profileSummaries = new LinkedHashMap<>();
+        analyzer.profiles().forEach(profile -> profileSummaries.put(profile, new ProfileSummary()));
+        while (finishedWorkers < workers) {
+            FileResult result = results.take();
+            if (result == END_OF_RESULTS) {
+                finishedWorkers++;
+                continue;
+            }
+            if (!result.violations().isEmpty()) {
+                consoleReporter.reportFile(result.filePath(), result.violations());
+                totalViolations += result.violations().size();
+                failures += (int) result.violations().stream().filter(analyzer::failsOn).count();
+                filesWithViolations++;
+                profileSummaries.forEach((profile, summary) -> summary.add(profile, result.violations()));
+            }
+        }
+        if (profileSummaries.isEmpty()) {
+            consoleReporter.reportSummary(totalViolations, filesWithViolations);
+        }
+        profileSummaries.forEach((profile, summary) ->
+                consoleReporter.reportSummary(profile, summary.violations, summary.files));
+        return failures;
+    }
+
+    private static <T> void put(BlockingQueue<T> queue, T item) {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PipelineInterruptedException(e);
+        }
+    }
+
+    private record FileResult(Path filePath, List<Violation> violations) {
+    }
+
+    /**
+     * 규칙 프로필 하나의 위반 사항 수와 위반 사항이 있는 파일 수
+     */
+    private static final class ProfileSummary {
+        private int violations;
+        private int files;
+
+        void add(String profile, List<Violation> fileViolations) {
+            int count = (int) fileViolations.stream().filter(v -> profile.equals(v.profile())).count();
+            if (count > 0) {
+                violations += count;
+                files++;
+            }
+        }
+    }
+
+    private static class PipelineInterruptedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        PipelineInterruptedException(InterruptedException cause) {
+            super("Streaming pipeline interrupted", cause);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package clean.code.report;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -22,15 +23,88 @@ public class ConsoleReporter {
         int filesWithViolations = groupedViolations.size();
         System.out.printf("[FAIL] Found %d violations in %d files!%n%n",
                 totalViolations, filesWithViolations);
-        groupedViolations.forEach((path, violationList) -> {
-            for (Violation v : violationList) {
-                String icon = v.severity().getIcon();
-                System.out.printf("%s %s:%d [%s]%n",
-                        icon,
-                        path.getFileName(), v.line(), v.ruleId());
-                System.out.printf("   - %s%n", v.message());
-            }
-            System.out.println();
-        });
-    }
-}
\ No newline at end of file
+        groupedViolations.forEach(this::reportFile);
+    }
+
+    /**
+     * 규칙 프로필 하나의 리포트를 출력합니다. 여러 프로필을 검사한 경우 프로필마다 호출합니다.
+     */
+    public void reportProfile(String profile, List<Violation> violations) {
+        System.out.printf("%n[INFO] Profile: %s%n", profile);
+        report(violations);
+    }
+
+    /**
+     * 한 파일의 위반 사항을 즉시 출력합니다. (스트리밍 모드에서 파일 분석이 끝날 때마다 호출) 위반 사항에 프로필이 있으면 함께
+     * 출력합니다.
+     */
+    public void reportFile(Path path, List<Violation> violationList) {
+        if (violationList.isEmpty()) {
+            return;
+        }
+        for (Violation v : violationList) {
+            String icon = v.severity().getIcon();
+            System.out.printf("%s %s:%d [%s]%s%n",
+                    icon,
+                    path.getFileName(), v.line(), v.ruleId(), v.profile() == null ? "" : " (" + v.profile() + ")");
+            System.out.printf("   - %s%n", v.message());
+        }
+        System.out.println();
+    }
+
+    /**
+     * 스트리밍 모드에서 모든 파일의 출력이 끝난 뒤 요약을 출력합니다.
+     */
+    public void reportSummary(int totalViolations, int filesWithViolations) {
+        if (totalViolations == 0) {
+            System.out.println("[SUCCESS] No violations found!");
+            return;
+        }
+        System.out.printf("[FAIL] Found %d violations in %d files!%n", totalViolations, filesWithViolations);
+    }
+
+    /**
+     * 스트리밍 모드에서 규칙 프로필 하나의 요약을 출력합니다.
+     */
+    public void reportSummary(String profile, int totalViolations, int filesWithViolations) {
+        System.out.printf("[INFO] Profile: %s%n", profile);
+        reportSummary(totalViolations, filesWithViolations);
+    }
+
+    /**
+     * 파일 하나의 분석 한도를 넘어 검사하지 않은 파일을 출력합니다. 건너뛴 파일이 없으면 아무것도 출력하지 않습니다.
+     */
+    public void reportSkipped(List<SkippedFile> skippedFiles) {
+        if (skippedFiles.isEmpty()) {
+            return;
+        }
+        System.out.printf("[WARN] Skipped %d files (budget exceeded)%n", skippedFiles.size());
+        skippedFiles.stream()
+                .sorted(Comparator.comparing(SkippedFile::filePath))
+                .forEach(skipped -> System.out.printf("   - %s (%s)%n", skipped.filePath(), skipped.reason()));
+    }
+
+    /**
+     * 표본 분석의 추정치를 출력합니다. 규칙별 추정치는 추정한 위반 사항 수가 많은 순서로, 파일당 위반 사항 수와 함께 출력합니다.
+     *
+     * @param sampledFiles 분석한 파일 수
+     * @param totalFiles   스캔한 전체 파일 수
+     */
+    public void reportEstimates(int sampledFiles, int totalFiles, int strata, long seed, long elapsedMillis,
+                                ViolationEstimate total, List<ViolationEstimate> perRule) {
+        System.out.printf("[INFO] Sampled %d of %d files (%.1f%%, %d size strata, seed %d) in %d ms%n", sampledFiles,
+                totalFiles, totalFiles == 0 ? 0.0 : 100.0 * sampledFiles / totalFiles, strata, seed, elapsedMillis);
+        System.out.printf("[ESTIMATE] %s%n%n", formatEstimate(total, totalFiles));
+        perRule.stream()
+                .sorted(Comparator.comparingDouble(ViolationEstimate::total).reversed())
+                .forEach(estimate -> System.out.printf("   - %s: %s%n", estimate.ruleId(),
+                        formatEstimate(estimate, totalFiles)));
+    }
+
+    private static String formatEstimate(ViolationEstimate estimate, int totalFiles) {
+        String perFile = totalFiles == 0 ? "0" : String.format("%.2f", estimate.total() / totalFiles);
+        return String.format("%,.0f violations (95%% CI %,.0f - %,.0f, ±%.1f%%), %s per file",
+                estimate.total(), estimate.low(), estimate.high(),
+                estimate.total() == 0 ? 0.0 : 100 * estimate.halfWidth() / estimate.total(), perFile);
+    }
+}
@@ -0,0 +1,12 @@
+package clean.code.report;
+
+import java.nio.file.Path;
+
+/**
+ * 분석 한도를 넘어 검사하지 않은 파일
+ *
+ * @param filePath 파일 경로
+ * @param reason   넘은 한도 (예: {@code parse time > 10000 ms})
+ */
+public record SkippedFile(Path filePath, String reason) {
+}
@@ -5,6 +5,16 @@ import java.nio.file.Path;
 
 /**
  * 코드 위반 사항을 나타내는 데이터 객체 (DTO)
+ *
+ * @param profile 위반 사항을 찾은 규칙 프로필의 이름. 프로필을 하나만 검사하면 {@code null}입니다.
  */
-public record Violation(Path filePath, int line, String ruleId, String message, Severity severity) {
-}
\ No newline at end of file
+public record Violation(Path filePath, int line, String ruleId, String message, Severity severity, String profile) {
+
+    public Violation(Path filePath, int line, String ruleId, String message, Severity severity) {
+        this(filePath, line, ruleId, message, severity, null);
+    }
+
+    public Violation withProfile(String profile) {
+        return new Violation(filePath, line, ruleId, message, severity, profile);
+    }
+}
@@ -0,0 +1,19 @@
+package clean.code.report;
+
+/**
+ * 표본으로 추정한 전체 위반 사항 수
+ *
+ * @param ruleId    규칙 ID. 여러 프로필을 검사하면 {@code 규칙 (프로필)} 형식이고, 모든 규칙의 합계는 {@code null}입니다.
+ * @param total     전체 파일의 위반 사항 수 추정치
+ * @param halfWidth 95% 신뢰구간의 반폭
+ */
+public record ViolationEstimate(String ruleId, double total, double halfWidth) {
+
+    public double low() {
+        return Math.max(0, total - halfWidth);
+    }
+
+    public double high() {
+        return total + halfWidth;
+    }
+}
@@ -0,0 +1,289 @@
+package clean.code.rules;
+
+import java.util.Arrays;
+
+/**
+ * Java 소스를 {@link TokenStream}으로 나누는 어휘 분석기
+ * <p>
+ * 소스를 한 번만 읽으며, 토큰 배열 외에는 객체를 만들지 않습니다. 연산자는 가장 긴 것부터 맞추고, 유니코드 이스케이프는 JavaParser의
+ * 기본 설정과 같이 변환하지 않습니다.
+ */
+final class JavaTokenizer {
+    private static final String[] OPERATORS = {
+            ">>>=", "<<=", ">>=", ">>>", "...", "->", "::", "++", "--", "&&", "||", "==", "!=", "<=", ">=",
+            "+=", "-=", "*=", "/=", "&=", "|=", "^=", "%=", "<<", ">>"
+    };
+    private static final String SINGLE_CHAR_SYMBOLS = "(){}[];,@?~";
+    private static final String OPENING_BRACKETS = "([{";
+    private static final String CLOSING_BRACKETS = ")]}";
+
+    private final String source;
+    private final int length;
+    private byte[] kinds;
+    private int[] starts;
+    private int[] ends;
+    private int[] lines;
+    private int[] partners;
+    private int size;
+    private int[] openBrackets = new int[16];
+    private int openCount;
+    private int position;
+    private int line = 1;
+
+    JavaTokenizer(String source) {
+        this.source = source;
+        this.length = source.length();
+        int capacity = Math.max(16, length / 6);
+        this.kinds = new byte[capacity];
+        this.starts = new int[capacity];
+        this.ends = new int[capacity];
+        this.lines = new int[capacity];
+        this.partners = new int[capacity];
+    }
+
+    TokenStream tokenize() {
+        while (position < length) {
+            char c = source.charAt(position);
+            if (c == '\n' || c == '\r') {
+                skipLineTerminator(c);
+            } else if (c == ' ' || c == '\t' || c == '\f' || c == '\uFEFF' || Character.isWhitespace(c)) {
+                position++;
+            } else if (c == '/' && peek(1) == '/') {
+                skipLineComment();
+            } else if (c == '/' && peek(1) == '*') {
+                skipBlockComment();
+            } else {
+                int start = position;
+                int startLine = line;
+                add(scanToken(c), start, startLine);
+            }
+        }
+        return new TokenStream(source, kinds, starts, ends, lines, partners, size);
+    }
+
+    private TokenStream.Kind scanToken(char c) {
+        if (Character.isJavaIdentifierStart(c)) {
+            position++;
+            while (position < length && Character.isJavaIdentifierPart(source.charAt(position))) {
+                position++;
+            }
+            return TokenStream.Kind.WORD;
+        }
+        if (isDigit(c) || (c == '.' && isDigit(peek(1)))) {
+            return scanNumber(c);
+        }
+        if (c == '"') {
+            return source.startsWith("\"\"\"", position) ? scanTextBlock() : scanQuoted('"', TokenStream.Kind.STRING);
+        }
+        if (c == '\'') {
+            return scanQuoted('\'', TokenStream.Kind.CHARACTER);
+        }
+        return scanSymbol(c);
+    }
+
+    private TokenStream.Kind scanNumber(char first) {
+        boolean floating = false;
+        char radix = Character.toLowerCase(peek(1));
+        if (first == '0' && radix == 'x') {
+            position += 2;
+            skipWhile("0123456789abcdefABCDEF_");
+            if (peek(0) == '.') {
+                floating = true;
+                position++;
+                skipWhile("0123456789abcdefABCDEF_");
+            }
+            if (Character.toLowerCase(peek(0)) == 'p') {
+                floating = true;
+                skipExponent();
+            }
+        } else if (first == '0' && radix == 'b') {
+            position += 2;
+            skipWhile("01_");
+        } else {
+            skipWhile("0123456789_");
+            if (peek(0) == '.') {
+                floating = true;
+                position++;
+                skipWhile("0123456789_");
+            }
+            if (Character.toLowerCase(peek(0)) == 'e') {
+                floating = true;
+                skipExponent();
+            }
+        }
+        char suffix = Character.toLowerCase(peek(0));
+        if (suffix == 'l') {
+            position++;
+            return TokenStream.Kind.LONG;
+        }
+        if (suffix == 'f' || suffix == 'd') {
+            position++;
+            return TokenStream.Kind.FLOATING;
+        }
+        return floating ? TokenStream.Kind.FLOATING : TokenStream.Kind.INTEGER;
+    }
+
+    private void skipExponent() {
+        position++;
+        if (peek(0) == '+' || peek(0) == '-') {
+            position++;
+        }
+        skipWhile("0123456789_");
+    }
+
+    /**
+     * 문자열 또는 문자 리터럴. 리터럴 안에서는 줄을 바꿀 수 없습니다.
+     */
+    private TokenStream.Kind scanQuoted(char quote, TokenStream.Kind kind) {
+        int startLine = line;
+        position++;
+        while (position < length) {
+            char c = source.charAt(position);
+            if (c == '\n' || c == '\r') {
+                break;
+            }
+            if (c == quote) {
+                position++;
+                return kind;
+            }
+            position += c == '\\' && !isLineTerminator(peek(1)) ? 2 : 1;
+        }
+        throw new IllegalArgumentException("닫히지 않은 리터럴이 있습니다. (line " + startLine + ")");
+    }
+
+    private TokenStream.Kind scanTextBlock() {
+        int startLine = line;
+        position += 3;
+        while (position < length) {
+            char c = source.charAt(position);
+            if (source.startsWith("\"\"\"", position)) {
+                position += 3;
+                return TokenStream.Kind.TEXT_BLOCK;
+            }
+            if (c == '\\') {
+                position++;
+                c = peek(0);
+            }
+            if (c == '\n' || c == '\r') {
+                skipLineTerminator(c);
+            } else {
+                position++;
+            }
+        }
+        throw new IllegalArgumentException("닫히지 않은 텍스트 블록이 있습니다. (line " + startLine + ")");
+    }
+
+    private TokenStream.Kind scanSymbol(char c) {
+        if (SINGLE_CHAR_SYMBOLS.indexOf(c) < 0) {
+            for (String operator : OPERATORS) {
+                if (operator.charAt(0) == c && source.startsWith(operator, position)) {
+                    position += operator.length();
+                    return TokenStream.Kind.SYMBOL;
+                }
+            }
+        }
+        position++;
+        return TokenStream.Kind.SYMBOL;
+    }
+
+    private void skipLineComment() {
+        while (position < length && !isLineTerminator(source.charAt(position))) {
+            position++;
+        }
+    }
+
+    private void skipBlockComment() {
+        int startLine = line;
+        position += 2;
+        while (position < length) {
+            char c = source.charAt(position);
+            if (c == '*' && peek(1) == '/') {
+                position += 2;
+                return;
+            }
+            if (c == '\n' || c == '\r') {
+                skipLineTerminator(c);
+            } else {
+                position++;
+            }
+        }
+        throw new IllegalArgumentException("닫히지 않은 주석이 있습니다. (line " + startLine + ")");
+    }
+
+    /**
+     * JavaParser와 같이 \r\n, \r, \n을 각각 하나의 줄바꿈으로 셉니다.
+     */
+    private void skipLineTerminator(char c) {
+        position++;
+        if (c == '\r' && peek(0) == '\n') {
+            position++;
+        }
+        line++;
+    }
+
+    private void skipWhile(String allowed) {
+        while (position < length && allowed.indexOf(source.charAt(position)) >= 0) {
+            position++;
+        }
+    }
+
+    private char peek(int offset) {
+        int index = position + offset;
+        return index < length ? source.charAt(index) : '\0';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r';
+    }
+
+    private void add(TokenStream.Kind kind, int start, int startLine) {
+        if (size == kinds.length) {
+            grow();
+        }
+        kinds[size] = (byte) kind.ordinal();
+        starts[size] = start;
+        ends[size] = position;
+        lines[size] = startLine;
+        partners[size] = -1;
+        if (kind == TokenStream.Kind.SYMBOL && position - start == 1) {
+            linkBracket(source.charAt(start));
+        }
+        size++;
+    }
+
+    /**
+     * 여는 괄호는 스택에 넣고, 닫는 괄호는 스택 맨 위의 같은 종류 괄호와 서로 연결합니다.
+     */
+    private void linkBracket(char c) {
+        if (OPENING_BRACKETS.indexOf(c) >= 0) {
+            if (openCount == openBrackets.length) {
+                openBrackets = Arrays.copyOf(openBrackets, openCount * 2);
+            }
+            openBrackets[openCount++] = size;
+            return;
+        }
+        int type = CLOSING_BRACKETS.indexOf(c);
+        if (type < 0 || openCount == 0) {
+            return;
+        }
+        int open = openBrackets[openCount - 1];
+        if (source.charAt(starts[open]) == OPENING_BRACKETS.charAt(type)) {
+            openCount--;
+            partners[open] = size;
+            partners[size] = open;
+        }
+    }
+
+    private void grow() {
+        int capacity = kinds.length * 2;
+        kinds = Arrays.copyOf(kinds, capacity);
+        starts = Arrays.copyOf(starts, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+        lines = Arrays.copyOf(lines, capacity);
+        partners = Arrays.copyOf(partners, capacity);
+    }
+}
@@ -0,0 +1,46 @@
+package clean.code.rules;
+
+import clean.code.report.Violation;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 관심 있는 노드 타입을 선언하고, 파일당 한 번의 순회({@link RuleDispatcher})에서 해당 노드만 전달받는 규칙
+ * <p>
+ * 노드는 AST 대신 {@link SourceSkeleton}의 위치로 전달합니다. 노드의 정보는 골격에서 읽습니다.
+ */
+public interface NodeRule extends Rule {
+
+    /**
+     * 이 규칙이 전달받을 노드 타입. {@link RuleDispatcher#SUPPORTED_NODE_TYPES} 중에서 선택해야 합니다.
+     */
+    Set<Class<? extends Node>> nodeTypes();
+
+    /**
+     * 이 규칙이 메서드/생성자 안에서 보고하는 위반 사항이 그 선언의 소스만으로 결정되는지 여부. {@code true}이면 내용이 바뀌지 않은
+     * 메서드는 이전 결과를 재사용할 수 있습니다.
+     */
+    default boolean isMemberScoped() {
+        return false;
+    }
+
+    /**
+     * 노드의 자식을 방문하기 전에 호출됩니다.
+     */
+    default void enter(SourceSkeleton skeleton, int node, Path filePath, List<Violation> collector) {
+    }
+
+    /**
+     * 노드의 자식을 모두 방문한 후에 호출됩니다.
+     */
+    default void leave(SourceSkeleton skeleton, int node, Path filePath, List<Violation> collector) {
+    }
+
+    @Override
+    default List<Violation> check(Path filePath, CompilationUnit ast) {
+        return new RuleDispatcher(List.of(this)).dispatch(filePath, ast).getFirst();
+    }
+}
@@ -0,0 +1,59 @@
+package clean.code.rules;
+
+import com.github.javaparser.ParserConfiguration.LanguageLevel;
+
+/**
+ * 규칙이 파싱 결과에서 필요로 하는 정보
+ *
+ * @param scope         파싱해야 하는 소스 범위
+ * @param syntaxTree    AST가 필요한지 여부. 필요 없으면 {@link TokenStream}만 만듭니다.
+ * @param comments      주석이 노드에 연결되어 있어야 하는지 여부
+ * @param positions     노드의 위치(라인/열)가 필요한지 여부. JavaParser는 토큰을 저장해야 위치를 계산할 수 있습니다.
+ * @param languageLevel 규칙이 다루는 문법을 파싱할 수 있는 최소 언어 수준
+ */
+public record ParseRequirements(Scope scope, boolean syntaxTree, boolean comments, boolean positions,
+                                LanguageLevel languageLevel) {
+
+    /**
+     * 위치만 필요한 규칙의 요구 사항. 위반 사항에 라인을 기록하는 대부분의 규칙이 해당합니다.
+     */
+    public static final ParseRequirements POSITIONS_ONLY =
+            new ParseRequirements(Scope.FULL, true, false, true, LanguageLevel.POPULAR);
+
+    /**
+     * 파일 전체의 토큰만 보는 규칙({@link TokenRule})의 요구 사항
+     */
+    public static final ParseRequirements TOKENS_ONLY =
+            new ParseRequirements(Scope.FULL, false, false, false, LanguageLevel.POPULAR);
+
+    /**
+     * package/import 선언의 토큰만 보는 규칙의 요구 사항
+     */
+    public static final ParseRequirements HEADER_TOKENS_ONLY =
+            new ParseRequirements(Scope.HEADER, false, false, false, LanguageLevel.POPULAR);
+
+    /**
+     * 두 요구 사항을 모두 만족하는 요구 사항을 반환합니다.
+     */
+    public ParseRequirements merge(ParseRequirements other) {
+        Scope mergedScope = scope.ordinal() >= other.scope.ordinal() ? scope : other.scope;
+        LanguageLevel level = languageLevel.ordinal() >= other.languageLevel.ordinal()
+                ? languageLevel : other.languageLevel;
+        return new ParseRequirements(mergedScope, syntaxTree || other.syntaxTree, comments || other.comments,
+                positions || other.positions, level);
+    }
+
+    /**
+     * 파싱 범위. 뒤에 오는 범위가 앞의 범위를 포함합니다.
+     */
+    public enum Scope {
+        /**
+         * package 선언과 import 선언까지
+         */
+        HEADER,
+        /**
+         * 파일 전체
+         */
+        FULL
+    }
+}
@@ -0,0 +1,51 @@
+package clean.code.rules;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 규칙을 적용할 파일인지 판단하는 경로 조건
+ * <p>
+ * {@code required}의 묶음마다 하나 이상의 glob에 맞고, {@code excluded}의 어떤 glob에도 맞지 않으면 적용합니다. glob은
+ * {@link #compile(String, Map)}로 한 번만 컴파일해 같은 glob을 쓰는 조건끼리 공유합니다.
+ */
+final class PathFilter {
+    private static final String GLOB_CHARACTERS = "*?[{";
+
+    private final List<List<PathMatcher>> required;
+    private final List<PathMatcher> excluded;
+
+    PathFilter(List<List<PathMatcher>> required, List<PathMatcher> excluded) {
+        this.required = required;
+        this.excluded = excluded;
+    }
+
+    boolean matches(Path file) {
+        for (List<PathMatcher> anyOf : required) {
+            if (anyOf.stream().noneMatch(matcher -> matcher.matches(file))) {
+                return false;
+            }
+        }
+        return excluded.stream().noneMatch(matcher -> matcher.matches(file));
+    }
+
+    /**
+     * 설정의 glob을 컴파일합니다. 경로 어디에서 시작해도 맞도록 상대 glob 앞에 {@code **}를 붙이고, 와일드카드가 없고
+     * {@code .java}로 끝나지 않는 glob은 그 디렉토리 아래의 모든 파일로 봅니다. ({@code src/test} → {@code src/test/**})
+     */
+    static PathMatcher compile(String glob, Map<String, PathMatcher> compiled) {
+        return compiled.computeIfAbsent(glob, key -> {
+            String pattern = key.endsWith("/") ? key.substring(0, key.length() - 1) : key;
+            if (pattern.chars().noneMatch(c -> GLOB_CHARACTERS.indexOf(c) >= 0) && !pattern.endsWith(".java")) {
+                pattern = pattern + "/**";
+            }
+            if (!pattern.startsWith("/") && !pattern.startsWith("**")) {
+                pattern = "{" + pattern + ",**/" + pattern + "}";
+            }
+            return FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        });
+    }
+}
@@ -20,4 +20,11 @@ public interface Rule {
     List<Violation> check(Path filePath, CompilationUnit ast);
 
     Severity getSeverity();
+
+    /**
+     * 이 규칙이 파싱 결과에서 필요로 하는 정보. 활성화된 규칙들의 요구 사항을 합쳐 파서 설정을 정합니다.
+     */
+    default ParseRequirements parseRequirements() {
+        return ParseRequirements.POSITIONS_ONLY;
+    }
 }
\ No newline at end of file
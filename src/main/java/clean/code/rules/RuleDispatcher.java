@@ -0,0 +1,250 @@
+package clean.code.rules;
+
+import clean.code.report.Violation;
+import clean.code.rules.SourceSkeleton.Kind;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 여러 {@link NodeRule}을 한 번의 순회로 검사하는 디스패처
+ * <p>
+ * AST 대신 {@link SourceSkeleton}을 순회합니다. 골격의 노드는 AST 방문 순서({@link VoidVisitorAdapter})대로 기록되어 있으므로, 각
+ * 규칙이 받는 노드의 순서는 AST를 규칙마다 따로 순회할 때와 동일합니다.
+ */
+public class RuleDispatcher {
+
+    public static final Set<Class<? extends Node>> SUPPORTED_NODE_TYPES = Arrays.stream(Kind.values())
+            .map(Kind::nodeType)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toUnmodifiableSet());
+    private static final int[] NO_SUBSCRIBERS = new int[0];
+
+    private final List<NodeRule> rules;
+    private final int[][] subscribers;
+    private final int[] memberScopedRules;
+    private final boolean[] memberScoped;
+
+    public RuleDispatcher(List<NodeRule> rules) {
+        this.rules = List.copyOf(rules);
+        this.subscribers = indexSubscribers(this.rules);
+        this.memberScopedRules = IntStream.range(0, this.rules.size())
+                .filter(i -> this.rules.get(i).isMemberScoped())
+                .toArray();
+        this.memberScoped = new boolean[this.rules.size()];
+        for (int i : memberScopedRules) {
+            memberScoped[i] = true;
+        }
+    }
+
+    /**
+     * AST에서 골격을 만들어 각 규칙의 위반 사항을 모읍니다.
+     *
+     * @return 생성자에 전달된 규칙 순서와 같은 순서의 규칙별 위반 사항
+     */
+    public List<List<Violation>> dispatch(Path filePath, CompilationUnit ast) {
+        return dispatch(filePath, SourceSkeleton.of(ast), null);
+    }
+
+    /**
+     * 골격을 한 번 순회하며 각 규칙의 위반 사항을 모읍니다.
+     *
+     * @return 생성자에 전달된 규칙 순서와 같은 순서의 규칙별 위반 사항
+     */
+    public List<List<Violation>> dispatch(Path filePath, SourceSkeleton skeleton) {
+        return dispatch(filePath, skeleton, null);
+    }
+
+    /**
+     * 골격을 한 번 순회하되, 메서드/생성자 하위에서 {@link NodeRule#isMemberScoped()} 규칙의 결과를 {@code memberResults}에서
+     * 재사용합니다. 재사용한 하위에서도 나머지 규칙은 평소처럼 노드를 전달받고, 나머지 규칙이 받을 노드가 없던 하위는 순회하지
+     * 않습니다. 순회 중인 스레드가 인터럽트되면 메서드/생성자 단위로 멈추고 {@link java.util.concurrent.CancellationException}을
+     * 던집니다.
+     *
+     * @param memberResults 메서드/생성자 단위 결과 저장소. {@code null}이면 모든 규칙을 그대로 적용합니다.
+     * @return 생성자에 전달된 규칙 순서와 같은 순서의 규칙별 위반 사항
+     */
+    public List<List<Violation>> dispatch(Path filePath, SourceSkeleton skeleton, MemberResults memberResults) {
+        List<List<Violation>> collectors = new ArrayList<>(rules.size());
+        for (int i = 0; i < rules.size(); i++) {
+            collectors.add(new ArrayList<>());
+        }
+        if (!rules.isEmpty()) {
+            new DispatchWalk(filePath, skeleton, collectors, memberResults).walkAll();
+        }
+        return collectors;
+    }
+
+    /**
+     * 골격 노드 종류별로 그 종류를 구독하는 규칙의 위치를 모읍니다.
+     */
+    private static int[][] indexSubscribers(List<NodeRule> rules) {
+        Map<Class<? extends Node>, List<Integer>> indices = new HashMap<>();
+        for (int i = 0; i < rules.size(); i++) {
+            for (Class<? extends Node> type : rules.get(i).nodeTypes()) {
+                if (!SUPPORTED_NODE_TYPES.contains(type)) {
+                    throw new IllegalArgumentException("Unsupported node type for dispatch: " + type.getSimpleName());
+                }
+                indices.computeIfAbsent(type, key -> new ArrayList<>()).add(i);
+            }
+        }
+        int[][] result = new int[Kind.values().length][];
+        for (Kind kind : Kind.values()) {
+            List<Integer> list = indices.get(kind.nodeType());
+            result[kind.ordinal()] = list == null
+                    ? NO_SUBSCRIBERS
+                    : list.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return result;
+    }
+
+    /**
+     * 메서드/생성자 단위로 member-scoped 규칙의 결과를 저장하고 재사용하는 저장소
+     * <p>
+     * 규칙별 위반 사항 리스트는 디스패처에 전달된 규칙 중 member-scoped 규칙만, 같은 순서로 담습니다.
+     */
+    public interface MemberResults {
+
+        /**
+         * 이 메서드/생성자의 결과를 이미 알고 있으면 반환합니다. 비어 있으면 하위를 검사한 뒤 {@link #record}로 결과를 전달합니다.
+         * 메서드/생성자 안에 중첩된 메서드/생성자에 대해서는 호출하지 않습니다.
+         */
+        Optional<MemberResult> find(SourceSkeleton skeleton, int member);
+
+        void record(SourceSkeleton skeleton, int member, MemberResult result);
+    }
+
+    /**
+     * 메서드/생성자 하나에 대한 member-scoped 규칙의 결과
+     *
+     * @param violations 규칙별 위반 사항
+     * @param traverse   하위에 나머지 규칙이 전달받는 노드(중첩 클래스, 익명 클래스의 메서드 등)가 있어 재사용할 때도 순회해야 하는지 여부
+     */
+    public record MemberResult(List<List<Violation>> violations, boolean traverse) {
+    }
+
+    private class DispatchWalk {
+        private final Path filePath;
+        private final SourceSkeleton skeleton;
+        private final List<List<Violation>> collectors;
+        private final MemberResults memberResults;
+        private int currentMember = -1;
+        private boolean memberReused;
+        private int[] memberStarts;
+        private boolean otherRulesNotified;
+
+        DispatchWalk(Path filePath, SourceSkeleton skeleton, List<List<Violation>> collectors,
+                     MemberResults memberResults) {
+            this.filePath = filePath;
+            this.skeleton = skeleton;
+            this.collectors = collectors;
+            this.memberResults = memberScopedRules.length == 0 ? null : memberResults;
+        }
+
+        void walkAll() {
+            for (int node = 0; node < skeleton.size(); node = skeleton.end(node)) {
+                walk(node);
+            }
+        }
+
+        private void walk(int node) {
+            Kind kind = skeleton.kind(node);
+            boolean isMember = kind == Kind.CONSTRUCTOR || kind == Kind.METHOD;
+            if (isMember && Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Rule dispatch interrupted: " + filePath);
+            }
+            boolean traverse = !isMember || beginMember(node);
+            int[] targets = enter(node, kind);
+            if (traverse) {
+                for (int child = node + 1; child < skeleton.end(node); child = skeleton.end(child)) {
+                    walk(child);
+                }
+            }
+            leave(node, targets);
+            if (isMember) {
+                endMember(node);
+            }
+        }
+
+        /**
+         * 가장 바깥쪽 메서드/생성자에 들어갈 때, 저장된 결과가 있으면 member-scoped 규칙의 결과를 미리 붙이고 하위에서는 해당 규칙을
+         * 건너뜁니다. 없으면 하위에서 모일 결과의 시작 위치를 기억합니다.
+         *
+         * @return 하위를 순회해야 하는지 여부
+         */
+        private boolean beginMember(int node) {
+            if (memberResults == null || currentMember >= 0) {
+                return true;
+            }
+            currentMember = node;
+            otherRulesNotified = false;
+            Optional<MemberResult> known = memberResults.find(skeleton, node);
+            memberReused = known.isPresent();
+            if (memberReused) {
+                for (int i = 0; i < memberScopedRules.length; i++) {
+                    collectors.get(memberScopedRules[i]).addAll(known.get().violations().get(i));
+                }
+                return known.get().traverse();
+            }
+            memberStarts = new int[memberScopedRules.length];
+            for (int i = 0; i < memberScopedRules.length; i++) {
+                memberStarts[i] = collectors.get(memberScopedRules[i]).size();
+            }
+            return true;
+        }
+
+        private void endMember(int node) {
+            if (node != currentMember) {
+                return;
+            }
+            if (!memberReused) {
+                List<List<Violation>> violations = new ArrayList<>(memberScopedRules.length);
+                for (int i = 0; i < memberScopedRules.length; i++) {
+                    List<Violation> collector = collectors.get(memberScopedRules[i]);
+                    violations.add(List.copyOf(collector.subList(memberStarts[i], collector.size())));
+                }
+                memberResults.record(skeleton, node, new MemberResult(violations, otherRulesNotified));
+            }
+            currentMember = -1;
+            memberReused = false;
+        }
+
+        private boolean skips(int target) {
+            return memberReused && memberScoped[target];
+        }
+
+        private int[] enter(int node, Kind kind) {
+            int[] targets = subscribers[kind.ordinal()];
+            for (int target : targets) {
+                if (skips(target)) {
+                    continue;
+                }
+                if (!memberScoped[target] && currentMember >= 0 && node != currentMember) {
+                    otherRulesNotified = true;
+                }
+                rules.get(target).enter(skeleton, node, filePath, collectors.get(target));
+            }
+            return targets;
+        }
+
+        private void leave(int node, int[] targets) {
+            for (int target : targets) {
+                if (!skips(target)) {
+                    rules.get(target).leave(skeleton, node, filePath, collectors.get(target));
+                }
+            }
+        }
+    }
+}
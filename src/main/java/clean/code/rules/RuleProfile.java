@@ -0,0 +1,17 @@
+package clean.code.rules;
+
+import java.util.List;
+
+/**
+ * 이름이 붙은 규칙 묶음. 같은 규칙도 프로필마다 다른 임계값으로 만들 수 있습니다.
+ *
+ * @param name  프로필 이름
+ * @param rules 프로필에서 활성화된 규칙
+ * @param scope 규칙 인스턴스별로 적용할 파일의 경로 조건
+ */
+public record RuleProfile(String name, List<Rule> rules, RuleScope scope) {
+
+    public RuleProfile(String name, List<Rule> rules) {
+        this(name, rules, RuleScope.unscoped());
+    }
+}
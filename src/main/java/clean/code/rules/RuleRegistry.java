@@ -2,6 +2,7 @@ package clean.code.rules;
 
 import clean.code.config.AppRuleConfig;
 import clean.code.config.RuleConfig;
+import clean.code.config.RuleOverride;
 import clean.code.rules.cleancode.IndentDepthRule;
 import clean.code.rules.cleancode.InstanceVarCountRule;
 import clean.code.rules.cleancode.LawOfDemeterRule;
@@ -18,9 +19,16 @@ import clean.code.rules.style.NamingConventionRule;
 import clean.code.rules.style.NoFinalizerRule;
 import clean.code.rules.style.NoWildcardImportRule;
 import clean.code.rules.style.OverloadGroupingRule;
+import java.nio.file.PathMatcher;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 public class RuleRegistry {
 
@@ -34,54 +42,158 @@ public class RuleRegistry {
     private static final int DEFAULT_PRIMITIVE_WRAP_COUNT = 2;
 
     private final AppRuleConfig config;
+    private final Map<String, PathMatcher> sourceSets;
 
     public RuleRegistry(AppRuleConfig config) {
+        this(config, Map.of());
+    }
+
+    /**
+     * @param sourceSets 경로별 설정의 {@code sourceSet}에 적는 이름별로, 파일이 그 소스 묶음에 속하는지 판단하는 조건
+     */
+    public RuleRegistry(AppRuleConfig config, Map<String, PathMatcher> sourceSets) {
         this.config = config;
+        this.sourceSets = sourceSets;
+    }
+
+    /**
+     * 설정 파일의 프로필마다 규칙을 만듭니다. 프로필이 없으면 비어 있습니다.
+     */
+    public List<RuleProfile> getProfiles() {
+        List<RuleProfile> profiles = new ArrayList<>();
+        config.resolvedProfiles().forEach((name, profileConfig) -> {
+            ScopedRules scoped = new RuleRegistry(profileConfig, sourceSets).getScopedRules();
+            profiles.add(new RuleProfile(name, scoped.rules(), scoped.scope()));
+        });
+        return profiles;
     }
 
+    /**
+     * 경로와 관계없이 전역 설정으로 활성화된 규칙을 만듭니다. 규칙별 include/exclude와 경로별 설정은 무시합니다.
+     */
     public List<Rule> getActiveRules() {
         List<Rule> activeRules = new ArrayList<>();
-        addRuleIfEnabled(activeRules, "IndentDepth",
+        factories().forEach((ruleId, factory) -> {
+            RuleConfig ruleConfig = config.getRuleConfig(ruleId);
+            if (ruleConfig.isEnabled()) {
+                activeRules.add(factory.apply(new ConfigWrapper(ruleConfig)));
+            }
+        });
+        return activeRules;
+    }
+
+    /**
+     * 규칙별 include/exclude와 경로별 설정({@link RuleOverride})을 반영한 규칙을 만듭니다.
+     * <p>
+     * 경로별 설정이 있는 규칙은 전역 설정과 경로별 설정마다 인스턴스를 만들고, 한 파일에는 그중 하나만 적용되도록 경로 조건을 붙입니다.
+     * 전역 설정의 인스턴스는 그 규칙을 바꾸는 모든 경로별 설정의 경로를, 경로별 설정의 인스턴스는 뒤에 적힌 경로별 설정의 경로를
+     * 제외합니다. 경로별 설정에 소스 묶음이 있으면 경로와 소스 묶음이 모두 맞는 파일을 그 설정의 경로로 봅니다. 같은 규칙의
+     * 인스턴스는 이웃하므로 결과는 규칙 등록 순서를 따릅니다.
+     */
+    public ScopedRules getScopedRules() {
+        Map<String, PathMatcher> compiled = new HashMap<>();
+        List<RuleOverride> overrides = config.pathOverrides();
+        Map<RuleOverride, PathMatcher> conditions = new IdentityHashMap<>();
+        overrides.forEach(override -> conditions.put(override, conditionOf(override, compiled)));
+        List<Rule> rules = new ArrayList<>();
+        Map<Rule, PathFilter> filters = new IdentityHashMap<>();
+        factories().forEach((ruleId, factory) -> {
+            List<RuleOverride> touching = overrides.stream()
+                    .filter(override -> override.rules() != null && override.rules().containsKey(ruleId))
+                    .toList();
+            for (int i = -1; i < touching.size(); i++) {
+                RuleConfig ruleConfig = i < 0 ? config.getRuleConfig(ruleId) : touching.get(i).rules().get(ruleId);
+                if (ruleConfig == null || !ruleConfig.isEnabled()) {
+                    continue;
+                }
+                List<List<PathMatcher>> required = new ArrayList<>();
+                if (i >= 0) {
+                    required.add(List.of(conditions.get(touching.get(i))));
+                }
+                if (ruleConfig.include() != null && !ruleConfig.include().isEmpty()) {
+                    required.add(compileAll(ruleConfig.include(), compiled));
+                }
+                List<PathMatcher> excluded = new ArrayList<>(compileAll(ruleConfig.exclude(), compiled));
+                touching.subList(i + 1, touching.size())
+                        .forEach(later -> excluded.add(conditions.get(later)));
+                Rule rule = factory.apply(new ConfigWrapper(ruleConfig));
+                rules.add(rule);
+                if (!required.isEmpty() || !excluded.isEmpty()) {
+                    filters.put(rule, new PathFilter(required, excluded));
+                }
+            }
+        });
+        return new ScopedRules(rules, filters.isEmpty() ? RuleScope.unscoped() : new RuleScope(filters));
+    }
+
+    /**
+     * 규칙 ID별로 설정에서 규칙을 만드는 함수. 등록 순서가 검사와 출력 순서입니다.
+     */
+    private Map<String, Function<ConfigWrapper, Rule>> factories() {
+        Map<String, Function<ConfigWrapper, Rule>> factories = new LinkedHashMap<>();
+        factories.put("IndentDepth",
                 (c) -> new IndentDepthRule(c.max(DEFAULT_INDENT_DEPTH), DEFAULT_INDENT_SIZE, Severity.HIGH)); // 🔴
-        addRuleIfEnabled(activeRules, "InstanceVarCount",
+        factories.put("InstanceVarCount",
                 (c) -> new InstanceVarCountRule(c.max(DEFAULT_INSTANCE_VAR_COUNT), Severity.MEDIUM)); // 🟠
-        addRuleIfEnabled(activeRules, "MethodLength",
+        factories.put("MethodLength",
                 (c) -> new MethodLengthRule(c.max(DEFAULT_METHOD_LENGTH_LIMIT), Severity.HIGH)); // 🔴
-        addRuleIfEnabled(activeRules, "MethodParameter",
+        factories.put("MethodParameter",
                 (c) -> new MethodParameterRule(c.max(DEFAULT_METHOD_PARAM_COUNT), Severity.HIGH)); // 🔴
-        addRuleIfEnabled(activeRules, "NoElse", () -> new NoElseRule(Severity.MEDIUM)); // 🟠
-        addRuleIfEnabled(activeRules, "LawOfDemeter",
+        factories.put("NoElse", (c) -> new NoElseRule(Severity.MEDIUM)); // 🟠
+        factories.put("LawOfDemeter",
                 (c) -> new LawOfDemeterRule(c.max(DEFAULT_DOT_COUNT), Severity.MEDIUM)); // 🟠
-        addRuleIfEnabled(activeRules, "NoHardcoding", () -> new NoHardcodingRule(Severity.MEDIUM)); // 🟠
-        addRuleIfEnabled(activeRules, "NamingConvention", () -> new NamingConventionRule(Severity.HIGH)); // 🔴
-        addRuleIfEnabled(activeRules, "NoWildcardImport", () -> new NoWildcardImportRule(Severity.HIGH)); // 🔴
-        addRuleIfEnabled(activeRules, "ImportOrder", () -> new ImportOrderRule(Severity.MEDIUM)); // 🟠
-        addRuleIfEnabled(activeRules, "ModifierOrder", () -> new ModifierOrderRule(Severity.MEDIUM)); // 🟠
-        addRuleIfEnabled(activeRules, "NoFinalizer", () -> new NoFinalizerRule(Severity.HIGH)); // 🔴
-        addRuleIfEnabled(activeRules, "OverloadGrouping", () -> new OverloadGroupingRule(Severity.MEDIUM)); // 🟠
-        addRuleIfEnabled(activeRules, "NoDataClass", () -> new NoDataClassRule(Severity.HIGH)); // 🔴
-        addRuleIfEnabled(activeRules, "WrapPrimitive",
+        factories.put("NoHardcoding", (c) -> new NoHardcodingRule(Severity.MEDIUM)); // 🟠
+        factories.put("NamingConvention", (c) -> new NamingConventionRule(Severity.HIGH)); // 🔴
+        factories.put("NoWildcardImport", (c) -> new NoWildcardImportRule(Severity.HIGH)); // 🔴
+        factories.put("ImportOrder", (c) -> new ImportOrderRule(Severity.MEDIUM)); // 🟠
+        factories.put("ModifierOrder", (c) -> new ModifierOrderRule(Severity.MEDIUM)); // 🟠
+        factories.put("NoFinalizer", (c) -> new NoFinalizerRule(Severity.HIGH)); // 🔴
+        factories.put("OverloadGrouping", (c) -> new OverloadGroupingRule(Severity.MEDIUM)); // 🟠
+        factories.put("NoDataClass", (c) -> new NoDataClassRule(Severity.HIGH)); // 🔴
+        factories.put("WrapPrimitive",
                 (c) -> new WrapPrimitiveRule(c.max(DEFAULT_PRIMITIVE_WRAP_COUNT), Severity.MEDIUM)); // 🟠
-        addRuleIfEnabled(activeRules, "FirstCollection", () -> new FirstCollectionRule(Severity.MEDIUM)); // 🟠
-
-        return activeRules;
+        factories.put("FirstCollection", (c) -> new FirstCollectionRule(Severity.MEDIUM)); // 🟠
+        return factories;
     }
 
     // --- 헬퍼 메서드 ---
 
-    // 임계값이 없는 규칙 (on/off만)
-    private void addRuleIfEnabled(List<Rule> list, String ruleId, java.util.function.Supplier<Rule> supplier) {
-        if (config.getRuleConfig(ruleId).isEnabled()) {
-            list.add(supplier.get());
+    /**
+     * 경로별 설정을 적용할 파일의 조건. 소스 묶음만 적으면 그 묶음의 모든 파일입니다.
+     */
+    private PathMatcher conditionOf(RuleOverride override, Map<String, PathMatcher> compiled) {
+        List<PathMatcher> paths = compileAll(override.paths(), compiled);
+        PathMatcher anyPath = file -> paths.stream().anyMatch(matcher -> matcher.matches(file));
+        if (override.sourceSet() == null) {
+            return anyPath;
+        }
+        PathMatcher sourceSet = sourceSetMatcher(override.sourceSet());
+        if (paths.isEmpty()) {
+            return sourceSet;
+        }
+        return file -> sourceSet.matches(file) && anyPath.matches(file);
+    }
+
+    /**
+     * 알 수 없는 소스 묶음은 경고를 출력하고 어떤 파일에도 맞지 않는 조건으로 봅니다.
+     */
+    private PathMatcher sourceSetMatcher(String name) {
+        PathMatcher matcher = sourceSets.get(name.toLowerCase(Locale.ROOT));
+        if (matcher == null) {
+            System.err.println("[WARN] Unknown source set in overrides: " + name + " (expected one of "
+                    + String.join(", ", sourceSets.keySet()) + ")");
+            return file -> false;
         }
+        return matcher;
     }
 
-    private void addRuleIfEnabled(List<Rule> list, String ruleId,
-                                  java.util.function.Function<ConfigWrapper, Rule> function) {
-        RuleConfig ruleConfig = config.getRuleConfig(ruleId);
-        if (ruleConfig.isEnabled()) {
-            list.add(function.apply(new ConfigWrapper(ruleConfig)));
+    private static List<PathMatcher> compileAll(List<String> globs, Map<String, PathMatcher> compiled) {
+        if (globs == null) {
+            return List.of();
         }
+        return globs.stream()
+                .map(glob -> PathFilter.compile(glob, compiled))
+                .toList();
     }
 
     private record ConfigWrapper(RuleConfig config) {
@@ -89,4 +201,4 @@ public class RuleRegistry {
             return Optional.ofNullable(config.max()).orElse(defaultValue);
         }
     }
-}
\ No newline at end of file
+}
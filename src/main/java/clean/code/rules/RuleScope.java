@@ -0,0 +1,60 @@
+package clean.code.rules;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 규칙 인스턴스별로 적용할 파일의 경로 조건
+ * <p>
+ * 조건이 없는 규칙은 모든 파일에 적용합니다. 같은 조건을 쓰는 규칙이 여러 개이면 파일마다 조건을 한 번만 검사합니다.
+ */
+public final class RuleScope {
+    private static final RuleScope UNSCOPED = new RuleScope(Map.of());
+
+    private final Map<Rule, PathFilter> filters;
+
+    RuleScope(Map<Rule, PathFilter> filters) {
+        this.filters = filters;
+    }
+
+    public static RuleScope unscoped() {
+        return UNSCOPED;
+    }
+
+    /**
+     * 여러 규칙 묶음의 조건을 합칩니다. 조건은 규칙 인스턴스별로 저장되어 있으므로 서로 겹치지 않습니다.
+     */
+    public static RuleScope merge(List<RuleScope> scopes) {
+        Map<Rule, PathFilter> merged = new IdentityHashMap<>();
+        scopes.forEach(scope -> merged.putAll(scope.filters));
+        return merged.isEmpty() ? UNSCOPED : new RuleScope(merged);
+    }
+
+    /**
+     * 모든 규칙을 모든 파일에 적용하는지 여부
+     */
+    public boolean isUnscoped() {
+        return filters.isEmpty();
+    }
+
+    /**
+     * {@code rules} 중 파일에 적용할 규칙을 순서대로 반환합니다. 모든 규칙을 적용하면 {@code rules}를 그대로 반환합니다.
+     */
+    public List<Rule> rulesFor(List<Rule> rules, Path file) {
+        if (filters.isEmpty()) {
+            return rules;
+        }
+        Map<PathFilter, Boolean> matched = new IdentityHashMap<>();
+        List<Rule> applicable = new ArrayList<>(rules.size());
+        for (Rule rule : rules) {
+            PathFilter filter = filters.get(rule);
+            if (filter == null || matched.computeIfAbsent(filter, f -> f.matches(file))) {
+                applicable.add(rule);
+            }
+        }
+        return applicable.size() == rules.size() ? rules : applicable;
+    }
+}
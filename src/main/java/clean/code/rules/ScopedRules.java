@@ -0,0 +1,12 @@
+package clean.code.rules;
+
+import java.util.List;
+
+/**
+ * 활성화된 규칙과 규칙별로 적용할 파일의 경로 조건
+ *
+ * @param rules 등록 순서대로 나열한 규칙. 경로별 설정이 있는 규칙은 설정마다 인스턴스가 있습니다.
+ * @param scope 규칙 인스턴스별 경로 조건
+ */
+public record ScopedRules(List<Rule> rules, RuleScope scope) {
+}
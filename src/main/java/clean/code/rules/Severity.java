@@ -16,4 +16,11 @@ public enum Severity {
     public String getIcon() {
         return icon;
     }
+
+    /**
+     * 이 중요도가 주어진 중요도 이상인지 여부 (HIGH는 MEDIUM 이상)
+     */
+    public boolean isAtLeast(Severity other) {
+        return ordinal() <= other.ordinal();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,306 @@
+package clean.code.rules;
+
+import clean.code.rules.SourceSkeleton.Kind;
+import com.github.javaparser.Range;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.AnnotationDeclaration;
+import com.github.javaparser.ast.body.CallableDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
+import com.github.javaparser.ast.body.EnumDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.InitializerDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.RecordDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.SimpleName;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.stmt.DoStmt;
+import com.github.javaparser.ast.stmt.ForEachStmt;
+import com.github.javaparser.ast.stmt.ForStmt;
+import com.github.javaparser.ast.stmt.IfStmt;
+import com.github.javaparser.ast.stmt.SwitchStmt;
+import com.github.javaparser.ast.stmt.SynchronizedStmt;
+import com.github.javaparser.ast.stmt.TryStmt;
+import com.github.javaparser.ast.stmt.WhileStmt;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.Type;
+import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+import java.util.Arrays;
+
+/**
+ * AST를 한 번 순회하며 {@link SourceSkeleton}을 만드는 방문자
+ * <p>
+ * 방문 인자로 부모 노드의 위치를 전달하고, 하위 노드를 모두 방문한 뒤 끝 위치를 기록합니다. 배열은 다 채운 뒤 실제 크기로 줄입니다.
+ */
+final class SkeletonExtractor extends VoidVisitorAdapter<Integer> {
+    private static final int NO_PARENT = -1;
+
+    private byte[] kinds = new byte[64];
+    private int[] parents = new int[64];
+    private int[] ends = new int[64];
+    private int[] beginLines = new int[64];
+    private int[] beginColumns = new int[64];
+    private int[] endLines = new int[64];
+    private int[] markLines = new int[64];
+    private int[] values = new int[64];
+    private int[] flags = new int[64];
+    private String[] names = new String[64];
+    private String[] types = new String[64];
+    private int size;
+
+    SourceSkeleton extract(CompilationUnit ast) {
+        ast.accept(this, NO_PARENT);
+        int lastLine = ast.getRange().map(r -> r.end.line).orElse(0);
+        return new SourceSkeleton(Arrays.copyOf(kinds, size), Arrays.copyOf(parents, size), Arrays.copyOf(ends, size),
+                Arrays.copyOf(beginLines, size), Arrays.copyOf(beginColumns, size), Arrays.copyOf(endLines, size),
+                Arrays.copyOf(markLines, size), Arrays.copyOf(values, size), Arrays.copyOf(flags, size),
+                Arrays.copyOf(names, size), Arrays.copyOf(types, size), size, lastLine);
+    }
+
+    @Override
+    public void visit(ClassOrInterfaceDeclaration n, Integer parent) {
+        int node = add(Kind.CLASS_OR_INTERFACE, n, parent);
+        named(node, n.getName());
+        flags[node] = n.isInterface() ? SourceSkeleton.INTERFACE : 0;
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(ConstructorDeclaration n, Integer parent) {
+        int node = add(Kind.CONSTRUCTOR, n, parent);
+        named(node, n.getName());
+        flags[node] = isTypeMember(n) ? SourceSkeleton.TYPE_MEMBER : 0;
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(MethodDeclaration n, Integer parent) {
+        int node = add(Kind.METHOD, n, parent);
+        named(node, n.getName());
+        types[node] = n.getType().asString();
+        flags[node] = isTypeMember(n) ? SourceSkeleton.TYPE_MEMBER : 0;
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(FieldDeclaration n, Integer parent) {
+        int node = add(Kind.FIELD, n, parent);
+        Type elementType = n.getElementType();
+        types[node] = elementType instanceof ClassOrInterfaceType type ? type.getNameAsString() : elementType.asString();
+        flags[node] = (n.isStatic() ? SourceSkeleton.STATIC : 0) | (n.isFinal() ? SourceSkeleton.FINAL : 0);
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(VariableDeclarator n, Integer parent) {
+        int node = add(Kind.VARIABLE, n, parent);
+        named(node, n.getName());
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    /**
+     * 람다와 catch 절의 매개변수는 바깥 메서드의 자식으로 보이지 않도록 기록하지 않습니다.
+     */
+    @Override
+    public void visit(Parameter n, Integer parent) {
+        if (!(n.getParentNode().orElse(null) instanceof CallableDeclaration<?>)) {
+            super.visit(n, parent);
+            return;
+        }
+        int node = add(Kind.PARAMETER, n, parent);
+        names[node] = n.getNameAsString();
+        types[node] = n.getType().asString();
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(InitializerDeclaration n, Integer parent) {
+        int node = add(Kind.OTHER_DECLARATION, n, parent);
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(EnumDeclaration n, Integer parent) {
+        int node = add(Kind.OTHER_DECLARATION, n, parent);
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(RecordDeclaration n, Integer parent) {
+        int node = add(Kind.OTHER_DECLARATION, n, parent);
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(AnnotationDeclaration n, Integer parent) {
+        int node = add(Kind.OTHER_DECLARATION, n, parent);
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(IfStmt n, Integer parent) {
+        int node = add(Kind.IF, n, parent);
+        markLines[node] = n.getElseStmt()
+                .map(elseStmt -> elseStmt.getRange().map(r -> r.begin.line).orElse(-1))
+                .orElse(0);
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(ForStmt n, Integer parent) {
+        int node = add(Kind.FOR, n, parent);
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(ForEachStmt n, Integer parent) {
+        int node = add(Kind.FOR_EACH, n, parent);
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(WhileStmt n, Integer parent) {
+        int node = add(Kind.WHILE, n, parent);
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(DoStmt n, Integer parent) {
+        int node = add(Kind.DO, n, parent);
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(SwitchStmt n, Integer parent) {
+        int node = add(Kind.SWITCH, n, parent);
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(TryStmt n, Integer parent) {
+        int node = add(Kind.TRY, n, parent);
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(SynchronizedStmt n, Integer parent) {
+        int node = add(Kind.SYNCHRONIZED, n, parent);
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(MethodCallExpr n, Integer parent) {
+        int node = add(Kind.METHOD_CALL, n, parent);
+        values[node] = scopeLength(n.getScope().orElse(null));
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(FieldAccessExpr n, Integer parent) {
+        int node = add(Kind.FIELD_ACCESS, n, parent);
+        values[node] = scopeLength(n.getScope());
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(StringLiteralExpr n, Integer parent) {
+        int node = add(Kind.STRING_LITERAL, n, parent);
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    @Override
+    public void visit(IntegerLiteralExpr n, Integer parent) {
+        int node = add(Kind.INTEGER_LITERAL, n, parent);
+        super.visit(n, node);
+        ends[node] = size;
+    }
+
+    /**
+     * 메서드 호출과 필드 접근으로 이어진 앞부분의 길이. 호출/접근이 아닌 식을 만나면 그 식까지 셉니다.
+     */
+    private static int scopeLength(Expression scope) {
+        int length = 0;
+        Expression current = scope;
+        while (current != null) {
+            length++;
+            if (current instanceof MethodCallExpr call) {
+                current = call.getScope().orElse(null);
+            } else if (current instanceof FieldAccessExpr access) {
+                current = access.getScope();
+            } else {
+                current = null;
+            }
+        }
+        return length;
+    }
+
+    private static boolean isTypeMember(Node member) {
+        Node parent = member.getParentNode().orElse(null);
+        while (parent instanceof TypeDeclaration<?>) {
+            parent = parent.getParentNode().orElse(null);
+        }
+        return parent instanceof CompilationUnit;
+    }
+
+    private void named(int node, SimpleName name) {
+        names[node] = name.getIdentifier();
+        markLines[node] = name.getRange().map(r -> r.begin.line).orElse(beginLines[node]);
+    }
+
+    private int add(Kind kind, Node n, int parent) {
+        if (size == kinds.length) {
+            grow();
+        }
+        kinds[size] = (byte) kind.ordinal();
+        parents[size] = parent;
+        Range range = n.getRange().orElse(null);
+        beginLines[size] = range == null ? 0 : range.begin.line;
+        beginColumns[size] = range == null ? 0 : range.begin.column;
+        endLines[size] = range == null ? 0 : range.end.line;
+        return size++;
+    }
+
+    private void grow() {
+        int capacity = kinds.length * 2;
+        kinds = Arrays.copyOf(kinds, capacity);
+        parents = Arrays.copyOf(parents, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+        beginLines = Arrays.copyOf(beginLines, capacity);
+        beginColumns = Arrays.copyOf(beginColumns, capacity);
+        endLines = Arrays.copyOf(endLines, capacity);
+        markLines = Arrays.copyOf(markLines, capacity);
+        values = Arrays.copyOf(values, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        names = Arrays.copyOf(names, capacity);
+        types = Arrays.copyOf(types, capacity);
+    }
+}
@@ -0,0 +1,234 @@
+package clean.code.rules;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.stmt.DoStmt;
+import com.github.javaparser.ast.stmt.ForEachStmt;
+import com.github.javaparser.ast.stmt.ForStmt;
+import com.github.javaparser.ast.stmt.IfStmt;
+import com.github.javaparser.ast.stmt.SwitchStmt;
+import com.github.javaparser.ast.stmt.SynchronizedStmt;
+import com.github.javaparser.ast.stmt.TryStmt;
+import com.github.javaparser.ast.stmt.WhileStmt;
+
+/**
+ * AST에서 규칙이 사용하는 정보만 뽑아 배열에 담은 소스 골격
+ * <p>
+ * 선언, 제어문, 호출, 리터럴을 AST 방문 순서(전위)대로 노드로 기록하고, 노드마다 부모와 하위 노드의 끝 위치, 위치(라인/열), 이름과
+ * 타입 문자열, 제어자 등을 저장합니다. 노드 {@code i}의 하위 노드는 {@code i + 1}부터 {@link #end(int)} 전까지이므로, 직계 자식은
+ * {@code for (int c = i + 1; c < end(i); c = end(c))}로 순회합니다. 골격을 만든 뒤에는 AST를 참조하지 않습니다.
+ */
+public final class SourceSkeleton {
+    static final int INTERFACE = 1;
+    static final int STATIC = 1 << 1;
+    static final int FINAL = 1 << 2;
+    static final int TYPE_MEMBER = 1 << 3;
+
+    private static final Kind[] KINDS = Kind.values();
+
+    private final byte[] kinds;
+    private final int[] parents;
+    private final int[] ends;
+    private final int[] beginLines;
+    private final int[] beginColumns;
+    private final int[] endLines;
+    private final int[] markLines;
+    private final int[] values;
+    private final int[] flags;
+    private final String[] names;
+    private final String[] types;
+    private final int size;
+    private final int lastLine;
+
+    SourceSkeleton(byte[] kinds, int[] parents, int[] ends, int[] beginLines, int[] beginColumns, int[] endLines,
+                   int[] markLines, int[] values, int[] flags, String[] names, String[] types, int size, int lastLine) {
+        this.kinds = kinds;
+        this.parents = parents;
+        this.ends = ends;
+        this.beginLines = beginLines;
+        this.beginColumns = beginColumns;
+        this.endLines = endLines;
+        this.markLines = markLines;
+        this.values = values;
+        this.flags = flags;
+        this.names = names;
+        this.types = types;
+        this.size = size;
+        this.lastLine = lastLine;
+    }
+
+    /**
+     * AST를 한 번 순회해 골격을 만듭니다.
+     */
+    public static SourceSkeleton of(CompilationUnit ast) {
+        return new SkeletonExtractor().extract(ast);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 파일의 마지막 라인. 위치 정보가 없으면 0입니다.
+     */
+    public int lastLine() {
+        return lastLine;
+    }
+
+    public Kind kind(int node) {
+        return KINDS[kinds[node]];
+    }
+
+    /**
+     * 가장 가까운 조상 노드. 최상위 노드는 -1입니다.
+     */
+    public int parent(int node) {
+        return parents[node];
+    }
+
+    /**
+     * 노드의 마지막 하위 노드 다음 위치
+     */
+    public int end(int node) {
+        return ends[node];
+    }
+
+    public int beginLine(int node) {
+        return beginLines[node];
+    }
+
+    public int beginColumn(int node) {
+        return beginColumns[node];
+    }
+
+    public int endLine(int node) {
+        return endLines[node];
+    }
+
+    /**
+     * 이름이 있는 노드({@link Kind#CLASS_OR_INTERFACE}, {@link Kind#METHOD}, {@link Kind#VARIABLE})는 이름의 라인,
+     * {@link Kind#IF}는 else 문의 라인입니다. else 문이 없거나 해당하지 않는 노드는 0입니다.
+     */
+    public int markLine(int node) {
+        return markLines[node];
+    }
+
+    /**
+     * 이름. 클래스/인터페이스, 생성자, 메서드, 변수, 매개변수만 있습니다.
+     */
+    public String name(int node) {
+        return names[node];
+    }
+
+    /**
+     * 타입 문자열. 메서드는 반환 타입, 매개변수는 선언 타입, 필드는 원소 타입(클래스/인터페이스 타입이면 단순 이름)입니다.
+     */
+    public String type(int node) {
+        return types[node];
+    }
+
+    /**
+     * 메서드 호출과 필드 접근에서 점(.)으로 이어진 앞부분(scope)의 길이. 앞부분이 없으면 0입니다.
+     */
+    public int scopeLength(int node) {
+        return values[node];
+    }
+
+    public boolean isInterface(int node) {
+        return (flags[node] & INTERFACE) != 0;
+    }
+
+    /**
+     * 필드의 static 여부. JavaParser와 같이 인터페이스의 필드는 static입니다.
+     */
+    public boolean isStatic(int node) {
+        return (flags[node] & STATIC) != 0;
+    }
+
+    /**
+     * 필드의 final 여부. JavaParser와 같이 인터페이스의 필드는 final입니다.
+     */
+    public boolean isFinal(int node) {
+        return (flags[node] & FINAL) != 0;
+    }
+
+    /**
+     * 메서드/생성자의 조상이 모두 타입 선언인지 여부. 익명 클래스나 필드 초기화 식 안의 메서드는 {@code false}입니다.
+     */
+    public boolean isTypeMember(int node) {
+        return (flags[node] & TYPE_MEMBER) != 0;
+    }
+
+    /**
+     * 주어진 종류의 직계 자식 수. 예를 들어 메서드의 {@link Kind#PARAMETER} 자식 수는 매개변수 수입니다.
+     */
+    public int countChildren(int node, Kind kind) {
+        int count = 0;
+        for (int child = node + 1; child < ends[node]; child = ends[child]) {
+            if (kinds[child] == kind.ordinal()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public enum Kind {
+        CLASS_OR_INTERFACE(ClassOrInterfaceDeclaration.class),
+        CONSTRUCTOR(ConstructorDeclaration.class),
+        METHOD(MethodDeclaration.class),
+        FIELD(FieldDeclaration.class),
+        IF(IfStmt.class),
+        FOR(ForStmt.class),
+        FOR_EACH(ForEachStmt.class),
+        WHILE(WhileStmt.class),
+        DO(DoStmt.class),
+        SWITCH(SwitchStmt.class),
+        TRY(TryStmt.class),
+        SYNCHRONIZED(SynchronizedStmt.class),
+        METHOD_CALL(MethodCallExpr.class),
+        FIELD_ACCESS(FieldAccessExpr.class),
+        STRING_LITERAL(StringLiteralExpr.class),
+        INTEGER_LITERAL(IntegerLiteralExpr.class),
+        /**
+         * 필드와 지역 변수의 변수 하나
+         */
+        VARIABLE(null),
+        /**
+         * 메서드와 생성자의 매개변수
+         */
+        PARAMETER(null),
+        /**
+         * 그 밖의 멤버 선언 (초기화 블록, enum, record, 애너테이션 타입)
+         */
+        OTHER_DECLARATION(null);
+
+        private final Class<? extends Node> nodeType;
+
+        Kind(Class<? extends Node> nodeType) {
+            this.nodeType = nodeType;
+        }
+
+        /**
+         * 이 종류로 기록되는 AST 노드 타입. {@link NodeRule}이 구독할 수 없는 종류는 {@code null}입니다.
+         */
+        public Class<? extends Node> nodeType() {
+            return nodeType;
+        }
+
+        /**
+         * 타입 본문에 직접 놓이면 그 타입의 멤버가 되는 선언인지 여부
+         */
+        public boolean isDeclaration() {
+            return this == CLASS_OR_INTERFACE || this == CONSTRUCTOR || this == METHOD || this == FIELD
+                   || this == OTHER_DECLARATION;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package clean.code.rules;
+
+import clean.code.report.Violation;
+import com.github.javaparser.ast.CompilationUnit;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * AST 없이 토큰({@link TokenStream})만으로 검사하는 규칙
+ * <p>
+ * 활성화된 규칙이 모두 토큰 규칙이면 분석기는 파일을 파싱하지 않고 토큰으로만 나눕니다. AST를 만드는 다른 규칙과 함께 쓰여도 토큰으로
+ * 검사합니다.
+ */
+public interface TokenRule extends Rule {
+
+    /**
+     * @param filePath 현재 검사 중인 파일 경로 (Violation 생성 시 필요)
+     * @param tokens   주석과 공백을 제외한 파일의 토큰
+     * @return 이 규칙에 의해 발견된 위반 사항 리스트
+     */
+    List<Violation> check(Path filePath, TokenStream tokens);
+
+    /**
+     * AST의 토큰으로 원본 소스를 복원해 검사합니다.
+     */
+    @Override
+    default List<Violation> check(Path filePath, CompilationUnit ast) {
+        return check(filePath, TokenStream.of(ast));
+    }
+
+    @Override
+    default ParseRequirements parseRequirements() {
+        return ParseRequirements.TOKENS_ONLY;
+    }
+}
@@ -0,0 +1,338 @@
+package clean.code.rules;
+
+import com.github.javaparser.TokenRange;
+import com.github.javaparser.ast.CompilationUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주석과 공백을 제외한 Java 소스의 토큰 목록
+ * <p>
+ * 토큰마다 객체를 만들지 않고 종류, 원본 위치, 라인을 배열에 저장합니다. 토큰 문자열은 {@link #text(int)}를 호출할 때만 만들고,
+ * 비교는 {@link #is(int, String)}로 원본에서 직접 합니다. 선언과 import를 찾는 메서드는 문법 검사 없이 토큰 모양만으로 판단합니다.
+ */
+public final class TokenStream {
+    private static final Kind[] KINDS = Kind.values();
+    private static final List<String> MODIFIERS = List.of("public", "protected", "private", "abstract", "static",
+            "final", "transient", "volatile", "synchronized", "native", "strictfp", "default", "sealed");
+
+    private final String source;
+    private final byte[] kinds;
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] lines;
+    private final int[] partners;
+    private final int size;
+
+    TokenStream(String source, byte[] kinds, int[] starts, int[] ends, int[] lines, int[] partners, int size) {
+        this.source = source;
+        this.kinds = kinds;
+        this.starts = starts;
+        this.ends = ends;
+        this.lines = lines;
+        this.partners = partners;
+        this.size = size;
+    }
+
+    /**
+     * 소스를 토큰으로 나눕니다.
+     *
+     * @throws IllegalArgumentException 주석, 문자열, 문자 리터럴이 닫히지 않은 경우
+     */
+    public static TokenStream tokenize(String source) {
+        return new JavaTokenizer(source).tokenize();
+    }
+
+    /**
+     * AST가 저장한 토큰으로 원본 소스를 복원해 토큰으로 나눕니다. 토큰을 저장하지 않은 AST는 출력한 소스를 사용합니다.
+     */
+    public static TokenStream of(CompilationUnit ast) {
+        return tokenize(ast.getTokenRange().map(TokenRange::toString).orElseGet(ast::toString));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Kind kind(int index) {
+        return index < size ? KINDS[kinds[index]] : Kind.END;
+    }
+
+    /**
+     * 토큰이 시작하는 라인(1부터 시작)
+     */
+    public int line(int index) {
+        return lines[index];
+    }
+
+    public int start(int index) {
+        return starts[index];
+    }
+
+    public int end(int index) {
+        return ends[index];
+    }
+
+    public String text(int index) {
+        return source.substring(starts[index], ends[index]);
+    }
+
+    /**
+     * 토큰이 주어진 문자열과 같은지 여부. 범위를 벗어난 위치는 {@code false}입니다.
+     */
+    public boolean is(int index, String text) {
+        return index < size
+               && ends[index] - starts[index] == text.length()
+               && source.startsWith(text, starts[index]);
+    }
+
+    /**
+     * 여는 괄호({@code ( [ {})와 짝이 되는 닫는 괄호의 위치. 짝이 없거나 괄호가 아니면 -1입니다.
+     */
+    public int matchingBracket(int index) {
+        return partners[index];
+    }
+
+    /**
+     * 토큰이 문장이나 멤버 선언을 시작할 수 있는 위치(파일 처음, {@code { } ;} 다음)인지 여부
+     */
+    public boolean isDeclarationStart(int index) {
+        return index == 0 || is(index - 1, "{") || is(index - 1, "}") || is(index - 1, ";");
+    }
+
+    /**
+     * 애너테이션의 시작({@code @}) 여부. 애너테이션 타입 선언({@code @interface})은 제외합니다.
+     */
+    public boolean isAnnotation(int index) {
+        return is(index, "@") && !is(index + 1, "interface");
+    }
+
+    /**
+     * 애너테이션 다음 위치. 이름 뒤에 인자가 있으면 인자까지 건너뜁니다.
+     */
+    public int skipAnnotation(int index) {
+        int next = index + 2;
+        while (is(next, ".") && kind(next + 1) == Kind.WORD) {
+            next += 2;
+        }
+        if (is(next, "(")) {
+            return matchingBracket(next) < 0 ? size : matchingBracket(next) + 1;
+        }
+        return next;
+    }
+
+    /**
+     * 제어자가 차지하는 토큰 수. 제어자가 아니면 0이고, {@code non-sealed}는 3입니다. {@code synchronized} 문, switch의
+     * {@code default} 레이블처럼 같은 키워드가 제어자가 아닌 경우는 다음 토큰으로 구분합니다.
+     */
+    public int modifierLength(int index) {
+        if (kind(index) != Kind.WORD) {
+            return 0;
+        }
+        if (is(index, "non") && is(index + 1, "-") && is(index + 2, "sealed")
+            && ends[index] == starts[index + 1] && ends[index + 1] == starts[index + 2]) {
+            return 3;
+        }
+        if (!isModifierKeyword(index)
+            || (is(index, "synchronized") && is(index + 1, "("))
+            || (is(index, "default") && (is(index + 1, ":") || is(index + 1, "->")))
+            || (is(index, "sealed") && kind(index + 1) != Kind.WORD && !is(index + 1, "@"))) {
+            return 0;
+        }
+        return 1;
+    }
+
+    private boolean isModifierKeyword(int index) {
+        for (String modifier : MODIFIERS) {
+            if (is(index, modifier)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 애너테이션과 제어자를 건너뛴 다음 위치
+     */
+    public int skipModifiers(int index) {
+        int next = index;
+        while (next < size) {
+            if (isAnnotation(next)) {
+                next = skipAnnotation(next);
+            } else if (modifierLength(next) > 0) {
+                next += modifierLength(next);
+            } else {
+                break;
+            }
+        }
+        return next;
+    }
+
+    /**
+     * 제어자 다음 위치에서 시작하는 선언의 종류. 필드와 지역 변수는 구분하지 않습니다.
+     */
+    public DeclarationKind declarationKind(int index) {
+        if (is(index, "class")) {
+            return DeclarationKind.CLASS;
+        }
+        if (is(index, "interface")) {
+            return DeclarationKind.INTERFACE;
+        }
+        if (is(index, "@") && is(index + 1, "interface")) {
+            return DeclarationKind.ANNOTATION_TYPE;
+        }
+        if (is(index, "enum")) {
+            return DeclarationKind.ENUM;
+        }
+        if (is(index, "record") && kind(index + 1) == Kind.WORD && (is(index + 2, "(") || is(index + 2, "<"))) {
+            return DeclarationKind.RECORD;
+        }
+        int typeArgumentDepth = 0;
+        int next = index;
+        while (next < size) {
+            if (isAnnotation(next)) {
+                next = skipAnnotation(next);
+                continue;
+            }
+            if (next > index && is(next, "(")) {
+                return DeclarationKind.CALLABLE;
+            }
+            if (next > index && (is(next, "=") || is(next, ";") || (is(next, ",") && typeArgumentDepth <= 0))) {
+                return DeclarationKind.FIELD;
+            }
+            if (kind(next) == Kind.SYMBOL && source.charAt(starts[next]) == '<') {
+                typeArgumentDepth += ends[next] - starts[next];
+            } else if (kind(next) == Kind.SYMBOL && source.charAt(starts[next]) == '>') {
+                typeArgumentDepth -= ends[next] - starts[next];
+            } else if (!is(next, "?") && !is(next, ".") && !is(next, "[") && !is(next, "]")
+                       && !is(next, "&") && !is(next, ",") && kind(next) != Kind.WORD) {
+                return DeclarationKind.OTHER;
+            }
+            next++;
+        }
+        return DeclarationKind.OTHER;
+    }
+
+    /**
+     * 타입 선언 키워드 위치에서 찾은 본문의 여는 중괄호 위치. 본문이 없으면 -1입니다.
+     */
+    public int typeBodyStart(int index) {
+        int next = index;
+        while (next < size && !is(next, ";") && !is(next, "}")) {
+            if (is(next, "{")) {
+                return next;
+            }
+            next = partners[next] > next ? partners[next] + 1 : next + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * 주어진 위치부터 괄호 밖에서 처음 나오는 세미콜론의 위치. 바깥 괄호가 먼저 닫히면 닫는 괄호의 위치입니다.
+     */
+    public int statementEnd(int index) {
+        int next = index;
+        while (next < size && !is(next, ";")) {
+            int partner = partners[next];
+            if (partner >= 0 && partner < next) {
+                return next;
+            }
+            next = partner > next ? partner + 1 : next + 1;
+        }
+        return next;
+    }
+
+    /**
+     * 파일 앞부분의 import 선언. package 선언과 그 애너테이션은 건너뛰고, 다른 선언이 나오면 멈춥니다.
+     */
+    public List<Import> imports() {
+        List<Import> imports = new ArrayList<>();
+        int next = 0;
+        while (next < size) {
+            if (is(next, ";")) {
+                next++;
+            } else if (isAnnotation(next)) {
+                next = skipAnnotation(next);
+            } else if (is(next, "package")) {
+                next = statementEnd(next) + 1;
+            } else if (is(next, "import")) {
+                next = addImport(next, imports) + 1;
+            } else {
+                break;
+            }
+        }
+        return imports;
+    }
+
+    private int addImport(int index, List<Import> imports) {
+        boolean isStatic = is(index + 1, "static");
+        boolean isAsterisk = false;
+        StringBuilder name = new StringBuilder();
+        int next = isStatic ? index + 2 : index + 1;
+        for (; next < size && !is(next, ";"); next++) {
+            if (is(next, "*")) {
+                isAsterisk = true;
+            } else if (kind(next) == Kind.WORD) {
+                name.append(name.isEmpty() ? "" : ".").append(source, starts[next], ends[next]);
+            }
+        }
+        imports.add(new Import(lines[index], name.toString(), isStatic, isAsterisk));
+        return next;
+    }
+
+    /**
+     * import 선언
+     *
+     * @param line       {@code import} 키워드의 라인
+     * @param name       {@code *}를 제외한 이름
+     * @param isStatic   static import 여부
+     * @param isAsterisk 와일드카드 import 여부
+     */
+    public record Import(int line, String name, boolean isStatic, boolean isAsterisk) {
+    }
+
+    public enum DeclarationKind {
+        CLASS,
+        INTERFACE,
+        ENUM,
+        RECORD,
+        ANNOTATION_TYPE,
+        /**
+         * 메서드와 생성자
+         */
+        CALLABLE,
+        /**
+         * 필드와 지역 변수
+         */
+        FIELD,
+        /**
+         * 초기화 블록, 레코드의 간결한 생성자, 문장 등
+         */
+        OTHER;
+
+        public boolean isType() {
+            return ordinal() <= ANNOTATION_TYPE.ordinal();
+        }
+    }
+
+    public enum Kind {
+        /**
+         * 식별자와 키워드
+         */
+        WORD,
+        INTEGER,
+        LONG,
+        FLOATING,
+        CHARACTER,
+        STRING,
+        TEXT_BLOCK,
+        /**
+         * 연산자와 구분자
+         */
+        SYMBOL,
+        /**
+         * 마지막 토큰 다음 위치
+         */
+        END
+    }
+}
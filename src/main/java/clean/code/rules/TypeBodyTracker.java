@@ -0,0 +1,57 @@
+package clean.code.rules;
+
+import clean.code.rules.TokenStream.DeclarationKind;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 토큰을 앞에서부터 읽는 {@link TokenRule}이 현재 위치를 바로 감싸는 중괄호가 어떤 타입 선언의 본문인지 알 수 있도록 중괄호를
+ * 추적합니다.
+ * <p>
+ * 규칙이 건너뛰는 구간(애너테이션 인자, 필드 초기화 식)은 괄호의 짝이 맞으므로 건너뛰어도 추적 결과는 같습니다.
+ */
+public final class TypeBodyTracker {
+    private final TokenStream tokens;
+    private final Map<Integer, DeclarationKind> typeBodies = new HashMap<>();
+    private int[] openBraces = new int[16];
+    private int depth;
+
+    public TypeBodyTracker(TokenStream tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * 규칙이 읽은 토큰을 전달합니다.
+     */
+    public void visit(int index) {
+        if (tokens.is(index, "{")) {
+            if (depth == openBraces.length) {
+                openBraces = Arrays.copyOf(openBraces, depth * 2);
+            }
+            openBraces[depth++] = index;
+        } else if (tokens.is(index, "}") && depth > 0) {
+            depth--;
+        }
+    }
+
+    /**
+     * 선언 시작 위치에서 찾은 선언을 전달합니다. 타입 선언이면 본문의 중괄호를 기억합니다.
+     *
+     * @param index 제어자 다음 위치
+     */
+    public void declare(int index, DeclarationKind kind) {
+        if (kind.isType()) {
+            typeBodies.put(tokens.typeBodyStart(index), kind);
+        }
+    }
+
+    /**
+     * 현재 위치를 바로 감싸는 중괄호가 타입 본문이면 그 타입의 종류, 메서드 본문이나 익명 클래스 본문 등이면
+     * {@link DeclarationKind#OTHER}
+     */
+    public DeclarationKind enclosingBody() {
+        return depth == 0 ? DeclarationKind.OTHER
+                : typeBodies.getOrDefault(openBraces[depth - 1], DeclarationKind.OTHER);
+    }
+}
@@ -1,11 +1,11 @@
 package clean.code.rules.cleancode;
 
 import clean.code.report.Violation;
-import clean.code.rules.Rule;
+import clean.code.rules.NodeRule;
 import clean.code.rules.Severity;
-import com.github.javaparser.ast.CompilationUnit;
+import clean.code.rules.SourceSkeleton;
+import clean.code.rules.SourceSkeleton.Kind;
 import com.github.javaparser.ast.Node;
-import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.stmt.DoStmt;
 import com.github.javaparser.ast.stmt.ForEachStmt;
 import com.github.javaparser.ast.stmt.ForStmt;
@@ -14,17 +14,20 @@ import com.github.javaparser.ast.stmt.SwitchStmt;
 import com.github.javaparser.ast.stmt.SynchronizedStmt;
 import com.github.javaparser.ast.stmt.TryStmt;
 import com.github.javaparser.ast.stmt.WhileStmt;
-import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * [클린코드] 메서드 내 들여쓰기 깊이 제한 (Max 2)
  */
-public class IndentDepthRule implements Rule {
+public class IndentDepthRule implements NodeRule {
 
     private static final String RULE_ID = "IndentDepth";
+    private static final Set<Class<? extends Node>> NODE_TYPES = Set.of(
+            IfStmt.class, ForStmt.class, ForEachStmt.class, WhileStmt.class,
+            DoStmt.class, SwitchStmt.class, TryStmt.class, SynchronizedStmt.class
+    );
     private final int maxDepth;
     private final int indentSize;
     private final Severity severity;
@@ -41,112 +44,47 @@ public class IndentDepthRule implements Rule {
     }
 
     @Override
-    public List<Violation> check(Path filePath, CompilationUnit ast) {
-        List<Violation> violations = new ArrayList<>();
-        ast.accept(new MethodVisitor(filePath, maxDepth, indentSize, severity), violations);
-        return violations;
+    public boolean isMemberScoped() {
+        return true;
     }
 
-    private static class MethodVisitor extends VoidVisitorAdapter<List<Violation>> {
-        private final Path filePath;
-        private final int maxDepth;
-        private final int indentSize;
-        private final Severity severity;
-
-        public MethodVisitor(Path filePath, int maxDepth, int indentSize, Severity severity) {
-            this.filePath = filePath;
-            this.maxDepth = maxDepth;
-            this.indentSize = indentSize;
-            this.severity = severity;
-        }
-
-        @Override
-        public void visit(MethodDeclaration n, List<Violation> collector) {
-            n.getBody().ifPresent(body -> {
-                int baseIndent = n.getRange().map(r -> r.begin.column).orElse(0);
-                StatementVisitor statementVisitor = new StatementVisitor(filePath, maxDepth, indentSize, baseIndent,
-                        severity);
-                body.accept(statementVisitor, collector);
-            });
-        }
+    @Override
+    public Set<Class<? extends Node>> nodeTypes() {
+        return NODE_TYPES;
     }
 
-    private static class StatementVisitor extends VoidVisitorAdapter<List<Violation>> {
-        private final Path filePath;
-        private final int maxDepth;
-        private final int indentSize;
-        private final int baseIndent;
-        private final Severity severity;
-
-        public StatementVisitor(Path filePath, int maxDepth, int indentSize, int baseIndent, Severity severity) {
-            this.filePath = filePath;
-            this.maxDepth = maxDepth;
-            this.indentSize = indentSize;
-            this.baseIndent = baseIndent;
-            this.severity = severity;
-        }
-
-        @Override
-        public void visit(IfStmt n, List<Violation> collector) {
-            check(n, collector);
-            super.visit(n, collector);
-        }
-
-        @Override
-        public void visit(ForStmt n, List<Violation> collector) {
-            check(n, collector);
-            super.visit(n, collector);
-        }
-
-        @Override
-        public void visit(ForEachStmt n, List<Violation> collector) {
-            check(n, collector);
-            super.visit(n, collector);
-        }
-
-        @Override
-        public void visit(WhileStmt n, List<Violation> collector) {
-            check(n, collector);
-            super.visit(n, collector);
-        }
-
-        @Override
-        public void visit(DoStmt n, List<Violation> collector) {
-            check(n, collector);
-            super.visit(n, collector);
-        }
-
-        @Override
-        public void visit(SwitchStmt n, List<Violation> collector) {
-            check(n, collector);
-            super.visit(n, collector);
-        }
-
-        @Override
-        public void visit(TryStmt n, List<Violation> collector) {
-            check(n, collector);
-            super.visit(n, collector);
+    /**
+     * 제어문의 깊이는 가장 바깥쪽 메서드의 시작 열을 기준으로 계산합니다. (익명 클래스 내부의 메서드도 바깥 메서드 기준)
+     */
+    @Override
+    public void enter(SourceSkeleton skeleton, int node, Path filePath, List<Violation> collector) {
+        int method = outermostMethod(skeleton, node);
+        if (method >= 0) {
+            check(skeleton, node, skeleton.beginColumn(method), filePath, collector);
         }
+    }
 
-        @Override
-        public void visit(SynchronizedStmt n, List<Violation> collector) {
-            check(n, collector);
-            super.visit(n, collector);
+    private int outermostMethod(SourceSkeleton skeleton, int node) {
+        int outermost = -1;
+        for (int current = skeleton.parent(node); current >= 0; current = skeleton.parent(current)) {
+            if (skeleton.kind(current) == Kind.METHOD) {
+                outermost = current;
+            }
         }
+        return outermost;
+    }
 
-        private void check(Node node, List<Violation> collector) {
-            int nodeIndent = node.getRange().map(r -> r.begin.column).orElse(0);
-            int relativeIndent = nodeIndent - baseIndent;
-            int depth = relativeIndent / indentSize;
-
-            if (depth > maxDepth) {
-                int line = node.getRange().map(r -> r.begin.line).orElse(1);
-                String message = String.format(
-                        "들여쓰기 깊이가 %d입니다. (허용 기준: %d). 메서드 분리를 고려하세요.",
-                        depth, maxDepth
-                );
-                collector.add(new Violation(filePath, line, RULE_ID, message, severity));
-            }
+    private void check(SourceSkeleton skeleton, int node, int baseIndent, Path filePath, List<Violation> collector) {
+        int relativeIndent = skeleton.beginColumn(node) - baseIndent;
+        int depth = relativeIndent / indentSize;
+
+        if (depth > maxDepth) {
+            int line = skeleton.beginLine(node);
+            String message = String.format(
+                    "들여쓰기 깊이가 %d입니다. (허용 기준: %d). 메서드 분리를 고려하세요.",
+                    depth, maxDepth
+            );
+            collector.add(new Violation(filePath, line, RULE_ID, message, severity));
         }
     }
-}
\ No newline at end of file
+}
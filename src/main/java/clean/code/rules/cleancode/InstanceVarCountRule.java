@@ -1,19 +1,20 @@
 package clean.code.rules.cleancode;
 
 import clean.code.report.Violation;
-import clean.code.rules.Rule;
+import clean.code.rules.NodeRule;
 import clean.code.rules.Severity;
-import com.github.javaparser.ast.CompilationUnit;
+import clean.code.rules.SourceSkeleton;
+import clean.code.rules.SourceSkeleton.Kind;
+import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
-import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * [클린코드] 3개 이상의 인스턴스 변수 제한 규칙
  */
-public class InstanceVarCountRule implements Rule {
+public class InstanceVarCountRule implements NodeRule {
 
     private static final String RULE_ID = "InstanceVarCount";
     private final int maxCount;
@@ -30,39 +31,25 @@ public class InstanceVarCountRule implements Rule {
     }
 
     @Override
-    public List<Violation> check(Path filePath, CompilationUnit ast) {
-        List<Violation> violations = new ArrayList<>();
-        ast.accept(new ClassVisitor(filePath, maxCount, severity), violations);
-        return violations;
+    public Set<Class<? extends Node>> nodeTypes() {
+        return Set.of(ClassOrInterfaceDeclaration.class);
     }
 
-    private static class ClassVisitor extends VoidVisitorAdapter<List<Violation>> {
-        private final Path filePath;
-        private final int maxCount;
-        private final Severity severity;
-
-        public ClassVisitor(Path filePath, int maxCount, Severity severity) {
-            this.filePath = filePath;
-            this.maxCount = maxCount;
-            this.severity = severity;
+    @Override
+    public void leave(SourceSkeleton skeleton, int node, Path filePath, List<Violation> collector) {
+        long instanceVarCount = 0;
+        for (int member = node + 1; member < skeleton.end(node); member = skeleton.end(member)) {
+            if (skeleton.kind(member) == Kind.FIELD && !skeleton.isStatic(member)) {
+                instanceVarCount += skeleton.countChildren(member, Kind.VARIABLE);
+            }
         }
 
-        @Override
-        public void visit(ClassOrInterfaceDeclaration n, List<Violation> collector) {
-            super.visit(n, collector);
-            long instanceVarCount = n.getFields().stream()
-                    .filter(field -> !field.isStatic())
-                    .mapToLong(field -> field.getVariables().size())
-                    .sum();
-
-            if (instanceVarCount > maxCount) {
-                String message = String.format(
-                        "클래스에 인스턴스 변수가 %d개입니다. (허용 기준: %d개).",
-                        instanceVarCount, maxCount
-                );
-                collector.add(new Violation(filePath, n.getRange().map(r -> r.begin.line).orElse(1), RULE_ID, message,
-                        severity));
-            }
+        if (instanceVarCount > maxCount) {
+            String message = String.format(
+                    "클래스에 인스턴스 변수가 %d개입니다. (허용 기준: %d개).",
+                    instanceVarCount, maxCount
+            );
+            collector.add(new Violation(filePath, skeleton.beginLine(node), RULE_ID, message, severity));
         }
     }
-}
\ No newline at end of file
+}
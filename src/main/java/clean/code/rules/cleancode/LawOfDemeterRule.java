@@ -1,22 +1,20 @@
 package clean.code.rules.cleancode;
 
 import clean.code.report.Violation;
-import clean.code.rules.Rule;
+import clean.code.rules.NodeRule;
 import clean.code.rules.Severity;
-import com.github.javaparser.ast.CompilationUnit;
+import clean.code.rules.SourceSkeleton;
 import com.github.javaparser.ast.Node;
-import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.FieldAccessExpr;
 import com.github.javaparser.ast.expr.MethodCallExpr;
-import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * [클린코드] 디미터 법칙 (점 개수 제한)
  */
-public class LawOfDemeterRule implements Rule {
+public class LawOfDemeterRule implements NodeRule {
 
     private static final String RULE_ID = "LawOfDemeter";
     private final int maxDots;
@@ -33,58 +31,25 @@ public class LawOfDemeterRule implements Rule {
     }
 
     @Override
-    public List<Violation> check(Path filePath, CompilationUnit ast) {
-        List<Violation> violations = new ArrayList<>();
-        ast.accept(new DotVisitor(filePath, maxDots, severity), violations);
-        return violations;
+    public boolean isMemberScoped() {
+        return true;
     }
 
-    private static class DotVisitor extends VoidVisitorAdapter<List<Violation>> {
-        private final Path filePath;
-        private final int maxDots;
-        private final Severity severity;
-
-        public DotVisitor(Path filePath, int maxDots, Severity severity) {
-            this.filePath = filePath;
-            this.maxDots = maxDots;
-            this.severity = severity;
-        }
-
-        @Override
-        public void visit(MethodCallExpr n, List<Violation> collector) {
-            super.visit(n, collector);
-            n.getScope().ifPresent(scope -> checkDotCount(n, scope, collector));
-        }
-
-        @Override
-        public void visit(FieldAccessExpr n, List<Violation> collector) {
-            super.visit(n, collector);
-            checkDotCount(n, n.getScope(), collector);
-        }
-
-        private void checkDotCount(Node originalNode, Expression scope, List<Violation> collector) {
-            int dotCount = 0;
-            Expression currentScope = scope;
-
-            while (currentScope != null) {
-                dotCount++;
-                if (currentScope instanceof MethodCallExpr) {
-                    currentScope = ((MethodCallExpr) currentScope).getScope().orElse(null);
-                } else if (currentScope instanceof FieldAccessExpr) {
-                    currentScope = ((FieldAccessExpr) currentScope).getScope();
-                } else {
-                    currentScope = null;
-                }
-            }
+    @Override
+    public Set<Class<? extends Node>> nodeTypes() {
+        return Set.of(MethodCallExpr.class, FieldAccessExpr.class);
+    }
 
-            if (dotCount > maxDots) {
-                int line = originalNode.getRange().map(r -> r.begin.line).orElse(1);
-                String message = String.format(
-                        "한 줄에 점(.)이 %d개 사용되었습니다. (허용 기준: %d개). 디미터 법칙 위반 가능성이 있습니다.",
-                        dotCount, maxDots
-                );
-                collector.add(new Violation(filePath, line, RULE_ID, message, severity));
-            }
+    @Override
+    public void leave(SourceSkeleton skeleton, int node, Path filePath, List<Violation> collector) {
+        int dotCount = skeleton.scopeLength(node);
+        if (dotCount > 0 && dotCount > maxDots) {
+            int line = skeleton.beginLine(node);
+            String message = String.format(
+                    "한 줄에 점(.)이 %d개 사용되었습니다. (허용 기준: %d개). 디미터 법칙 위반 가능성이 있습니다.",
+                    dotCount, maxDots
+            );
+            collector.add(new Violation(filePath, line, RULE_ID, message, severity));
         }
     }
-}
\ No newline at end of file
+}
@@ -1,17 +1,17 @@
 package clean.code.rules.cleancode;
 
 import clean.code.report.Violation;
-import clean.code.rules.Rule;
+import clean.code.rules.NodeRule;
 import clean.code.rules.Severity;
-import com.github.javaparser.ast.CompilationUnit;
+import clean.code.rules.SourceSkeleton;
+import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.body.MethodDeclaration;
-import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 
-public class MethodLengthRule implements Rule {
+public class MethodLengthRule implements NodeRule {
 
     private static final String RULE_ID = "MethodLength";
     private final int maxLines;
@@ -28,41 +28,29 @@ public class MethodLengthRule implements Rule {
     }
 
     @Override
-    public List<Violation> check(Path filePath, CompilationUnit ast) {
-        List<Violation> violations = new ArrayList<>();
-        ast.accept(new MethodLengthVisitor(filePath, maxLines, severity), violations);
-        return violations;
+    public boolean isMemberScoped() {
+        return true;
     }
 
-    private static class MethodLengthVisitor extends VoidVisitorAdapter<List<Violation>> {
-        private final Path filePath;
-        private final int maxLines;
-        private final Severity severity;
-
-        public MethodLengthVisitor(Path filePath, int maxLines, Severity severity) {
-            this.filePath = filePath;
-            this.maxLines = maxLines;
-            this.severity = severity;
-        }
-
-        @Override
-        public void visit(MethodDeclaration n, List<Violation> collector) {
-            super.visit(n, collector);
-            n.getRange().ifPresent(range -> {
-                int startLine = range.begin.line;
-                int endLine = range.end.line;
-                int length = (endLine - startLine) + 1;
+    @Override
+    public Set<Class<? extends Node>> nodeTypes() {
+        return Set.of(MethodDeclaration.class);
+    }
 
-                if (length <= maxLines) {
-                    return;
-                }
+    @Override
+    public void leave(SourceSkeleton skeleton, int node, Path filePath, List<Violation> collector) {
+        int startLine = skeleton.beginLine(node);
+        int endLine = skeleton.endLine(node);
+        int length = (endLine - startLine) + 1;
 
-                String message = String.format(
-                        "메서드 길이가 %d라인입니다. (허용 기준: %d라인). 한 가지 기능만 담당하도록 메서드를 더 작게 분리해보세요.",
-                        length, maxLines
-                );
-                collector.add(new Violation(filePath, startLine, RULE_ID, message, severity));
-            });
+        if (length <= maxLines) {
+            return;
         }
+
+        String message = String.format(
+                "메서드 길이가 %d라인입니다. (허용 기준: %d라인). 한 가지 기능만 담당하도록 메서드를 더 작게 분리해보세요.",
+                length, maxLines
+        );
+        collector.add(new Violation(filePath, startLine, RULE_ID, message, severity));
     }
-}
\ No newline at end of file
+}
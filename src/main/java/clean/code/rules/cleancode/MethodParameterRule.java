@@ -1,20 +1,21 @@
 package clean.code.rules.cleancode;
 
 import clean.code.report.Violation;
-import clean.code.rules.Rule;
+import clean.code.rules.NodeRule;
 import clean.code.rules.Severity;
-import com.github.javaparser.ast.CompilationUnit;
+import clean.code.rules.SourceSkeleton;
+import clean.code.rules.SourceSkeleton.Kind;
+import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.body.ConstructorDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
-import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * [클린코드] 메서드 인자 수 제한 (4개 이상)
  */
-public class MethodParameterRule implements Rule {
+public class MethodParameterRule implements NodeRule {
 
     private static final String RULE_ID = "MethodParameter";
     private final int maxParameters;
@@ -31,43 +32,27 @@ public class MethodParameterRule implements Rule {
     }
 
     @Override
-    public List<Violation> check(Path filePath, CompilationUnit ast) {
-        List<Violation> violations = new ArrayList<>();
-        ast.accept(new ParameterVisitor(filePath, maxParameters, severity), violations);
-        return violations;
+    public boolean isMemberScoped() {
+        return true;
     }
 
-    private static class ParameterVisitor extends VoidVisitorAdapter<List<Violation>> {
-        private final Path filePath;
-        private final int maxParameters;
-        private final Severity severity;
-
-        public ParameterVisitor(Path filePath, int maxParameters, Severity severity) {
-            this.filePath = filePath;
-            this.maxParameters = maxParameters;
-            this.severity = severity;
-        }
-
-        @Override
-        public void visit(MethodDeclaration n, List<Violation> collector) {
-            super.visit(n, collector);
-            checkParameters(n.getParameters().size(), n.getBegin().map(p -> p.line).orElse(1), collector);
-        }
+    @Override
+    public Set<Class<? extends Node>> nodeTypes() {
+        return Set.of(MethodDeclaration.class, ConstructorDeclaration.class);
+    }
 
-        @Override
-        public void visit(ConstructorDeclaration n, List<Violation> collector) {
-            super.visit(n, collector);
-            checkParameters(n.getParameters().size(), n.getBegin().map(p -> p.line).orElse(1), collector);
-        }
+    @Override
+    public void leave(SourceSkeleton skeleton, int node, Path filePath, List<Violation> collector) {
+        checkParameters(skeleton.countChildren(node, Kind.PARAMETER), skeleton.beginLine(node), filePath, collector);
+    }
 
-        private void checkParameters(int paramCount, int line, List<Violation> collector) {
-            if (paramCount > maxParameters) {
-                String message = String.format(
-                        "메서드(생성자) 인자가 %d개입니다. (허용 기준: %d개). 인자를 객체로 포장하는 것을 고려하세요.",
-                        paramCount, maxParameters
-                );
-                collector.add(new Violation(filePath, line, RULE_ID, message, severity));
-            }
+    private void checkParameters(int paramCount, int line, Path filePath, List<Violation> collector) {
+        if (paramCount > maxParameters) {
+            String message = String.format(
+                    "메서드(생성자) 인자가 %d개입니다. (허용 기준: %d개). 인자를 객체로 포장하는 것을 고려하세요.",
+                    paramCount, maxParameters
+            );
+            collector.add(new Violation(filePath, line, RULE_ID, message, severity));
         }
     }
-}
\ No newline at end of file
+}
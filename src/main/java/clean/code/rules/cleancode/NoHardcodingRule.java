@@ -1,22 +1,17 @@
 package clean.code.rules.cleancode;
 
 import clean.code.report.Violation;
-import clean.code.rules.Rule;
 import clean.code.rules.Severity;
-import com.github.javaparser.ast.CompilationUnit;
-import com.github.javaparser.ast.Node;
-import com.github.javaparser.ast.body.FieldDeclaration;
-import com.github.javaparser.ast.expr.AnnotationExpr;
-import com.github.javaparser.ast.expr.IntegerLiteralExpr;
-import com.github.javaparser.ast.expr.LiteralExpr;
-import com.github.javaparser.ast.expr.StringLiteralExpr;
-import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+import clean.code.rules.TokenRule;
+import clean.code.rules.TokenStream;
+import clean.code.rules.TokenStream.DeclarationKind;
+import clean.code.rules.TypeBodyTracker;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
-public class NoHardcodingRule implements Rule {
+public class NoHardcodingRule implements TokenRule {
 
     private static final String RULE_ID = "NoHardcoding";
     private static final Set<String> ALLOWED_NUMBERS = Set.of("0", "1", "-1");
@@ -31,61 +26,67 @@ public class NoHardcodingRule implements Rule {
         return this.severity;
     }
 
+    /**
+     * 문자열과 int 리터럴을 검사합니다. 상수 필드 선언(static final 필드, 인터페이스의 필드)과 애너테이션 인자는 통째로 건너뜁니다.
+     */
     @Override
-    public List<Violation> check(Path filePath, CompilationUnit ast) {
+    public List<Violation> check(Path filePath, TokenStream tokens) {
         List<Violation> violations = new ArrayList<>();
-        ast.accept(new HardcodingVisitor(filePath, severity), violations);
+        TypeBodyTracker bodies = new TypeBodyTracker(tokens);
+        int i = 0;
+        while (i < tokens.size()) {
+            if (tokens.isDeclarationStart(i)) {
+                int end = tokens.skipModifiers(i);
+                DeclarationKind kind = tokens.declarationKind(end);
+                bodies.declare(end, kind);
+                if (kind == DeclarationKind.FIELD && isConstant(tokens, i, end, bodies)) {
+                    i = tokens.statementEnd(end);
+                    continue;
+                }
+            }
+            bodies.visit(i);
+            if (tokens.isAnnotation(i)) {
+                i = tokens.skipAnnotation(i);
+                continue;
+            }
+            checkLiteral(tokens, i, filePath, violations);
+            i++;
+        }
         return violations;
     }
 
-    private static class HardcodingVisitor extends VoidVisitorAdapter<List<Violation>> {
-        private final Path filePath;
-        private final Severity severity;
-
-        public HardcodingVisitor(Path filePath, Severity severity) {
-            this.filePath = filePath;
-            this.severity = severity;
+    /**
+     * JavaParser의 {@code FieldDeclaration#isStatic()}, {@code isFinal()}과 같이 인터페이스에 바로 선언한 필드는 제어자가
+     * 없어도 상수로 봅니다.
+     */
+    private boolean isConstant(TokenStream tokens, int start, int end, TypeBodyTracker bodies) {
+        if (bodies.enclosingBody() == DeclarationKind.INTERFACE) {
+            return true;
         }
-
-        @Override
-        public void visit(StringLiteralExpr n, List<Violation> collector) {
-            super.visit(n, collector);
-            if (!n.getValue().isEmpty() && !isConstantOrAnnotation(n)) {
-                addViolation(n, "\"" + n.getValue() + "\"", collector);
-            }
+        boolean isStatic = false;
+        boolean isFinal = false;
+        for (int i = start; i < end; i++) {
+            isStatic |= tokens.is(i, "static");
+            isFinal |= tokens.is(i, "final");
         }
+        return isStatic && isFinal;
+    }
 
-        @Override
-        public void visit(IntegerLiteralExpr n, List<Violation> collector) {
-            super.visit(n, collector);
-            if (!ALLOWED_NUMBERS.contains(n.getValue()) && !isConstantOrAnnotation(n)) {
-                addViolation(n, n.getValue(), collector);
-            }
+    private void checkLiteral(TokenStream tokens, int index, Path filePath, List<Violation> collector) {
+        if (tokens.kind(index) == TokenStream.Kind.STRING && tokens.end(index) - tokens.start(index) > 2) {
+            addViolation(tokens, index, tokens.text(index), filePath, collector);
         }
-
-        private boolean isConstantOrAnnotation(Node node) {
-            Node parent = node.getParentNode().orElse(null);
-            while (parent != null) {
-                if (parent instanceof FieldDeclaration field) {
-                    if (field.isStatic() && field.isFinal()) {
-                        return true;
-                    }
-                }
-                if (parent instanceof AnnotationExpr) {
-                    return true;
-                }
-                parent = parent.getParentNode().orElse(null);
-            }
-            return false;
+        if (tokens.kind(index) == TokenStream.Kind.INTEGER && !ALLOWED_NUMBERS.contains(tokens.text(index))) {
+            addViolation(tokens, index, tokens.text(index), filePath, collector);
         }
+    }
 
-        private void addViolation(LiteralExpr n, String value, List<Violation> collector) {
-            int line = n.getRange().map(r -> r.begin.line).orElse(1);
-            String message = String.format(
-                    "하드코딩된 값(%s)이 있습니다. 'static final' 상수로 분리하세요.",
-                    value
-            );
-            collector.add(new Violation(filePath, line, RULE_ID, message, severity));
-        }
+    private void addViolation(TokenStream tokens, int index, String value, Path filePath,
+                              List<Violation> collector) {
+        String message = String.format(
+                "하드코딩된 값(%s)이 있습니다. 'static final' 상수로 분리하세요.",
+                value
+        );
+        collector.add(new Violation(filePath, tokens.line(index), RULE_ID, message, severity));
     }
-}
\ No newline at end of file
+}
@@ -1,22 +1,20 @@
 package clean.code.rules.oop;
 
 import clean.code.report.Violation;
-import clean.code.rules.Rule;
+import clean.code.rules.NodeRule;
 import clean.code.rules.Severity;
-import com.github.javaparser.ast.CompilationUnit;
+import clean.code.rules.SourceSkeleton;
+import clean.code.rules.SourceSkeleton.Kind;
+import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
-import com.github.javaparser.ast.body.FieldDeclaration;
-import com.github.javaparser.ast.type.ClassOrInterfaceType;
-import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
 /**
  * [OOP] 일급 컬렉션 (컬렉션을 포함한 클래스에서 다른 멤버 변수 있는지 확인)
  */
-public class FirstCollectionRule implements Rule {
+public class FirstCollectionRule implements NodeRule {
 
     private static final String RULE_ID = "FirstCollection";
     private static final String MESSAGE = "일급 컬렉션(Collection)을 포함한 클래스는 다른 멤버 변수를 가질 수 없습니다.";
@@ -35,50 +33,38 @@ public class FirstCollectionRule implements Rule {
     }
 
     @Override
-    public List<Violation> check(Path filePath, CompilationUnit ast) {
-        List<Violation> violations = new ArrayList<>();
-        ast.accept(new FirstCollectionVisitor(filePath, severity), violations);
-        return violations;
+    public Set<Class<? extends Node>> nodeTypes() {
+        return Set.of(ClassOrInterfaceDeclaration.class);
     }
 
-    private static class FirstCollectionVisitor extends VoidVisitorAdapter<List<Violation>> {
-        private final Path filePath;
-        private final Severity severity;
-
-        public FirstCollectionVisitor(Path filePath, Severity severity) {
-            this.filePath = filePath;
-            this.severity = severity;
+    @Override
+    public void leave(SourceSkeleton skeleton, int node, Path filePath, List<Violation> collector) {
+        if (skeleton.isInterface(node)) {
+            return;
         }
 
-        @Override
-        public void visit(ClassOrInterfaceDeclaration n, List<Violation> collector) {
-            super.visit(n, collector);
-            if (n.isInterface() || n.isRecordDeclaration() || n.isEnumDeclaration()) {
-                return;
-            }
-
-            List<FieldDeclaration> instanceFields = new ArrayList<>();
-            boolean hasCollection = false;
+        int instanceFields = 0;
+        boolean hasCollection = false;
 
-            for (FieldDeclaration field : n.getFields()) {
-                if (field.isStatic() && field.isFinal()) {
-                    continue;
-                }
-                instanceFields.add(field);
-                if (isCollectionType(field)) {
-                    hasCollection = true;
-                }
+        for (int field = node + 1; field < skeleton.end(node); field = skeleton.end(field)) {
+            if (skeleton.kind(field) != Kind.FIELD || (skeleton.isStatic(field) && skeleton.isFinal(field))) {
+                continue;
             }
-
-            if (hasCollection && instanceFields.size() > 1) {
-                collector.add(new Violation(filePath, n.getRange().map(r -> r.begin.line).orElse(1), RULE_ID, MESSAGE,
-                        severity));
+            instanceFields++;
+            if (isCollectionType(skeleton, field)) {
+                hasCollection = true;
             }
         }
 
-        private boolean isCollectionType(FieldDeclaration field) {
-            return field.getElementType().isClassOrInterfaceType() &&
-                   COLLECTION_TYPES.contains(((ClassOrInterfaceType) field.getElementType()).getNameAsString());
+        if (hasCollection && instanceFields > 1) {
+            collector.add(new Violation(filePath, skeleton.beginLine(node), RULE_ID, MESSAGE, severity));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 골격은 클래스/인터페이스 타입 필드의 원소 타입을 단순 이름으로 저장합니다.
+     */
+    private boolean isCollectionType(SourceSkeleton skeleton, int field) {
+        return COLLECTION_TYPES.contains(skeleton.type(field));
+    }
+}
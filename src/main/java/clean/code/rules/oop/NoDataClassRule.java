@@ -1,21 +1,20 @@
 package clean.code.rules.oop;
 
 import clean.code.report.Violation;
-import clean.code.rules.Rule;
+import clean.code.rules.NodeRule;
 import clean.code.rules.Severity;
-import com.github.javaparser.ast.CompilationUnit;
-import com.github.javaparser.ast.body.BodyDeclaration;
+import clean.code.rules.SourceSkeleton;
+import clean.code.rules.SourceSkeleton.Kind;
+import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
-import com.github.javaparser.ast.body.MethodDeclaration;
-import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * [OOP] Getter/Setter만 있는 데이터 클래스(DTO 제외) 감지
  */
-public class NoDataClassRule implements Rule {
+public class NoDataClassRule implements NodeRule {
 
     private static final String RULE_ID = "NoDataClass";
     private static final String MESSAGE = "클래스가 데이터와 Getter/Setter만 가지고 있습니다. " +
@@ -32,69 +31,50 @@ public class NoDataClassRule implements Rule {
     }
 
     @Override
-    public List<Violation> check(Path filePath, CompilationUnit ast) {
-        List<Violation> violations = new ArrayList<>();
-        ast.accept(new DataClassVisitor(filePath, severity), violations);
-        return violations;
+    public Set<Class<? extends Node>> nodeTypes() {
+        return Set.of(ClassOrInterfaceDeclaration.class);
     }
 
-    private static class DataClassVisitor extends VoidVisitorAdapter<List<Violation>> {
-        private final Path filePath;
-        private final Severity severity;
-
-        public DataClassVisitor(Path filePath, Severity severity) {
-            this.filePath = filePath;
-            this.severity = severity;
+    @Override
+    public void leave(SourceSkeleton skeleton, int node, Path filePath, List<Violation> collector) {
+        if (skeleton.isInterface(node) || skeleton.name(node).endsWith("DTO")) {
+            return;
         }
+        boolean hasFields = false;
+        boolean hasOnlyGettersSettersConstructors = true;
 
-        @Override
-        public void visit(ClassOrInterfaceDeclaration n, List<Violation> collector) {
-            super.visit(n, collector);
-            if (n.isInterface() || n.isRecordDeclaration() || n.isEnumDeclaration() ||
-                n.getNameAsString().endsWith("DTO")) {
-                return;
+        for (int member = node + 1; member < skeleton.end(node); member = skeleton.end(member)) {
+            if (skeleton.kind(member) == Kind.FIELD) {
+                hasFields = true;
             }
-            boolean hasFields = !n.getFields().isEmpty();
-            boolean hasOnlyGettersSettersConstructors = true;
-
-            for (BodyDeclaration<?> member : n.getMembers()) {
-                if (member.isFieldDeclaration() || member.isConstructorDeclaration()
-                    || member.isInitializerDeclaration()) {
-                    continue;
-                }
-                if (member instanceof MethodDeclaration md) {
-                    if (!isGetter(md) && !isSetter(md)) {
-                        hasOnlyGettersSettersConstructors = false;
-                        break;
-                    }
-                }
+            if (skeleton.kind(member) == Kind.METHOD && !isGetter(skeleton, member) && !isSetter(skeleton, member)) {
+                hasOnlyGettersSettersConstructors = false;
             }
+        }
 
-            if (hasFields && hasOnlyGettersSettersConstructors) {
-                collector.add(new Violation(filePath, n.getRange().map(r -> r.begin.line).orElse(1), RULE_ID, MESSAGE,
-                        severity));
-            }
+        if (hasFields && hasOnlyGettersSettersConstructors) {
+            collector.add(new Violation(filePath, skeleton.beginLine(node), RULE_ID, MESSAGE, severity));
         }
+    }
 
-        private boolean isGetter(MethodDeclaration md) {
-            String name = md.getNameAsString();
-            if (!md.getParameters().isEmpty() || md.getType().isVoidType()) {
-                return false;
-            }
-            if (name.startsWith("get") && name.length() > 3 && Character.isUpperCase(name.charAt(3))) {
-                return true;
-            }
-            String typeName = md.getType().asString();
-            return name.startsWith("is") && name.length() > 2 && Character.isUpperCase(name.charAt(2)) &&
-                   (typeName.equals("boolean") || typeName.equals("Boolean"));
+    private boolean isGetter(SourceSkeleton skeleton, int method) {
+        String name = skeleton.name(method);
+        String typeName = skeleton.type(method);
+        if (skeleton.countChildren(method, Kind.PARAMETER) != 0 || typeName.equals("void")) {
+            return false;
+        }
+        if (name.startsWith("get") && name.length() > 3 && Character.isUpperCase(name.charAt(3))) {
+            return true;
         }
+        return name.startsWith("is") && name.length() > 2 && Character.isUpperCase(name.charAt(2)) &&
+               (typeName.equals("boolean") || typeName.equals("Boolean"));
+    }
 
-        private boolean isSetter(MethodDeclaration md) {
-            String name = md.getNameAsString();
-            if (md.getParameters().size() != 1 || !md.getType().isVoidType()) {
-                return false;
-            }
-            return name.startsWith("set") && name.length() > 3 && Character.isUpperCase(name.charAt(3));
+    private boolean isSetter(SourceSkeleton skeleton, int method) {
+        String name = skeleton.name(method);
+        if (skeleton.countChildren(method, Kind.PARAMETER) != 1 || !skeleton.type(method).equals("void")) {
+            return false;
         }
+        return name.startsWith("set") && name.length() > 3 && Character.isUpperCase(name.charAt(3));
     }
-}
\ No newline at end of file
+}
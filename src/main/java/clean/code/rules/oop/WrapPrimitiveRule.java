@@ -1,23 +1,25 @@
 package clean.code.rules.oop;
 
 import clean.code.report.Violation;
-import clean.code.rules.Rule;
+import clean.code.rules.NodeRule;
 import clean.code.rules.Severity;
-import com.github.javaparser.ast.CompilationUnit;
+import clean.code.rules.SourceSkeleton;
+import clean.code.rules.SourceSkeleton.Kind;
+import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.body.ConstructorDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
-import com.github.javaparser.ast.body.Parameter;
-import com.github.javaparser.ast.type.Type;
-import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
-public class WrapPrimitiveRule implements Rule {
+public class WrapPrimitiveRule implements NodeRule {
 
     private static final String RULE_ID = "WrapPrimitive";
     private static final String MESSAGE = "메서드(생성자) 인자에 원시값(primitive/String)이 %d개 있습니다. (허용 기준: %d개). " +
                                           "의미있는 객체(e.g., Age, Name)로 포장하는 것을 고려하세요.";
+    private static final Set<String> PRIMITIVE_TYPES = Set.of(
+            "boolean", "byte", "char", "short", "int", "long", "float", "double"
+    );
 
     private final int maxPrimitives;
     private final Severity severity;
@@ -33,51 +35,36 @@ public class WrapPrimitiveRule implements Rule {
     }
 
     @Override
-    public List<Violation> check(Path filePath, CompilationUnit ast) {
-        List<Violation> violations = new ArrayList<>();
-        ast.accept(new PrimitiveVisitor(filePath, maxPrimitives, severity), violations);
-        return violations;
+    public boolean isMemberScoped() {
+        return true;
     }
 
-    private static class PrimitiveVisitor extends VoidVisitorAdapter<List<Violation>> {
-        private final Path filePath;
-        private final int maxPrimitives;
-        private final Severity severity;
-
-        public PrimitiveVisitor(Path filePath, int maxPrimitives, Severity severity) {
-            this.filePath = filePath;
-            this.maxPrimitives = maxPrimitives;
-            this.severity = severity;
-        }
-
-        @Override
-        public void visit(MethodDeclaration n, List<Violation> collector) {
-            super.visit(n, collector);
-            checkParameters(n.getParameters(), n.getRange().map(r -> r.begin.line).orElse(1), collector);
-        }
-
-        @Override
-        public void visit(ConstructorDeclaration n, List<Violation> collector) {
-            super.visit(n, collector);
-            checkParameters(n.getParameters(), n.getRange().map(r -> r.begin.line).orElse(1), collector);
-        }
-
-        private void checkParameters(List<Parameter> parameters, int line, List<Violation> collector) {
-            long primitiveCount = parameters.stream()
-                    .map(Parameter::getType)
-                    .filter(this::isPrimitiveOrString)
-                    .count();
+    @Override
+    public Set<Class<? extends Node>> nodeTypes() {
+        return Set.of(MethodDeclaration.class, ConstructorDeclaration.class);
+    }
 
-            if (primitiveCount >= maxPrimitives) {
-                collector.add(new Violation(filePath, line, RULE_ID,
-                        String.format(MESSAGE, primitiveCount, maxPrimitives - 1),
-                        severity
-                ));
+    @Override
+    public void leave(SourceSkeleton skeleton, int node, Path filePath, List<Violation> collector) {
+        long primitiveCount = 0;
+        for (int parameter = node + 1; parameter < skeleton.end(node); parameter = skeleton.end(parameter)) {
+            if (skeleton.kind(parameter) == Kind.PARAMETER && isPrimitiveOrString(skeleton.type(parameter))) {
+                primitiveCount++;
             }
         }
+        checkParameters(primitiveCount, skeleton.beginLine(node), filePath, collector);
+    }
 
-        private boolean isPrimitiveOrString(Type type) {
-            return type.isPrimitiveType() || type.asString().equals("String");
+    private void checkParameters(long primitiveCount, int line, Path filePath, List<Violation> collector) {
+        if (primitiveCount >= maxPrimitives) {
+            collector.add(new Violation(filePath, line, RULE_ID,
+                    String.format(MESSAGE, primitiveCount, maxPrimitives - 1),
+                    severity
+            ));
         }
     }
-}
\ No newline at end of file
+
+    private boolean isPrimitiveOrString(String typeName) {
+        return PRIMITIVE_TYPES.contains(typeName) || typeName.equals("String");
+    }
+}
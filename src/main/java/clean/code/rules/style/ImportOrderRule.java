@@ -1,10 +1,10 @@
 package clean.code.rules.style;
 
 import clean.code.report.Violation;
-import clean.code.rules.Rule;
+import clean.code.rules.ParseRequirements;
 import clean.code.rules.Severity;
-import com.github.javaparser.ast.CompilationUnit;
-import com.github.javaparser.ast.ImportDeclaration;
+import clean.code.rules.TokenRule;
+import clean.code.rules.TokenStream;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -12,7 +12,7 @@ import java.util.List;
 /**
  * [Style] 임포트 순서 검사 (Google Style Guide: 3.3.3 Ordering and spacing)
  */
-public class ImportOrderRule implements Rule {
+public class ImportOrderRule implements TokenRule {
 
     private static final String RULE_ID = "ImportOrder";
     private final Severity severity;
@@ -27,9 +27,14 @@ public class ImportOrderRule implements Rule {
     }
 
     @Override
-    public List<Violation> check(Path filePath, CompilationUnit ast) {
+    public ParseRequirements parseRequirements() {
+        return ParseRequirements.HEADER_TOKENS_ONLY;
+    }
+
+    @Override
+    public List<Violation> check(Path filePath, TokenStream tokens) {
         List<Violation> violations = new ArrayList<>();
-        List<ImportDeclaration> imports = ast.getImports();
+        List<TokenStream.Import> imports = tokens.imports();
         if (imports.isEmpty()) {
             return violations;
         }
@@ -38,9 +43,9 @@ public class ImportOrderRule implements Rule {
         String lastStaticImport = "";
         String lastNonStaticImport = "";
 
-        for (ImportDeclaration imp : imports) {
-            String importName = imp.getNameAsString();
-            int line = imp.getRange().map(r -> r.begin.line).orElse(1);
+        for (TokenStream.Import imp : imports) {
+            String importName = imp.name();
+            int line = imp.line();
 
             if (imp.isStatic()) {
                 if (hasEncounteredNonStatic) {
@@ -1,23 +1,25 @@
 package clean.code.rules.style;
 
 import clean.code.report.Violation;
-import clean.code.rules.Rule;
 import clean.code.rules.Severity;
-import com.github.javaparser.ast.CompilationUnit;
+import clean.code.rules.TokenRule;
+import clean.code.rules.TokenStream;
+import clean.code.rules.TokenStream.DeclarationKind;
+import clean.code.rules.TypeBodyTracker;
 import com.github.javaparser.ast.Modifier;
-import com.github.javaparser.ast.Node;
-import com.github.javaparser.ast.NodeList;
-import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
-import com.github.javaparser.ast.body.ConstructorDeclaration;
-import com.github.javaparser.ast.body.FieldDeclaration;
-import com.github.javaparser.ast.body.MethodDeclaration;
-import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-public class ModifierOrderRule implements Rule {
+/**
+ * [Style] 클래스/인터페이스, 메서드, 생성자, 필드 선언의 제어자 순서 검사 (Google Style Guide 4.8.7)
+ */
+public class ModifierOrderRule implements TokenRule {
 
     private static final String RULE_ID = "ModifierOrder";
     private static final List<Modifier.Keyword> STANDARD_ORDER = List.of(
@@ -36,6 +38,10 @@ public class ModifierOrderRule implements Rule {
             Modifier.Keyword.NATIVE,
             Modifier.Keyword.STRICTFP
     );
+    private static final Map<String, Modifier.Keyword> KEYWORDS = Arrays.stream(Modifier.Keyword.values())
+            .collect(Collectors.toMap(Modifier.Keyword::asString, Function.identity()));
+    private static final Set<DeclarationKind> CHECKED_KINDS = Set.of(DeclarationKind.CLASS,
+            DeclarationKind.INTERFACE, DeclarationKind.CALLABLE, DeclarationKind.FIELD);
     private final Severity severity;
 
     public ModifierOrderRule(Severity severity) {
@@ -47,71 +53,59 @@ public class ModifierOrderRule implements Rule {
         return this.severity;
     }
 
+    /**
+     * 선언이 시작할 수 있는 위치마다 제어자를 읽습니다. 애너테이션 타입 본문의 메서드 모양 선언은 요소 선언이므로 검사하지 않습니다.
+     */
     @Override
-    public List<Violation> check(Path filePath, CompilationUnit ast) {
+    public List<Violation> check(Path filePath, TokenStream tokens) {
         List<Violation> violations = new ArrayList<>();
-        ast.accept(new ModifierOrderVisitor(filePath, severity), violations);
+        TypeBodyTracker bodies = new TypeBodyTracker(tokens);
+        for (int i = 0; i < tokens.size(); i++) {
+            if (tokens.isDeclarationStart(i)) {
+                int end = tokens.skipModifiers(i);
+                DeclarationKind kind = tokens.declarationKind(end);
+                boolean annotationElement = kind == DeclarationKind.CALLABLE
+                                            && bodies.enclosingBody() == DeclarationKind.ANNOTATION_TYPE;
+                if (end > i && CHECKED_KINDS.contains(kind) && !annotationElement) {
+                    checkModifiers(tokens, i, end, filePath, violations);
+                }
+                bodies.declare(end, kind);
+            }
+            bodies.visit(i);
+        }
         return violations;
     }
 
-    private static class ModifierOrderVisitor extends VoidVisitorAdapter<List<Violation>> {
-        private final Path filePath;
-        private final Severity severity;
-
-        public ModifierOrderVisitor(Path filePath, Severity severity) {
-            this.filePath = filePath;
-            this.severity = severity;
-        }
-
-        @Override
-        public void visit(ClassOrInterfaceDeclaration n, List<Violation> collector) {
-            super.visit(n, collector);
-            checkModifiers(n, n.getModifiers(), collector);
-        }
-
-        @Override
-        public void visit(MethodDeclaration n, List<Violation> collector) {
-            super.visit(n, collector);
-            checkModifiers(n, n.getModifiers(), collector);
-        }
-
-        @Override
-        public void visit(FieldDeclaration n, List<Violation> collector) {
-            super.visit(n, collector);
-            checkModifiers(n, n.getModifiers(), collector);
+    private void checkModifiers(TokenStream tokens, int start, int end, Path filePath, List<Violation> collector) {
+        List<Modifier.Keyword> actualKeywords = new ArrayList<>();
+        for (int i = start; i < end; ) {
+            if (tokens.isAnnotation(i)) {
+                i = tokens.skipAnnotation(i);
+                continue;
+            }
+            int length = tokens.modifierLength(i);
+            actualKeywords.add(KEYWORDS.get(tokens.is(i, "non") ? "non-sealed" : tokens.text(i)));
+            i += length;
         }
-
-        @Override
-        public void visit(ConstructorDeclaration n, List<Violation> collector) {
-            super.visit(n, collector);
-            checkModifiers(n, n.getModifiers(), collector);
+        if (actualKeywords.size() < 2) {
+            return;
         }
 
-        private void checkModifiers(Node node, NodeList<Modifier> actualModifiers, List<Violation> collector) {
-            if (actualModifiers.isEmpty()) {
-                return;
-            }
-
-            List<Modifier.Keyword> actualKeywords = actualModifiers.stream()
-                    .map(Modifier::getKeyword)
-                    .collect(Collectors.toList());
-
-            List<Modifier.Keyword> expectedKeywords = new ArrayList<>(actualKeywords);
-            expectedKeywords.sort((k1, k2) ->
-                    Integer.compare(STANDARD_ORDER.indexOf(k1), STANDARD_ORDER.indexOf(k2))
+        List<Modifier.Keyword> expectedKeywords = new ArrayList<>(actualKeywords);
+        expectedKeywords.sort((k1, k2) ->
+                Integer.compare(STANDARD_ORDER.indexOf(k1), STANDARD_ORDER.indexOf(k2))
+        );
+
+        if (!actualKeywords.equals(expectedKeywords)) {
+            int line = tokens.line(start);
+            String actual = actualKeywords.stream().map(Enum::name).collect(Collectors.joining(" ")).toLowerCase();
+            String expected = expectedKeywords.stream().map(Enum::name).collect(Collectors.joining(" "))
+                    .toLowerCase();
+            String message = String.format(
+                    "제어자 순서가 표준(%s)과 다릅니다. 실제 순서: [%s], 권장 순서: [%s]",
+                    "Google Style Guide 4.8.7", actual, expected
             );
-
-            if (!actualKeywords.equals(expectedKeywords)) {
-                int line = node.getRange().map(r -> r.begin.line).orElse(1);
-                String actual = actualKeywords.stream().map(Enum::name).collect(Collectors.joining(" ")).toLowerCase();
-                String expected = expectedKeywords.stream().map(Enum::name).collect(Collectors.joining(" "))
-                        .toLowerCase();
-                String message = String.format(
-                        "제어자 순서가 표준(%s)과 다릅니다. 실제 순서: [%s], 권장 순서: [%s]",
-                        "Google Style Guide 4.8.7", actual, expected
-                );
-                collector.add(new Violation(filePath, line, RULE_ID, message, severity));
-            }
+            collector.add(new Violation(filePath, line, RULE_ID, message, severity));
         }
     }
-}
\ No newline at end of file
+}
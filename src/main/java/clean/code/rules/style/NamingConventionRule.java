@@ -1,20 +1,20 @@
 package clean.code.rules.style;
 
 import clean.code.report.Violation;
-import clean.code.rules.Rule;
+import clean.code.rules.NodeRule;
 import clean.code.rules.Severity;
-import com.github.javaparser.ast.CompilationUnit;
+import clean.code.rules.SourceSkeleton;
+import clean.code.rules.SourceSkeleton.Kind;
+import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.FieldDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
-import com.github.javaparser.ast.body.VariableDeclarator;
-import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Pattern;
 
-public class NamingConventionRule implements Rule {
+public class NamingConventionRule implements NodeRule {
 
     private static final String RULE_ID = "NamingConvention";
     private static final Pattern UPPER_CAMEL_CASE = Pattern.compile("^[A-Z][A-Za-z0-9]*$");
@@ -32,68 +32,66 @@ public class NamingConventionRule implements Rule {
     }
 
     @Override
-    public List<Violation> check(Path filePath, CompilationUnit ast) {
-        List<Violation> violations = new ArrayList<>();
-        ast.accept(new NamingVisitor(filePath, severity), violations);
-        return violations;
+    public Set<Class<? extends Node>> nodeTypes() {
+        return Set.of(ClassOrInterfaceDeclaration.class, MethodDeclaration.class, FieldDeclaration.class);
     }
 
-    private static class NamingVisitor extends VoidVisitorAdapter<List<Violation>> {
-        private final Path filePath;
-        private final Severity severity;
-
-        public NamingVisitor(Path filePath, Severity severity) {
-            this.filePath = filePath;
-            this.severity = severity;
+    @Override
+    public void leave(SourceSkeleton skeleton, int node, Path filePath, List<Violation> collector) {
+        switch (skeleton.kind(node)) {
+            case CLASS_OR_INTERFACE -> checkType(skeleton, node, filePath, collector);
+            case METHOD -> checkMethod(skeleton, node, filePath, collector);
+            case FIELD -> checkField(skeleton, node, filePath, collector);
+            default -> {
+            }
         }
+    }
 
-        @Override
-        public void visit(ClassOrInterfaceDeclaration n, List<Violation> collector) {
-            super.visit(n, collector);
-            String name = n.getNameAsString();
-            if (!UPPER_CAMEL_CASE.matcher(name).matches()) {
-                addViolation(n.getName().getRange().map(r -> r.begin.line).orElse(1),
-                        name, "클래스/인터페이스", "UpperCamelCase (ex: MyClass)", collector);
-            }
+    private void checkType(SourceSkeleton skeleton, int node, Path filePath, List<Violation> collector) {
+        String name = skeleton.name(node);
+        if (!UPPER_CAMEL_CASE.matcher(name).matches()) {
+            addViolation(filePath, skeleton.markLine(node),
+                    name, "클래스/인터페이스", "UpperCamelCase (ex: MyClass)", collector);
         }
+    }
 
-        @Override
-        public void visit(MethodDeclaration n, List<Violation> collector) {
-            super.visit(n, collector);
-            String name = n.getNameAsString();
-            if (!LOWER_CAMEL_CASE.matcher(name).matches()) {
-                addViolation(n.getName().getRange().map(r -> r.begin.line).orElse(1),
-                        name, "메서드", "lowerCamelCase (ex: myMethod)", collector);
-            }
+    private void checkMethod(SourceSkeleton skeleton, int node, Path filePath, List<Violation> collector) {
+        String name = skeleton.name(node);
+        if (!LOWER_CAMEL_CASE.matcher(name).matches()) {
+            addViolation(filePath, skeleton.markLine(node),
+                    name, "메서드", "lowerCamelCase (ex: myMethod)", collector);
         }
+    }
 
-        @Override
-        public void visit(FieldDeclaration n, List<Violation> collector) {
-            super.visit(n, collector);
-            boolean isConstant = n.isStatic() && n.isFinal();
+    private void checkField(SourceSkeleton skeleton, int node, Path filePath, List<Violation> collector) {
+        boolean isConstant = skeleton.isStatic(node) && skeleton.isFinal(node);
 
-            for (VariableDeclarator v : n.getVariables()) {
-                String name = v.getNameAsString();
-                int line = v.getName().getRange().map(r -> r.begin.line).orElse(1);
+        for (int v = node + 1; v < skeleton.end(node); v = skeleton.end(v)) {
+            if (skeleton.kind(v) != Kind.VARIABLE) {
+                continue;
+            }
+            String name = skeleton.name(v);
+            int line = skeleton.markLine(v);
 
-                if (isConstant) {
-                    if (!UPPER_SNAKE_CASE.matcher(name).matches()) {
-                        addViolation(line, name, "상수(static final)", "UPPER_SNAKE_CASE (ex: MY_CONSTANT)", collector);
-                    }
-                } else {
-                    if (!LOWER_CAMEL_CASE.matcher(name).matches()) {
-                        addViolation(line, name, "필드", "lowerCamelCase (ex: myField)", collector);
-                    }
+            if (isConstant) {
+                if (!UPPER_SNAKE_CASE.matcher(name).matches()) {
+                    addViolation(filePath, line, name, "상수(static final)", "UPPER_SNAKE_CASE (ex: MY_CONSTANT)",
+                            collector);
+                }
+            } else {
+                if (!LOWER_CAMEL_CASE.matcher(name).matches()) {
+                    addViolation(filePath, line, name, "필드", "lowerCamelCase (ex: myField)", collector);
                 }
             }
         }
+    }
 
-        private void addViolation(int line, String name, String type, String expected, List<Violation> collector) {
-            String message = String.format(
-                    "%s 이름 '%s'가 명명 규칙(%s)을 따르지 않습니다.",
-                    type, name, expected
-            );
-            collector.add(new Violation(filePath, line, RULE_ID, message, severity));
-        }
+    private void addViolation(Path filePath, int line, String name, String type, String expected,
+                              List<Violation> collector) {
+        String message = String.format(
+                "%s 이름 '%s'가 명명 규칙(%s)을 따르지 않습니다.",
+                type, name, expected
+        );
+        collector.add(new Violation(filePath, line, RULE_ID, message, severity));
     }
-}
\ No newline at end of file
+}
@@ -1,16 +1,17 @@
 package clean.code.rules.style;
 
 import clean.code.report.Violation;
-import clean.code.rules.Rule;
+import clean.code.rules.NodeRule;
 import clean.code.rules.Severity;
-import com.github.javaparser.ast.CompilationUnit;
+import clean.code.rules.SourceSkeleton;
+import clean.code.rules.SourceSkeleton.Kind;
+import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.body.MethodDeclaration;
-import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
-public class NoFinalizerRule implements Rule {
+public class NoFinalizerRule implements NodeRule {
 
     private static final String RULE_ID = "NoFinalizer";
     private static final String MESSAGE = "Object.finalize() 메서드를 오버라이드하지 마세요. (Google Style Guide 6.4)";
@@ -26,30 +27,14 @@ public class NoFinalizerRule implements Rule {
     }
 
     @Override
-    public List<Violation> check(Path filePath, CompilationUnit ast) {
-        List<Violation> violations = new ArrayList<>();
-        ast.accept(new FinalizerVisitor(filePath, severity), violations);
-        return violations;
+    public Set<Class<? extends Node>> nodeTypes() {
+        return Set.of(MethodDeclaration.class);
     }
 
-    private static class FinalizerVisitor extends VoidVisitorAdapter<List<Violation>> {
-        private final Path filePath;
-        private final Severity severity;
-
-        public FinalizerVisitor(Path filePath, Severity severity) {
-            this.filePath = filePath;
-            this.severity = severity;
-        }
-
-        @Override
-        public void visit(MethodDeclaration n, List<Violation> collector) {
-            super.visit(n, collector);
-            if (n.getNameAsString().equals("finalize") && n.getParameters().isEmpty()) {
-                int line = n.getName().getRange()
-                        .map(r -> r.begin.line)
-                        .orElse(n.getRange().map(r -> r.begin.line).orElse(1));
-                collector.add(new Violation(filePath, line, RULE_ID, MESSAGE, severity));
-            }
+    @Override
+    public void leave(SourceSkeleton skeleton, int node, Path filePath, List<Violation> collector) {
+        if (skeleton.name(node).equals("finalize") && skeleton.countChildren(node, Kind.PARAMETER) == 0) {
+            collector.add(new Violation(filePath, skeleton.markLine(node), RULE_ID, MESSAGE, severity));
         }
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,15 @@
 package clean.code.rules.style;
 
 import clean.code.report.Violation;
-import clean.code.rules.Rule;
+import clean.code.rules.ParseRequirements;
 import clean.code.rules.Severity;
-import com.github.javaparser.ast.CompilationUnit;
-import com.github.javaparser.ast.ImportDeclaration;
+import clean.code.rules.TokenRule;
+import clean.code.rules.TokenStream;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.stream.Collectors;
 
-public class NoWildcardImportRule implements Rule {
+public class NoWildcardImportRule implements TokenRule {
 
     private static final String RULE_ID = "NoWildcardImport";
     private static final String MESSAGE = "와일드카드 임포트(%s)는 금지됩니다. (Google Style Guide 3.3.1)";
@@ -25,21 +25,25 @@ public class NoWildcardImportRule implements Rule {
     }
 
     @Override
-    public List<Violation> check(Path filePath, CompilationUnit ast) {
-        return ast.getImports().stream()
-                .filter(ImportDeclaration::isAsterisk)
+    public ParseRequirements parseRequirements() {
+        return ParseRequirements.HEADER_TOKENS_ONLY;
+    }
+
+    @Override
+    public List<Violation> check(Path filePath, TokenStream tokens) {
+        return tokens.imports().stream()
+                .filter(TokenStream.Import::isAsterisk)
                 .map(imp -> createViolation(filePath, imp))
                 .collect(Collectors.toList());
     }
 
-    private Violation createViolation(Path filePath, ImportDeclaration imp) {
-        int line = imp.getRange().map(r -> r.begin.line).orElse(1);
+    private Violation createViolation(Path filePath, TokenStream.Import imp) {
         String staticPart = imp.isStatic() ? "static " : "";
         String importName = String.format(
                 "import %s%s.*;",
                 staticPart,
-                imp.getNameAsString()
+                imp.name()
         );
-        return new Violation(filePath, line, RULE_ID, String.format(MESSAGE, importName), severity);
+        return new Violation(filePath, imp.line(), RULE_ID, String.format(MESSAGE, importName), severity);
     }
 }
\ No newline at end of file
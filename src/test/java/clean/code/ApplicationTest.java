@@ -2,6 +2,7 @@ package clean.code;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import clean.code.core.CodeCheckRunner;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
@@ -41,6 +42,19 @@ class ApplicationTest {
         assertThat(exitCode).isEqualTo(CommandLine.ExitCode.USAGE);
     }
 
+    @Test
+    @DisplayName("--fail-fast 다음 인자가 숫자가 아니면 1개로 보고, 다음 인자는 프로젝트 경로로 읽는다.")
+    void cli_parsesFailFastWithOptionalCount() {
+        Application withoutCount = new Application();
+        new CommandLine(withoutCount).parseArgs("--fail-fast", "/path/to/project");
+        Application withCount = new Application();
+        new CommandLine(withCount).parseArgs("/path/to/project", "--fail-fast=5");
+
+        assertThat(withoutCount.failFast).isEqualTo(1);
+        assertThat(withoutCount.projectPath).isEqualTo(Paths.get("/path/to/project"));
+        assertThat(withCount.failFast).isEqualTo(5);
+    }
+
     @BeforeEach
     void setUp() {
         System.setOut(new PrintStream(outContent));
@@ -119,5 +133,6 @@ class ApplicationTest {
                 .contains("🔴 LongMethod.java:4 [MethodLength]")
                 .contains("메서드 길이가 22라인입니다. (허용 기준: 20라인)");
         assertThat(consoleOutput).doesNotContain("NoHardcoding");
+        assertThat(exitCode).isEqualTo(CodeCheckRunner.EXIT_VIOLATIONS);
     }
 }
\ No newline at end of file
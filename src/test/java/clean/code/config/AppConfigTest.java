@@ -0,0 +1,43 @@
+package clean.code.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import clean.code.core.AnalysisOptions;
+import clean.code.core.CacheOptions;
+import clean.code.core.GeneratedCode;
+import clean.code.core.ScanOptions;
+import clean.code.report.Violation;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AppConfigTest {
+
+    private static final long MAX_CACHE_BYTES = 1024L * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("생성 코드 설정이 다르면 캐시를 공유하지 않아, 생성 코드도 검사한 결과를 건너뛸 실행에서 재사용하지 않는다.")
+    void analyzer_separatesCacheByGeneratedCodeSettings() throws IOException {
+        Path configPath = Files.writeString(tempDir.resolve("checker-config.json"),
+                "{ \"rules\": { \"NoHardcoding\": { \"status\": \"on\" } } }");
+        Path generated = Files.writeString(tempDir.resolve("Generated.java"),
+                "// DO NOT EDIT\nclass Generated { int limit = 42; }");
+        CacheOptions cache = new CacheOptions(true, tempDir.resolve("cache"), MAX_CACHE_BYTES);
+
+        List<Violation> included = new AppConfig(configPath,
+                AnalysisOptions.defaults().withGeneratedCode(GeneratedCode.disabled()), cache, ScanOptions.defaults())
+                .analyzer().analyze(List.of(generated));
+        List<Violation> skipped = new AppConfig(configPath, AnalysisOptions.defaults(), cache, ScanOptions.defaults())
+                .analyzer().analyze(List.of(generated));
+
+        assertThat(included).extracting(Violation::ruleId).containsExactly("NoHardcoding");
+        assertThat(skipped).isEmpty();
+    }
+}
@@ -4,14 +4,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class ConfigLoaderTest {
 
+    @TempDir
+    Path tempDir;
     private ConfigLoader configLoader;
 
     @BeforeEach
@@ -34,4 +39,25 @@ class ConfigLoaderTest {
         assertThat(config.getRuleConfig("NamingConvention").isEnabled()).isFalse();
         assertThat(config.getRuleConfig("NonExistentRule").isEnabled()).isFalse();
     }
+
+    @Test
+    @DisplayName("프로필은 설정 파일의 순서를 유지하고, 공통 rules를 바탕으로 자신의 설정만 덮어쓴다.")
+    void load_resolvesProfilesOverCommonRules() throws IOException {
+        Path configPath = tempDir.resolve("profiles.json");
+        Files.writeString(configPath, """
+                {
+                  "rules": { "NoElse": { "status": "on" }, "MethodLength": { "status": "on", "max": 10 } },
+                  "profiles": {
+                    "strict": {},
+                    "legacy": { "rules": { "NoElse": { "status": "off" }, "MethodLength": { "status": "on", "max": 40 } } }
+                  }
+                }
+                """);
+        Map<String, AppRuleConfig> profiles = configLoader.load(configPath).resolvedProfiles();
+        assertThat(profiles.keySet()).containsExactly("strict", "legacy");
+        assertThat(profiles.get("strict").getRuleConfig("NoElse").isEnabled()).isTrue();
+        assertThat(profiles.get("strict").getRuleConfig("MethodLength").max()).isEqualTo(10);
+        assertThat(profiles.get("legacy").getRuleConfig("NoElse").isEnabled()).isFalse();
+        assertThat(profiles.get("legacy").getRuleConfig("MethodLength").max()).isEqualTo(40);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package clean.code.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import clean.code.config.AppRuleConfig;
+import clean.code.config.RuleConfig;
+import clean.code.report.Violation;
+import clean.code.rules.Rule;
+import clean.code.rules.RuleRegistry;
+import clean.code.rules.Severity;
+import com.github.javaparser.ast.CompilationUnit;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AnalysisCacheTest {
+
+    private static final long MAX_BYTES = 1024L * 1024;
+
+    @TempDir
+    Path tempDir;
+    @Mock
+    private Rule mockRule;
+
+    @Test
+    @DisplayName("내용이 바뀌지 않은 파일은 다음 실행에서 파싱하지 않고 캐시된 결과를 사용한다.")
+    void analyzeFile_reusesCachedViolationsAcrossRuns() throws IOException {
+        Path javaFile = tempDir.resolve("Test.java");
+        Files.writeString(javaFile, "class Test { }");
+        Violation violation = new Violation(javaFile, 1, "Rule1", "Error 1", Severity.HIGH);
+        when(mockRule.check(any(Path.class), any(CompilationUnit.class))).thenReturn(List.of(violation));
+        Path cacheDir = tempDir.resolve("cache");
+
+        new Analyzer(List.of(mockRule), AnalysisOptions.defaults().withThreads(1),
+                AnalysisCache.open(cacheDir, "fp", MAX_BYTES)).analyze(List.of(javaFile));
+        List<Violation> results = new Analyzer(List.of(mockRule), AnalysisOptions.defaults().withThreads(1),
+                AnalysisCache.open(cacheDir, "fp", MAX_BYTES)).analyze(List.of(javaFile));
+
+        assertThat(results).containsExactly(violation);
+        verify(mockRule, times(1)).check(any(Path.class), any(CompilationUnit.class));
+    }
+
+    @Test
+    @DisplayName("수정 시각만 바뀐 파일은 내용 해시로 캐시를 찾고, 내용이 바뀐 파일은 다시 분석한다.")
+    void analyzeFile_fallsBackToContentHash() throws IOException {
+        Path javaFile = tempDir.resolve("Test.java");
+        Files.writeString(javaFile, "class Test { }");
+        when(mockRule.check(any(Path.class), any(CompilationUnit.class))).thenReturn(List.of());
+        Analyzer analyzer = new Analyzer(List.of(mockRule), AnalysisOptions.defaults().withThreads(1),
+                AnalysisCache.open(tempDir.resolve("cache"), "fp", MAX_BYTES));
+
+        analyzer.analyzeFile(javaFile);
+        Files.setLastModifiedTime(javaFile, FileTime.fromMillis(0));
+        analyzer.analyzeFile(javaFile);
+        verify(mockRule, times(1)).check(any(Path.class), any(CompilationUnit.class));
+
+        Files.writeString(javaFile, "class Test { int x; }");
+        analyzer.analyzeFile(javaFile);
+        verify(mockRule, times(2)).check(any(Path.class), any(CompilationUnit.class));
+    }
+
+    @Test
+    @DisplayName("내용이 같아도 경로별 설정으로 적용할 규칙이 다른 파일은 캐시된 결과를 공유하지 않는다.")
+    void analyzeFile_doesNotShareResultsAcrossRuleScopes() throws IOException {
+        AppRuleConfig config = new AppRuleConfig(Map.of(
+                "NoHardcoding", new RuleConfig("on", null, null, List.of("**/legacy/**")),
+                "MethodLength", new RuleConfig("on", 15)));
+        String source = "class Foo { int limit() { return 42; } }";
+        Path legacy = Files.createDirectories(tempDir.resolve("app/legacy")).resolve("Foo.java");
+        Path core = Files.createDirectories(tempDir.resolve("app/core")).resolve("Foo.java");
+        Files.writeString(legacy, source);
+        Files.writeString(core, source);
+        AnalysisCache cache = AnalysisCache.open(tempDir.resolve("cache"), "fp", MAX_BYTES);
+        Analyzer analyzer = new Analyzer(new RuleRegistry(config).getScopedRules(),
+                AnalysisOptions.defaults().withThreads(1), cache, CostHistory.inMemory());
+
+        assertThat(analyzer.analyzeFile(legacy)).isEmpty();
+        assertThat(analyzer.analyzeFile(core)).extracting(Violation::ruleId).containsExactly("NoHardcoding");
+    }
+
+    @Test
+    @DisplayName("지문이 다르면 캐시를 공유하지 않는다.")
+    void find_isolatesFingerprints() throws IOException {
+        Path javaFile = tempDir.resolve("Test.java");
+        byte[] content = "class Test { }".getBytes(StandardCharsets.UTF_8);
+        Files.write(javaFile, content);
+        AnalysisCache cache = AnalysisCache.open(tempDir.resolve("cache"), "fp1", MAX_BYTES);
+        cache.store(cache.keyOf(javaFile, content), List.of());
+        cache.flush();
+
+        AnalysisCache other = AnalysisCache.open(tempDir.resolve("cache"), "fp2", MAX_BYTES);
+
+        assertThat(AnalysisCache.open(tempDir.resolve("cache"), "fp1", MAX_BYTES).find(javaFile)).isPresent();
+        assertThat(other.find(javaFile)).isEmpty();
+        assertThat(other.find(other.keyOf(javaFile, content))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시 크기가 상한을 넘으면 flush 시 항목을 삭제한다.")
+    void flush_evictsEntriesOverCap() throws IOException {
+        Path javaFile = tempDir.resolve("Test.java");
+        byte[] content = "class Test { }".getBytes(StandardCharsets.UTF_8);
+        Files.write(javaFile, content);
+        Violation violation = new Violation(javaFile, 1, "Rule1", "Error 1", Severity.HIGH);
+        AnalysisCache cache = AnalysisCache.open(tempDir.resolve("cache"), "fp", 1);
+        cache.store(cache.keyOf(javaFile, content), List.of(violation));
+
+        cache.flush();
+
+        assertThat(cache.find(javaFile)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파싱에 실패한 파일도 캐시하여 다시 파싱하지 않는다.")
+    void analyzeFile_cachesParseFailures() throws IOException {
+        Path javaFile = tempDir.resolve("Broken.java");
+        Files.writeString(javaFile, "class Broken {");
+        AnalysisCache cache = AnalysisCache.open(tempDir.resolve("cache"), "fp", MAX_BYTES);
+        Analyzer analyzer = new Analyzer(List.of(mockRule), AnalysisOptions.defaults().withThreads(1), cache);
+
+        assertThat(analyzer.analyzeFile(javaFile)).isEmpty();
+
+        assertThat(cache.find(javaFile))
+                .hasValueSatisfying(cached -> assertThat(cached.parseFailed()).isTrue());
+    }
+}
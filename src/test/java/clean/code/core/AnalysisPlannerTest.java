@@ -0,0 +1,88 @@
+package clean.code.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import clean.code.report.Violation;
+import clean.code.rules.ParseRequirements;
+import clean.code.rules.ParseRequirements.Scope;
+import clean.code.rules.Rule;
+import clean.code.rules.Severity;
+import clean.code.rules.cleancode.MethodLengthRule;
+import clean.code.rules.cleancode.NoHardcodingRule;
+import clean.code.rules.style.ImportOrderRule;
+import clean.code.rules.style.NoWildcardImportRule;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ParserConfiguration.LanguageLevel;
+import com.github.javaparser.ast.CompilationUnit;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AnalysisPlannerTest {
+
+    @Test
+    @DisplayName("주석이 필요한 규칙이 없으면 주석을 연결하지 않고 위치만 계산하는 설정을 만든다.")
+    void parserConfiguration_skipsCommentsWhenNoRuleNeedsThem() {
+        List<Rule> rules = List.of(new MethodLengthRule(15, Severity.HIGH), new ImportOrderRule(Severity.MEDIUM));
+
+        ParserConfiguration configuration = AnalysisPlanner.parserConfiguration(AnalysisPlanner.requirements(rules));
+
+        assertThat(configuration.isAttributeComments()).isFalse();
+        assertThat(configuration.isStoreTokens()).isTrue();
+        assertThat(configuration.getLanguageLevel()).isEqualTo(LanguageLevel.POPULAR);
+    }
+
+    @Test
+    @DisplayName("모든 규칙이 import 토큰만 보면 헤더의 토큰만 만들고, 하나라도 본문의 AST를 보면 전체를 파싱한다.")
+    void requirements_headerTokensOnlyWhenAllRulesAreHeaderTokenRules() {
+        Rule importOrder = new ImportOrderRule(Severity.MEDIUM);
+        Rule methodLength = new MethodLengthRule(15, Severity.HIGH);
+
+        ParseRequirements importsOnly = AnalysisPlanner.requirements(List.of(importOrder));
+        ParseRequirements mixed = AnalysisPlanner.requirements(List.of(importOrder, methodLength));
+
+        assertThat(importsOnly.scope()).isEqualTo(Scope.HEADER);
+        assertThat(importsOnly.syntaxTree()).isFalse();
+        assertThat(mixed.scope()).isEqualTo(Scope.FULL);
+        assertThat(mixed.syntaxTree()).isTrue();
+    }
+
+    @Test
+    @DisplayName("규칙들의 요구 사항을 모두 만족하도록 합친다.")
+    void requirements_mergesAllRules() {
+        Rule commentRule = new StubRule(new ParseRequirements(Scope.HEADER, true, true, false, LanguageLevel.JAVA_8));
+        Rule modernRule = new StubRule(new ParseRequirements(Scope.FULL, false, false, true, LanguageLevel.JAVA_17));
+
+        ParseRequirements requirements = AnalysisPlanner.requirements(List.of(commentRule, modernRule));
+
+        assertThat(requirements).isEqualTo(new ParseRequirements(Scope.FULL, true, true, true, LanguageLevel.JAVA_17));
+    }
+
+    @Test
+    @DisplayName("규칙을 헤더 토큰, 전체 토큰, 전체 AST 순으로 나누고 단계 안에서는 등록 순서를 유지한다.")
+    void costTiers_ordersRulesByParseCost() {
+        Rule methodLength = new MethodLengthRule(15, Severity.HIGH);
+        Rule noHardcoding = new NoHardcodingRule(Severity.MEDIUM);
+        Rule importOrder = new ImportOrderRule(Severity.MEDIUM);
+        Rule noWildcardImport = new NoWildcardImportRule(Severity.MEDIUM);
+
+        List<List<Rule>> tiers = AnalysisPlanner.costTiers(
+                List.of(methodLength, noHardcoding, importOrder, noWildcardImport));
+
+        assertThat(tiers).containsExactly(List.of(importOrder, noWildcardImport), List.of(noHardcoding),
+                List.of(methodLength));
+    }
+
+    private record StubRule(ParseRequirements parseRequirements) implements Rule {
+        @Override
+        public List<Violation> check(Path filePath, CompilationUnit ast) {
+            return List.of();
+        }
+
+        @Override
+        public Severity getSeverity() {
+            return Severity.MEDIUM;
+        }
+    }
+}
@@ -2,16 +2,25 @@ package clean.code.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import clean.code.report.SkippedFile;
 import clean.code.report.Violation;
 import clean.code.rules.Rule;
+import clean.code.rules.RuleProfile;
 import clean.code.rules.Severity;
 import com.github.javaparser.ast.CompilationUnit;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -45,4 +54,197 @@ class AnalyzerTest {
                 .hasSize(2)
                 .containsExactlyInAnyOrder(violation1, violation2);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 스레드로 분석해도 결과는 입력 파일 순서대로 병합된다.")
+    void analyze_mergesViolationsInFileOrderWhenParallel() throws IOException {
+        List<Path> javaFiles = new ArrayList<>();
+        List<Violation> expected = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Path javaFile = tempDir.resolve("Test" + i + ".java");
+            Files.writeString(javaFile, "class Test" + i + " { }");
+            Violation violation = new Violation(javaFile, i + 1, "Rule1", "Error " + i, Severity.HIGH);
+            when(mockRule1.check(eq(javaFile), any(CompilationUnit.class))).thenReturn(List.of(violation));
+            javaFiles.add(javaFile);
+            expected.add(violation);
+        }
+        Analyzer analyzer = new Analyzer(List.of(mockRule1), AnalysisOptions.defaults().withThreads(4));
+        List<Violation> results = analyzer.analyze(javaFiles);
+        assertThat(results).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("앞부분에 생성 코드 표식이 있는 파일은 파싱하지 않고, 표식을 끄면 검사한다.")
+    void analyze_skipsFilesWithGeneratedMarker() throws IOException {
+        Path generated = tempDir.resolve("Generated.java");
+        Files.writeString(generated, """
+                // Generated by the protocol buffer compiler.  DO NOT EDIT!
+                class Generated { }
+                """);
+        Violation violation = new Violation(generated, 2, "Rule1", "Error", Severity.HIGH);
+        when(mockRule1.check(any(Path.class), any(CompilationUnit.class))).thenReturn(List.of(violation));
+
+        List<Violation> skipped = new Analyzer(List.of(mockRule1)).analyze(List.of(generated));
+        List<Violation> included = new Analyzer(List.of(mockRule1), AnalysisOptions.defaults().withThreads(1)
+                .withGeneratedCode(GeneratedCode.disabled())).analyze(List.of(generated));
+
+        assertThat(skipped).isEmpty();
+        assertThat(included).containsExactly(violation);
+    }
+
+    @Test
+    @DisplayName("@GeneratedValue처럼 표식으로 시작하는 다른 이름은 생성 코드로 보지 않고 검사한다.")
+    void analyze_checksFilesWithIdentifiersStartingWithMarker() throws IOException {
+        Path entity = tempDir.resolve("Entity.java");
+        Files.writeString(entity, """
+                import java.util.*;
+                class Entity {
+                    @GeneratedValue
+                    Long id;
+                }
+                """);
+        Violation violation = new Violation(entity, 1, "Rule1", "Error", Severity.HIGH);
+        when(mockRule1.check(any(Path.class), any(CompilationUnit.class))).thenReturn(List.of(violation));
+
+        assertThat(new Analyzer(List.of(mockRule1)).analyze(List.of(entity))).containsExactly(violation);
+    }
+
+    @Test
+    @DisplayName("비동기 I/O 모드는 바이트 예산보다 큰 파일도 처리하며, 결과를 입력 파일 순서대로 병합한다.")
+    void analyze_mergesViolationsInFileOrderWithAsyncIo() throws IOException {
+        List<Path> javaFiles = new ArrayList<>();
+        List<Violation> expected = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Path javaFile = tempDir.resolve("Async" + i + ".java");
+            Files.writeString(javaFile, "class Async" + i + " { }");
+            Violation violation = new Violation(javaFile, i + 1, "Rule1", "Error " + i, Severity.HIGH);
+            when(mockRule1.check(eq(javaFile), any(CompilationUnit.class))).thenReturn(List.of(violation));
+            javaFiles.add(javaFile);
+            expected.add(violation);
+        }
+        AnalysisOptions options = new AnalysisOptions(2, true, 8, 0, FileBudget.unlimited(),
+                FailFast.disabled(), GeneratedCode.defaults());
+        List<Violation> results = new Analyzer(List.of(mockRule1), options).analyze(javaFiles);
+        assertThat(results).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("큰 파일은 규칙들을 동시에 적용하되, 결과는 규칙 등록 순서대로 병합한다.")
+    void analyze_checksLargeFileRulesConcurrentlyInRuleOrder() throws IOException {
+        Path javaFile = tempDir.resolve("Large.java");
+        Files.writeString(javaFile, "class Large {\n\n\n}");
+        Violation violation1 = new Violation(javaFile, 1, "Rule1", "Error 1", Severity.HIGH);
+        Violation violation2 = new Violation(javaFile, 2, "Rule2", "Error 2", Severity.MEDIUM);
+        when(mockRule1.check(any(Path.class), any(CompilationUnit.class))).thenReturn(List.of(violation1));
+        when(mockRule2.check(any(Path.class), any(CompilationUnit.class))).thenReturn(List.of(violation2));
+        AnalysisOptions options = new AnalysisOptions(2, false, 8, 3, FileBudget.unlimited(),
+                FailFast.disabled(), GeneratedCode.defaults());
+        List<Violation> results = new Analyzer(List.of(mockRule1, mockRule2), options).analyze(List.of(javaFile));
+        assertThat(results).containsExactly(violation1, violation2);
+    }
+
+    @Test
+    @DisplayName("분석기 풀 밖에서 큰 파일을 검사해도 규칙 묶음은 공용 풀이 아닌 스레드 수 이하 크기의 풀에서 실행한다.")
+    void analyzeFile_checksLargeFileRulesOnPoolSizedByThreads() throws IOException {
+        Path javaFile = tempDir.resolve("Large.java");
+        Files.writeString(javaFile, "class Large {\n\n\n}");
+        List<ForkJoinPool> pools = new CopyOnWriteArrayList<>();
+        when(mockRule1.check(any(Path.class), any(CompilationUnit.class))).thenAnswer(invocation -> {
+            pools.add(ForkJoinTask.getPool());
+            return List.of();
+        });
+        when(mockRule2.check(any(Path.class), any(CompilationUnit.class))).thenAnswer(invocation -> {
+            pools.add(ForkJoinTask.getPool());
+            return List.of();
+        });
+        AnalysisOptions options = new AnalysisOptions(3, false, 8, 3, FileBudget.unlimited(),
+                FailFast.disabled(), GeneratedCode.defaults());
+        new Analyzer(List.of(mockRule1, mockRule2), options).analyzeFile(javaFile);
+        assertThat(pools).hasSize(2).allSatisfy(pool -> {
+            assertThat(pool).isNotNull().isNotSameAs(ForkJoinPool.commonPool());
+            assertThat(pool.getParallelism()).isEqualTo(2);
+            assertThat(pool.isShutdown()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("여러 프로필은 한 번 파싱한 AST로 함께 검사하고, 위반 사항에 프로필 이름을 기록한다.")
+    void forProfiles_checksAllProfilesWithOneParse() throws IOException {
+        Path javaFile = tempDir.resolve("Profiled.java");
+        Files.writeString(javaFile, "class Profiled { }");
+        Violation strict = new Violation(javaFile, 1, "Rule1", "Error 1", Severity.HIGH);
+        Violation lenient = new Violation(javaFile, 2, "Rule2", "Error 2", Severity.MEDIUM);
+        List<CompilationUnit> checkedAsts = new ArrayList<>();
+        when(mockRule1.check(any(Path.class), any(CompilationUnit.class))).thenAnswer(invocation -> {
+            checkedAsts.add(invocation.getArgument(1));
+            return List.of(strict);
+        });
+        when(mockRule2.check(any(Path.class), any(CompilationUnit.class))).thenAnswer(invocation -> {
+            checkedAsts.add(invocation.getArgument(1));
+            return List.of(lenient);
+        });
+        Analyzer analyzer = Analyzer.forProfiles(
+                List.of(new RuleProfile("strict", List.of(mockRule1)), new RuleProfile("lenient", List.of(mockRule2))),
+                AnalysisOptions.defaults().withThreads(1), AnalysisCache.disabled(), CostHistory.inMemory());
+        List<Violation> results = analyzer.analyze(List.of(javaFile));
+        assertThat(analyzer.profiles()).containsExactly("strict", "lenient");
+        assertThat(results).containsExactly(strict.withProfile("strict"), lenient.withProfile("lenient"));
+        assertThat(checkedAsts).hasSize(2);
+        assertThat(checkedAsts.get(0)).isSameAs(checkedAsts.get(1));
+    }
+
+    @Test
+    @DisplayName("fail-fast 기준 수에 이르면 남은 파일은 분석하지 않고, 기준 중요도보다 낮은 위반 사항은 세지 않는다.")
+    void analyze_stopsWhenFailFastLimitReached() throws IOException {
+        List<Path> javaFiles = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Path javaFile = tempDir.resolve("Fail" + i + ".java");
+            Files.writeString(javaFile, "class Fail" + i + " { }");
+            javaFiles.add(javaFile);
+        }
+        Violation medium = new Violation(javaFiles.get(0), 1, "Rule1", "Error", Severity.MEDIUM);
+        Violation high = new Violation(javaFiles.get(1), 1, "Rule1", "Error", Severity.HIGH);
+        when(mockRule1.check(eq(javaFiles.get(0)), any(CompilationUnit.class))).thenReturn(List.of(medium));
+        when(mockRule1.check(eq(javaFiles.get(1)), any(CompilationUnit.class))).thenReturn(List.of(high));
+        AnalysisOptions options = AnalysisOptions.defaults().withThreads(1)
+                .withFailFast(new FailFast(1, Severity.HIGH));
+        Analyzer analyzer = new Analyzer(List.of(mockRule1), options);
+        List<Violation> results = analyzer.analyze(javaFiles);
+        assertThat(results).containsExactly(medium, high);
+        verify(mockRule1, never()).check(eq(javaFiles.get(2)), any(CompilationUnit.class));
+        assertThat(analyzer.failsOn(medium)).isFalse();
+        assertThat(analyzer.failsOn(high)).isTrue();
+    }
+
+    @Test
+    @DisplayName("크기 한도를 넘는 파일은 읽지 않고 건너뛴 파일로 기록한다.")
+    void analyze_skipsFileLargerThanBudget() throws IOException {
+        Path large = tempDir.resolve("Large.java");
+        Files.writeString(large, "class Large { int a; int b; int c; }");
+        AnalysisOptions options = AnalysisOptions.defaults().withThreads(1).withFileBudget(new FileBudget(16, 0, 0));
+        Analyzer analyzer = new Analyzer(List.of(mockRule1), options);
+        List<Violation> results = analyzer.analyze(List.of(large));
+        assertThat(results).isEmpty();
+        assertThat(analyzer.skippedFiles()).containsExactly(new SkippedFile(large, "size 36 bytes > 16 bytes"));
+    }
+
+    @Test
+    @DisplayName("규칙 검사 시간 한도를 넘은 파일은 중단하고 건너뛰며, 나머지 파일은 계속 분석한다.")
+    void analyze_skipsFileExceedingRuleTimeAndContinues() throws IOException {
+        Path slow = tempDir.resolve("Slow.java");
+        Path fast = tempDir.resolve("Fast.java");
+        Files.writeString(slow, "class Slow { }");
+        Files.writeString(fast, "class Fast { }");
+        Violation violation = new Violation(fast, 1, "Rule1", "Error", Severity.HIGH);
+        when(mockRule1.check(eq(slow), any(CompilationUnit.class))).thenAnswer(invocation -> {
+            Thread.sleep(60_000);
+            return List.of();
+        });
+        when(mockRule1.check(eq(fast), any(CompilationUnit.class))).thenReturn(List.of(violation));
+        AnalysisOptions options = AnalysisOptions.defaults().withThreads(1).withFileBudget(new FileBudget(0, 0, 200));
+        Analyzer analyzer = new Analyzer(List.of(mockRule1), options);
+        List<Violation> results = analyzer.analyze(List.of(slow, fast));
+        assertThat(results).containsExactly(violation);
+        assertThat(analyzer.skippedFiles()).containsExactly(new SkippedFile(slow, "rule time > 200 ms"));
+    }
+}
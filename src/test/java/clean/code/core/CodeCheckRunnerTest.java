@@ -1,18 +1,27 @@
 package clean.code.core;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import clean.code.report.ConsoleReporter;
 import clean.code.report.Violation;
+import clean.code.report.ViolationEstimate;
 import clean.code.rules.Severity;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -34,6 +43,11 @@ class CodeCheckRunnerTest {
     @InjectMocks
     private CodeCheckRunner runner;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(mockAnalyzer.monitorHeap()).thenReturn(() -> { });
+    }
+
     @Test
     @DisplayName("run 메서드는 스캔, 분석, 리포트의 흐름을 올바른 순서로 호출한다.")
     void run_shouldExecuteScanAnalyzeReportInOrder() {
@@ -57,4 +71,67 @@ class CodeCheckRunnerTest {
         verify(mockAnalyzer, times(1)).analyze(emptyFileList);
         verify(mockReporter, times(1)).report(emptyViolationList);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("runStreaming은 발견된 파일을 즉시 분석하고, 파일별 결과와 요약을 출력한다.")
+    void runStreaming_reportsEachFileAndSummary() throws InterruptedException {
+        doAnswer(invocation -> {
+            Consumer<Path> consumer = invocation.getArgument(1);
+            FAKE_FILES.forEach(consumer);
+            return null;
+        }).when(mockScanner).scan(eq(TEST_PATH), any());
+        when(mockAnalyzer.parallelism()).thenReturn(2);
+        when(mockAnalyzer.analyzeFile(FAKE_FILES.getFirst())).thenReturn(FAKE_VIOLATIONS);
+        runner.runStreaming(TEST_PATH);
+        verify(mockReporter, times(1)).reportFile(FAKE_FILES.getFirst(), FAKE_VIOLATIONS);
+        verify(mockReporter, times(1)).reportSummary(1, 1);
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("스트리밍 분석 중 파일 하나에서 StackOverflowError가 나도 다음 파일을 분석하고, 워커가 오류로 끝나도 멈추지 않는다.")
+    void runRecentFirst_continuesAfterErrors() throws InterruptedException {
+        Path deeplyNested = TEST_PATH.resolve("Nested.java");
+        when(mockScanner.scanRecentFirst(TEST_PATH, RecentOrder.MTIME))
+                .thenReturn(List.of(deeplyNested, FAKE_FILES.getFirst()));
+        when(mockAnalyzer.parallelism()).thenReturn(1);
+        when(mockAnalyzer.analyzeFile(deeplyNested)).thenThrow(new StackOverflowError());
+        when(mockAnalyzer.analyzeFile(FAKE_FILES.getFirst())).thenReturn(FAKE_VIOLATIONS)
+                .thenThrow(new LinkageError("worker failure"));
+
+        runner.runRecentFirst(TEST_PATH, RecentOrder.MTIME);
+        runner.runRecentFirst(TEST_PATH, RecentOrder.MTIME);
+
+        verify(mockReporter, times(1)).reportFile(FAKE_FILES.getFirst(), FAKE_VIOLATIONS);
+        verify(mockReporter, times(1)).reportSummary(1, 1);
+        verify(mockReporter, times(1)).reportSummary(0, 0);
+    }
+
+    @Test
+    @DisplayName("runRecentFirst는 최근에 바뀐 순서로 정렬된 파일을 분석하고, 파일별 결과와 요약을 출력한다.")
+    void runRecentFirst_reportsEachFileAndSummary() throws InterruptedException {
+        when(mockScanner.scanRecentFirst(TEST_PATH, RecentOrder.GIT)).thenReturn(FAKE_FILES);
+        when(mockAnalyzer.parallelism()).thenReturn(1);
+        when(mockAnalyzer.analyzeFile(FAKE_FILES.getFirst())).thenReturn(FAKE_VIOLATIONS);
+
+        runner.runRecentFirst(TEST_PATH, RecentOrder.GIT);
+
+        verify(mockReporter, times(1)).reportFile(FAKE_FILES.getFirst(), FAKE_VIOLATIONS);
+        verify(mockReporter, times(1)).reportSummary(1, 1);
+    }
+
+    @Test
+    @DisplayName("runSampled는 목표 정밀도에 이를 때까지 표본을 분석하고, 추정치를 출력한 뒤 종료 코드를 반환한다.")
+    void runSampled_reportsEstimatesAndExitCode() throws InterruptedException {
+        when(mockScanner.scan(TEST_PATH)).thenReturn(FAKE_FILES);
+        when(mockAnalyzer.parallelism()).thenReturn(1);
+        when(mockAnalyzer.analyzeFile(FAKE_FILES.getFirst())).thenReturn(FAKE_VIOLATIONS);
+        when(mockAnalyzer.failsOn(any(Violation.class))).thenReturn(true);
+
+        int exitCode = runner.runSampled(TEST_PATH, new SampleOptions(0.05, 1));
+
+        verify(mockReporter, times(1)).reportEstimates(eq(1), eq(1), eq(1), eq(1L), anyLong(),
+                eq(new ViolationEstimate(null, 1, 0)), eq(List.of(new ViolationEstimate("TestRule", 1, 0))));
+        assertThat(exitCode).isEqualTo(CodeCheckRunner.EXIT_VIOLATIONS);
+    }
+}
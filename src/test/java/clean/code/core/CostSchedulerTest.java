@@ -0,0 +1,49 @@
+package clean.code.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CostSchedulerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("기록이 없으면 파일 크기가 큰 순서로 처리하고, 가장 먼저 비는 스레드에 배분한 예상 실행 시간을 계산한다.")
+    void plan_ordersBySizeWithoutHistory() throws IOException {
+        List<Path> javaFiles = List.of(write("Small.java", 100), write("Large.java", 300), write("Medium.java", 200));
+
+        CostScheduler.Schedule schedule = CostScheduler.plan(javaFiles, CostHistory.inMemory()::estimate, 2);
+
+        assertThat(schedule.order()).containsExactly(1, 2, 0);
+        assertThat(schedule.predictedMakespanNanos()).isEqualTo(300 * 1_000L);
+    }
+
+    @Test
+    @DisplayName("이전 실행에서 측정한 시간이 있으면 크기 대신 기록된 시간으로 순서를 정한다.")
+    void plan_prefersMeasuredCostsFromPreviousRun() throws IOException {
+        Path slowSmall = write("SlowSmall.java", 100);
+        Path fastLarge = write("FastLarge.java", 300);
+        CostHistory previous = CostHistory.open(tempDir.resolve("cache"), "fp");
+        previous.record(slowSmall, 100, 9_000_000);
+        previous.record(fastLarge, 300, 1_000_000);
+        previous.flush();
+
+        CostScheduler.Schedule schedule = CostScheduler.plan(List.of(fastLarge, slowSmall),
+                CostHistory.open(tempDir.resolve("cache"), "fp")::estimate, 1);
+
+        assertThat(schedule.order()).containsExactly(1, 0);
+        assertThat(schedule.predictedMakespanNanos()).isEqualTo(10_000_000);
+    }
+
+    private Path write(String fileName, int size) throws IOException {
+        return Files.writeString(tempDir.resolve(fileName), "x".repeat(size));
+    }
+}
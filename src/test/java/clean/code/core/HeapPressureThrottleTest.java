@@ -0,0 +1,52 @@
+package clean.code.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HeapPressureThrottleTest {
+
+    private static final long LARGE_FILE_BYTES = 1024;
+
+    @Test
+    @DisplayName("GC 직후 힙 점유율이 높으면 한도를 절반으로 줄이되, 줄인 한도가 반영되기 전에는 더 줄이지 않는다.")
+    void onHeapOccupancy_halvesLimitOncePerDrain() {
+        HeapPressureThrottle throttle = new HeapPressureThrottle(8, LARGE_FILE_BYTES);
+        for (int i = 0; i < 6; i++) {
+            throttle.acquire(10);
+        }
+
+        throttle.onHeapOccupancy(0.8);
+        throttle.onHeapOccupancy(0.9);
+        assertThat(throttle.limit()).isEqualTo(4);
+
+        throttle.release();
+        throttle.release();
+        throttle.onHeapOccupancy(0.9);
+        assertThat(throttle.limit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("힙이 부족한 동안 큰 파일은 다른 파일이 끝날 때까지 미루고, 힙이 회복되면 한도를 하나씩 늘린다.")
+    void acquire_defersLargeFilesUntilOthersFinish() throws Exception {
+        HeapPressureThrottle throttle = new HeapPressureThrottle(4, LARGE_FILE_BYTES);
+        throttle.acquire(10);
+        throttle.onHeapOccupancy(0.8);
+
+        CompletableFuture<Void> large = CompletableFuture.runAsync(() -> throttle.acquire(LARGE_FILE_BYTES));
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(large).isNotDone();
+
+        throttle.release();
+        large.get(5, TimeUnit.SECONDS);
+        throttle.onHeapOccupancy(0.3);
+        assertThat(throttle.limit()).isEqualTo(3);
+        assertThat(throttle.summary()).containsExactly(
+                "[INFO] Heap throttle: 1 reductions, 1 increases, 1 large files deferred (peak heap 80% after GC)",
+                "   - heap 80% after GC: in-flight limit 4 -> 2, deferring large files",
+                "   - heap 30% after GC: in-flight limit 2 -> 3, accepting large files");
+    }
+}
@@ -6,7 +6,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
 import java.util.List;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -47,6 +50,18 @@ class ProjectScannerTest {
                 );
     }
 
+    @Test
+    @DisplayName("생성 코드 출력 디렉토리는 들어가지 않고 건너뛰며, 검사를 시작한 디렉토리는 이름과 관계없이 탐색한다.")
+    void scan_skipsGeneratedDirectories() throws IOException {
+        Path generatedDir = tempDir.resolve("build/generated/sources");
+        Files.createDirectories(generatedDir);
+        Files.createFile(generatedDir.resolve("UserMapperImpl.java"));
+        ProjectScanner scanner = new ProjectScanner(GeneratedCode.defaults(), ScanOptions.none(), new FileStats());
+
+        assertThat(scanner.scan(tempDir)).hasSize(3);
+        assertThat(scanner.scan(tempDir.resolve("build/generated"))).hasSize(1);
+    }
+
     @Test
     @DisplayName("존재하지 않는 경로를 스캔하면 빈 리스트를 반환한다.")
     void scan_returnsEmptyListForNonExistentPath() throws IOException {
@@ -54,4 +69,108 @@ class ProjectScannerTest {
         List<Path> javaFiles = projectScanner.scan(nonExistentPath);
         assertThat(javaFiles).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("기본 제외 디렉토리, 제외 패턴, 하위 디렉토리까지의 .gitignore에 맞는 경로는 들어가지 않고, 빌드 파일이 없는 build 패키지는 탐색한다.")
+    void scan_prunesExcludedAndIgnoredPaths() throws IOException {
+        createJavaFile(".git/objects/Blob.java");
+        createJavaFile("node_modules/pkg/Lib.java");
+        Files.createFile(tempDir.resolve("build.gradle"));
+        createJavaFile("build/tmp/Stub.java");
+        createJavaFile("service/build/BuildService.java");
+        createJavaFile("legacy/OldService.java");
+        createJavaFile("service/impl/UserServiceImplTest.java");
+        createJavaFile("service/impl/KeepTest.java");
+        Files.writeString(tempDir.resolve(".gitignore"), "# 주석\n*Test.java\n");
+        Files.writeString(tempDir.resolve("service/impl/.gitignore"), "!KeepTest.java\n");
+        ProjectScanner scanner = new ProjectScanner(GeneratedCode.disabled(),
+                ScanOptions.defaults().withExclusions(ScanExclusions.defaults().withAdditional(List.of("/legacy/"))),
+                new FileStats());
+
+        assertThat(scanner.scan(tempDir))
+                .extracting(Path::getFileName)
+                .extracting(Path::toString)
+                .containsExactlyInAnyOrder("RootClass.java", "UserService.java", "UserServiceImpl.java",
+                        "BuildService.java", "KeepTest.java");
+    }
+
+    @Test
+    @DisplayName("심볼릭 링크를 따라가되, 이미 탐색한 디렉토리를 가리키는 링크는 다시 탐색하지 않는다.")
+    void scan_followsSymlinksOnce() throws IOException {
+        Path link = tempDir.resolve("linked");
+        try {
+            Files.createSymbolicLink(link, tempDir.resolve("service"));
+            Files.createSymbolicLink(tempDir.resolve("service/impl/loop"), tempDir);
+        } catch (UnsupportedOperationException | IOException e) {
+            Assumptions.abort("심볼릭 링크를 만들 수 없는 환경");
+        }
+
+        assertThat(projectScanner.scan(tempDir)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("여러 스레드로 탐색해도 같은 파일을 같은 기준으로 찾아 경로 순으로 반환하고, 찾은 파일의 크기와 수정 시각을 기록한다.")
+    void scan_inParallelMatchesSequentialScan() throws IOException {
+        createJavaFile("node_modules/pkg/Lib.java");
+        createJavaFile("service/impl/UserServiceImplTest.java");
+        Files.writeString(tempDir.resolve("service/.gitignore"), "*Test.java\n");
+        Files.writeString(tempDir.resolve("RootClass.java"), "class RootClass {}");
+        FileStats fileStats = new FileStats();
+        ProjectScanner sequential = new ProjectScanner(GeneratedCode.disabled(), ScanOptions.defaults(),
+                new FileStats());
+        ProjectScanner parallel = new ProjectScanner(GeneratedCode.disabled(), ScanOptions.defaults().withThreads(4),
+                fileStats);
+
+        List<Path> javaFiles = parallel.scan(tempDir);
+        assertThat(javaFiles).isSorted().hasSize(3).containsExactlyInAnyOrderElementsOf(sequential.scan(tempDir));
+
+        long modifiedMillis = Files.getLastModifiedTime(tempDir.resolve("RootClass.java")).toMillis();
+        Files.delete(tempDir.resolve("RootClass.java"));
+        assertThat(fileStats.of(tempDir.resolve("RootClass.java"))).get()
+                .returns(18L, ScannedFile::size)
+                .returns(modifiedMillis, ScannedFile::modifiedMillis);
+    }
+
+    @Test
+    @DisplayName("소스 디렉토리만 탐색하면 빌드 파일에 선언된 모듈의 소스 디렉토리에서만 찾고, 파일마다 소스 묶음을 기록한다.")
+    void scan_sourceRootsOnly_walksDeclaredRootsAndTagsSourceSets() throws IOException {
+        Files.writeString(tempDir.resolve("settings.gradle"), "include 'app', 'legacy'\n");
+        createJavaFile("app/src/main/java/App.java");
+        createJavaFile("app/src/test/java/AppTest.java");
+        createJavaFile("app/src/test/java/fixtures/Fixture.java");
+        createJavaFile("legacy/src/main/java/Old.java");
+        Files.writeString(tempDir.resolve(".gitignore"), "/legacy/\n");
+        FileStats fileStats = new FileStats();
+        ProjectScanner scanner = new ProjectScanner(GeneratedCode.disabled(),
+                ScanOptions.defaults().withSourceRootsOnly(true), fileStats);
+
+        assertThat(scanner.scan(tempDir)).containsExactlyInAnyOrder(tempDir.resolve("app/src/main/java/App.java"),
+                tempDir.resolve("app/src/test/java/AppTest.java"),
+                tempDir.resolve("app/src/test/java/fixtures/Fixture.java"));
+        assertThat(fileStats.sourceSetOf(tempDir.resolve("app/src/test/java/fixtures/Fixture.java")))
+                .isEqualTo(SourceSet.TEST);
+        assertThat(fileStats.sourceSetOf(tempDir.resolve("app/src/main/java/App.java"))).isEqualTo(SourceSet.MAIN);
+        assertThat(fileStats.sourceSetOf(tempDir.resolve("service/UserService.java"))).isEqualTo(SourceSet.MAIN);
+    }
+
+    @Test
+    @DisplayName("scanRecentFirst는 수정 시각이 최근인 파일부터 정렬한다.")
+    void scanRecentFirst_ordersByModificationTime() throws IOException {
+        Path rootClass = tempDir.resolve("RootClass.java");
+        Path userService = tempDir.resolve("service/UserService.java");
+        Path userServiceImpl = tempDir.resolve("service/impl/UserServiceImpl.java");
+        Instant now = Instant.now();
+        Files.setLastModifiedTime(rootClass, FileTime.from(now.minusSeconds(300)));
+        Files.setLastModifiedTime(userService, FileTime.from(now));
+        Files.setLastModifiedTime(userServiceImpl, FileTime.from(now.minusSeconds(60)));
+
+        assertThat(projectScanner.scanRecentFirst(tempDir, RecentOrder.MTIME))
+                .containsExactly(userService, userServiceImpl, rootClass);
+    }
+
+    private void createJavaFile(String path) throws IOException {
+        Path file = tempDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.createFile(file);
+    }
+}
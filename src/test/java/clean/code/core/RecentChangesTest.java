@@ -0,0 +1,33 @@
+package clean.code.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RecentChangesTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("git status와 git log 출력에서 커밋되지 않은 파일, 최근 커밋에서 바뀐 파일과 그 마지막 커밋 시각을 읽는다.")
+    void parse_readsUncommittedFilesAndLastCommitTimes() {
+        Path topLevel = tempDir.toAbsolutePath();
+        Path projectPath = topLevel.resolve("src");
+        RecentChanges changes = new RecentChanges(projectPath);
+
+        changes.parseStatus(topLevel, " M src/Edited.java\0R  src/Renamed.java\0src/Old.java\0?? src/New.java\0");
+        changes.parseLog(topLevel, "@200\n\nsrc/Recent.java\nsrc/Older.java\n\n@100\n\nsrc/Older.java\n");
+
+        assertThat(changes.tier(projectPath.resolve("Edited.java"))).isZero();
+        assertThat(changes.tier(projectPath.resolve("Renamed.java"))).isZero();
+        assertThat(changes.tier(projectPath.resolve("New.java"))).isZero();
+        assertThat(changes.tier(projectPath.resolve("Old.java"))).isEqualTo(2);
+        assertThat(changes.tier(projectPath.resolve("Recent.java"))).isEqualTo(1);
+        assertThat(changes.commitTime(projectPath.resolve("Older.java"))).isEqualTo(200);
+        assertThat(changes.commitTime(projectPath.resolve("Unchanged.java"))).isZero();
+    }
+}
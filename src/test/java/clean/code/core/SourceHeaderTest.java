@@ -0,0 +1,33 @@
+package clean.code.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SourceHeaderTest {
+
+    @Test
+    @DisplayName("package와 import 선언까지만 잘라내고, 주석은 건너뛴다.")
+    void of_cutsAfterLastImport() {
+        String header = """
+                /* license */
+                package a.b; // trailing
+
+                import static java.util.Map.entry;
+                import java.util./* inline; */List;
+                """;
+        String source = header + "@Deprecated\npublic class Test { String s = \"import x;\"; }\n";
+
+        assertThat(SourceHeader.of(source)).isEqualTo(header.substring(0, header.lastIndexOf(';') + 1));
+    }
+
+    @Test
+    @DisplayName("헤더가 없으면 빈 문자열을, package 앞에 어노테이션이 있으면 원본 전체를 반환한다.")
+    void of_handlesMissingOrAnnotatedHeader() {
+        assertThat(SourceHeader.of("class Test { }")).isEmpty();
+
+        String packageInfo = "@Deprecated\npackage a.b;\n";
+        assertThat(SourceHeader.of(packageInfo)).isEqualTo(packageInfo);
+    }
+}
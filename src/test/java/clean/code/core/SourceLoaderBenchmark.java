@@ -0,0 +1,147 @@
+package clean.code.core;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 소스 읽기 경로별 처리량(파일 읽기 + 생성 코드 표식 확인 + 디코딩)을 비교하는 마이크로벤치마크. 테스트로 실행하지 않습니다.
+ * <p>
+ * 디렉토리의 .java 파일을 경로마다 반복해 읽고, 워밍업 뒤 측정한 처리량의 중앙값을 출력합니다. 디스크가 아닌 페이지 캐시에서 읽는
+ * 비용을 비교하므로 같은 파일을 여러 번 읽습니다.
+ * <pre>
+ * ./gradlew sourceLoadingBenchmark -Pcorpus=/path/to/sources [-Prounds=7]
+ * </pre>
+ * <ul>
+ *     <li>{@code reader}: {@code StaticJavaParser.parse(Path)}처럼 파일마다 {@link Reader}를 열어 문자 단위로 디코딩</li>
+ *     <li>{@code channel}: 이전 분석기의 경로. 채널로 배열에 읽고, 앞부분을 따로 디코딩해 표식마다 검색</li>
+ *     <li>{@code SourceLoader}: 큰 파일은 매핑하고, 표식은 공유 단어로 한 번씩 검색한 뒤 한 번에 디코딩</li>
+ * </ul>
+ */
+class SourceLoaderBenchmark {
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int DEFAULT_ROUNDS = 7;
+    private static final double BYTES_PER_MB = 1_000_000.0;
+
+    private final List<Path> javaFiles;
+    private final long totalBytes;
+    private final GeneratedCode generatedCode = GeneratedCode.defaults();
+    private final SourceLoader loader = new SourceLoader(StandardCharsets.UTF_8, generatedCode);
+    private long decodedCharacters;
+
+    private SourceLoaderBenchmark(List<Path> javaFiles) throws IOException {
+        this.javaFiles = javaFiles;
+        long total = 0;
+        for (Path javaFile : javaFiles) {
+            total += Files.size(javaFile);
+        }
+        this.totalBytes = total;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: SourceLoaderBenchmark <source directory> [rounds]");
+            return;
+        }
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+        List<Path> javaFiles;
+        try (Stream<Path> paths = Files.walk(Path.of(args[0]))) {
+            javaFiles = paths.filter(path -> path.toString().endsWith(".java")).sorted().toList();
+        }
+        SourceLoaderBenchmark benchmark = new SourceLoaderBenchmark(javaFiles);
+        System.out.printf("%d files, %.1f MB, %d rounds%n", javaFiles.size(), benchmark.totalBytes / BYTES_PER_MB,
+                rounds);
+        benchmark.run(rounds);
+    }
+
+    private void run(int rounds) throws IOException {
+        Map<String, SourceRead> paths = new LinkedHashMap<>();
+        paths.put("reader", SourceLoaderBenchmark::readWithReader);
+        paths.put("channel", this::readWithChannel);
+        paths.put("SourceLoader", this::readWithLoader);
+        Map<String, List<Double>> throughputs = new LinkedHashMap<>();
+        for (int round = 0; round < WARMUP_ROUNDS + rounds; round++) {
+            for (Map.Entry<String, SourceRead> path : paths.entrySet()) {
+                double throughput = measure(path.getValue());
+                if (round >= WARMUP_ROUNDS) {
+                    throughputs.computeIfAbsent(path.getKey(), key -> new ArrayList<>()).add(throughput);
+                }
+            }
+        }
+        double baseline = median(throughputs.get("channel"));
+        throughputs.forEach((name, values) -> System.out.printf("%-13s %7.0f MB/s (min %.0f, max %.0f) %+6.1f%%%n",
+                name, median(values), Collections.min(values), Collections.max(values),
+                (median(values) / baseline - 1) * 100));
+    }
+
+    /**
+     * @return 처리량 (MB/s)
+     */
+    private double measure(SourceRead read) throws IOException {
+        long startedAt = System.nanoTime();
+        for (Path javaFile : javaFiles) {
+            decodedCharacters += read.apply(javaFile).length();
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        return totalBytes / BYTES_PER_MB / seconds;
+    }
+
+    private static String readWithReader(Path javaFile) throws IOException {
+        StringBuilder text = new StringBuilder();
+        char[] chunk = new char[8192];
+        try (Reader reader = Files.newBufferedReader(javaFile)) {
+            for (int count = reader.read(chunk); count > 0; count = reader.read(chunk)) {
+                text.append(chunk, 0, count);
+            }
+        }
+        return text.toString();
+    }
+
+    private String readWithChannel(Path javaFile) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(javaFile)) {
+            byte[] content = new byte[Math.toIntExact(channel.size())];
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            fill(channel, buffer.limit(Math.min(content.length, GeneratedCode.HEAD_BYTES)));
+            String head = new String(content, 0, buffer.position(), StandardCharsets.UTF_8);
+            if (generatedCode.markers().stream().anyMatch(head::contains)) {
+                return "";
+            }
+            fill(channel, buffer.limit(content.length));
+            return new String(content, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void fill(SeekableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return;
+            }
+        }
+    }
+
+    private String readWithLoader(Path javaFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(javaFile)) {
+            return loader.read(channel, Math.toIntExact(channel.size()), true).map(loader::decode).orElse("");
+        }
+    }
+
+    private static double median(List<Double> values) {
+        List<Double> sorted = values.stream().sorted().toList();
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private interface SourceRead {
+        String apply(Path javaFile) throws IOException;
+    }
+}
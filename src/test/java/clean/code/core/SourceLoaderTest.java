@@ -0,0 +1,66 @@
+package clean.code.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SourceLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("작은 파일과 매핑해 읽는 큰 파일 모두 내용을 그대로 읽고, 앞부분에 생성 코드 표식이 있으면 읽지 않는다.")
+    void read_readsSmallAndMappedFilesAndSkipsGeneratedHeads() throws IOException {
+        SourceLoader loader = new SourceLoader(StandardCharsets.UTF_8, GeneratedCode.defaults());
+        String body = "class Large {\n" + "    int value = 1; // 한글 주석\n".repeat(SourceLoader.MAP_THRESHOLD / 20) + "}\n";
+        byte[] small = "class Small { }".getBytes(StandardCharsets.UTF_8);
+        byte[] large = body.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(read(loader, write("Small.java", small))).hasValue(small);
+        assertThat(read(loader, write("Large.java", large))).hasValue(large);
+        assertThat(read(loader, write("Proto.java",
+                ("// Generated by the protocol buffer compiler.  DO NOT EDIT!\n" + body).getBytes()))).isEmpty();
+        assertThat(read(loader, write("Annotated.java",
+                ("@javax.annotation.processing.Generated(\"apt\")\n" + body).getBytes()))).isEmpty();
+        assertThat(read(loader, write("Mentions.java", "/** Generated by hand. */ class Mentions { }".getBytes())))
+                .isPresent();
+        assertThat(read(loader, write("Generated.java", "@Generated\nclass Generated { }".getBytes()))).isEmpty();
+        assertThat(read(loader, write("Entity.java", "class Entity { @GeneratedValue Long id; }".getBytes())))
+                .isPresent();
+    }
+
+    @Test
+    @DisplayName("UTF-8 BOM은 파서에 넘기지 않고, 설정한 인코딩으로 디코딩하며 표식도 그 인코딩으로 찾는다.")
+    void decode_skipsUtf8BomAndUsesConfiguredEncoding() throws IOException {
+        Charset eucKr = Charset.forName("EUC-KR");
+        SourceLoader utf8 = new SourceLoader(StandardCharsets.UTF_8, GeneratedCode.disabled());
+        SourceLoader korean = new SourceLoader(eucKr,
+                GeneratedCode.defaults().withAdditional(List.of("자동 생성 파일"), List.of()));
+        byte[] withBom = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, 'c', 'l', 'a', 's', 's'};
+
+        assertThat(utf8.decode(withBom)).isEqualTo("class");
+        assertThat(korean.decode("String 이름 = \"값\";".getBytes(eucKr))).isEqualTo("String 이름 = \"값\";");
+        assertThat(read(korean, write("Generated.java", "// 자동 생성 파일\nclass A { }".getBytes(eucKr)))).isEmpty();
+    }
+
+    private Path write(String name, byte[] content) throws IOException {
+        return Files.write(tempDir.resolve(name), content);
+    }
+
+    private static Optional<byte[]> read(SourceLoader loader, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file)) {
+            return loader.read(channel, Math.toIntExact(channel.size()), true);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package clean.code.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SourceRootsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("settings.gradle의 include와 projectDir, includeBuild에서 모듈을 찾고 주석 처리된 include는 무시한다.")
+    void discover_readsGradleSettings() throws IOException {
+        write("settings.gradle", """
+                rootProject.name = 'shop'
+                include ':app', ':tools:cli'
+                include(
+                    'core'
+                )
+                // include 'disabled'
+                project(':core').projectDir = file('libs/core')
+                includeBuild 'plugins'
+                """);
+        write("plugins/settings.gradle.kts", "include(\":lint\")\n");
+        createDirectories("src/main/java", "app/src/main/java", "app/src/test/java", "tools/cli/src/main/java",
+                "libs/core/src/main/java", "disabled/src/main/java", "plugins/lint/src/test/java");
+
+        assertThat(SourceRoots.discover(tempDir)).containsExactly(
+                new SourceRoot(tempDir.resolve("src/main/java"), SourceSet.MAIN),
+                new SourceRoot(tempDir.resolve("app/src/main/java"), SourceSet.MAIN),
+                new SourceRoot(tempDir.resolve("app/src/test/java"), SourceSet.TEST),
+                new SourceRoot(tempDir.resolve("tools/cli/src/main/java"), SourceSet.MAIN),
+                new SourceRoot(tempDir.resolve("libs/core/src/main/java"), SourceSet.MAIN),
+                new SourceRoot(tempDir.resolve("plugins/lint/src/test/java"), SourceSet.TEST));
+    }
+
+    @Test
+    @DisplayName("pom.xml의 modules와 프로필의 modules를 따라가고, 선언된 소스 디렉토리를 사용하며 프로젝트 밖의 모듈은 무시한다.")
+    void discover_readsMavenModules() throws IOException {
+        write("pom.xml", """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <modules>
+                    <module>api</module>
+                    <module>../outside</module>
+                  </modules>
+                  <profiles>
+                    <profile><modules><module>extra/pom.xml</module></modules></profile>
+                  </profiles>
+                </project>
+                """);
+        write("api/pom.xml", """
+                <project>
+                  <build>
+                    <sourceDirectory>${project.basedir}/src/java</sourceDirectory>
+                    <testSourceDirectory>tests</testSourceDirectory>
+                  </build>
+                </project>
+                """);
+        write("extra/pom.xml", "<project/>");
+        createDirectories("api/src/java", "api/tests", "api/src/main/java", "extra/src/test/java");
+
+        assertThat(SourceRoots.discover(tempDir)).containsExactly(
+                new SourceRoot(tempDir.resolve("api/src/java"), SourceSet.MAIN),
+                new SourceRoot(tempDir.resolve("api/tests"), SourceSet.TEST),
+                new SourceRoot(tempDir.resolve("extra/src/test/java"), SourceSet.TEST));
+    }
+
+    @Test
+    @DisplayName("빌드 파일이 없으면 루트 디렉토리 전체를 탐색한다.")
+    void discover_fallsBackToWholeDirectoryWithoutBuildFiles() {
+        assertThat(SourceRoots.discover(tempDir)).containsExactly(SourceRoot.whole(tempDir));
+    }
+
+    private void write(String path, String content) throws IOException {
+        Path file = tempDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+
+    private void createDirectories(String... paths) throws IOException {
+        for (String path : paths) {
+            Files.createDirectories(tempDir.resolve(path));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package clean.code.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import clean.code.report.Violation;
+import clean.code.rules.Rule;
+import clean.code.rules.Severity;
+import com.github.javaparser.ast.CompilationUnit;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SourceTreeTest {
+
+    @TempDir
+    Path tempDir;
+    @Mock
+    private Rule mockRule;
+
+    @Test
+    @DisplayName("archive.jar!/sub/dir 경로는 압축을 풀지 않고 그 디렉토리의 항목을 스캔, 분석하며 위반 사항 경로는 항목 경로가 된다.")
+    void open_scansAndAnalyzesEntriesInsideArchive() throws IOException {
+        String large = "class Large {\n" + "    int value = 1;\n".repeat(SourceLoader.MAP_THRESHOLD / 16) + "}\n";
+        Path archive = writeArchive("sources.jar", Map.of(
+                "sub/dir/A.java", "class A { }",
+                "sub/dir/Large.java", large,
+                "other/B.java", "class B { }"));
+        when(mockRule.check(any(Path.class), any(CompilationUnit.class))).thenAnswer(invocation ->
+                List.of(new Violation(invocation.getArgument(0), 1, "Rule", "Error", Severity.HIGH)));
+
+        List<Violation> violations;
+        Path root;
+        try (SourceTree sourceTree = SourceTree.open(Path.of(archive + "!/sub/dir"))) {
+            root = sourceTree.root();
+            List<Path> javaFiles = new ProjectScanner().scan(root);
+            violations = new Analyzer(List.of(mockRule)).analyze(javaFiles);
+        }
+
+        assertThat(violations).extracting(violation -> violation.filePath().toString())
+                .containsExactlyInAnyOrder("/sub/dir/A.java", "/sub/dir/Large.java");
+        assertThat(root.getFileSystem().isOpen()).isFalse();
+    }
+
+    @Test
+    @DisplayName("디렉토리는 그대로 사용하고, 압축 파일 전체를 열면 캐시 키와 출력 경로에 압축 파일 경로가 포함된다.")
+    void open_keepsDirectoriesAndKeysEntriesByArchive() throws IOException {
+        Path archive = writeArchive("snapshot.zip", Map.of("A.java", "class A { }"));
+
+        try (SourceTree directory = SourceTree.open(tempDir)) {
+            assertThat(directory.root()).isEqualTo(tempDir);
+        }
+        try (SourceTree sourceTree = SourceTree.open(archive)) {
+            Path entry = sourceTree.root().resolve("A.java");
+            assertThat(sourceTree.root()).hasToString("/");
+            assertThat(SourceTree.isArchived(entry)).isTrue();
+            assertThat(SourceTree.keyOf(entry)).startsWith("jar:").endsWith("snapshot.zip!/A.java");
+            assertThat(SourceTree.describe(sourceTree.root())).endsWith("snapshot.zip!/");
+        }
+    }
+
+    private Path writeArchive(String name, Map<String, String> entries) throws IOException {
+        Path archive = tempDir.resolve(name);
+        try (OutputStream file = Files.newOutputStream(archive); ZipOutputStream zip = new ZipOutputStream(file)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return archive;
+    }
+}
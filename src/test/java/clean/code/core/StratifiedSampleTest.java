@@ -0,0 +1,101 @@
+package clean.code.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import clean.code.report.Violation;
+import clean.code.report.ViolationEstimate;
+import clean.code.rules.Severity;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StratifiedSampleTest {
+
+    @Test
+    @DisplayName("앞부분은 크기 층과 패키지에 고루 퍼지고, 끝까지 꺼내면 모든 파일이 한 번씩 나오며 같은 시드면 순서가 같다.")
+    void next_spreadsOverStrataAndPackages() {
+        List<Path> files = files(160);
+
+        List<Path> order = drain(StratifiedSample.of(files, StratifiedSampleTest::sizeOf, 7));
+
+        assertThat(order).containsExactlyInAnyOrderElementsOf(files);
+        List<Path> firstSixteen = order.subList(0, 16);
+        assertThat(firstSixteen.stream().map(file -> sizeOf(file) / 10).distinct()).hasSize(8);
+        assertThat(firstSixteen.stream().map(Path::getParent).distinct()).hasSizeGreaterThan(1);
+        assertThat(drain(StratifiedSample.of(files, StratifiedSampleTest::sizeOf, 7))).containsExactlyElementsOf(order);
+    }
+
+    @Test
+    @DisplayName("위반 사항이 많은 큰 파일의 층에서 더 많이 뽑고, 추정치의 신뢰구간은 참값을 포함하며 모든 파일을 기록하면 참값과 같다.")
+    void record_estimatesTotalWithConfidenceInterval() {
+        List<Path> files = files(800);
+        StratifiedSample sample = StratifiedSample.of(files, StratifiedSampleTest::sizeOf, 11);
+        int trueTotal = files.stream().mapToInt(StratifiedSampleTest::violationCount).sum();
+
+        List<Path> taken = new ArrayList<>();
+        while (!sample.isPrecise(0.1)) {
+            taken.add(sample.next());
+            sample.record(violationsOf(taken.getLast()));
+        }
+        ViolationEstimate partial = sample.total();
+        assertThat(taken.size()).isGreaterThanOrEqualTo(StratifiedSample.MIN_FILES).isLessThan(files.size());
+        assertThat(taken.stream().filter(file -> sizeOf(file) >= 70).count())
+                .isGreaterThan(taken.stream().filter(file -> sizeOf(file) < 10).count());
+        assertThat(partial.halfWidth()).isLessThanOrEqualTo(0.1 * partial.total());
+        assertThat((double) trueTotal).isBetween(partial.low(), partial.high());
+
+        while (sample.hasNext()) {
+            sample.record(violationsOf(sample.next()));
+        }
+        assertThat(sample.total().total()).isEqualTo(trueTotal);
+        assertThat(sample.total().halfWidth()).isZero();
+        assertThat(sample.perRule()).extracting(ViolationEstimate::ruleId).containsExactly("MethodLength", "NoElse");
+    }
+
+    private static List<Path> drain(StratifiedSample sample) {
+        List<Path> order = new ArrayList<>();
+        while (sample.hasNext()) {
+            order.add(sample.next());
+            sample.record(List.of());
+        }
+        return order;
+    }
+
+    /**
+     * 크기는 0~79바이트를 순환하고, 패키지는 다섯 개입니다.
+     */
+    private static List<Path> files(int count) {
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            files.add(Path.of("src/pkg" + (i % 5) + "/File" + i + "_" + (i % 80) + ".java"));
+        }
+        Collections.shuffle(files, new Random(1));
+        return files;
+    }
+
+    private static long sizeOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(name.indexOf('_') + 1, name.indexOf('.')));
+    }
+
+    /**
+     * 큰 파일일수록 위반 사항이 많고 편차도 큽니다.
+     */
+    private static int violationCount(Path file) {
+        long size = sizeOf(file);
+        return (int) (size >= 70 ? size % 7 * 10 : size / 20) + (file.getParent().endsWith("pkg0") ? 2 : 0);
+    }
+
+    private static List<Violation> violationsOf(Path file) {
+        List<Violation> violations = new ArrayList<>();
+        for (int i = 0; i < violationCount(file); i++) {
+            String rule = i % 2 == 0 ? "MethodLength" : "NoElse";
+            violations.add(new Violation(file, i + 1, rule, "message", Severity.MEDIUM));
+        }
+        return violations;
+    }
+}
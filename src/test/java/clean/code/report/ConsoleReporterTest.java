@@ -66,6 +66,24 @@ class ConsoleReporterTest {
         assertThat(output).isEqualTo(expectedOutput.replace("\r\n", "\n"));
     }
 
+    @Test
+    @DisplayName("스트리밍 모드에서는 파일별 위반 사항을 먼저 출력하고, 마지막에 요약을 출력한다.")
+    void reportFile_printsFileThenSummary() {
+        Path file = Paths.get("src/main/Order.java");
+        consoleReporter.reportFile(file, List.of(
+                new Violation(file, 10, "MethodLength", "메서드 길이 15 초과", Severity.HIGH)
+        ));
+        consoleReporter.reportSummary(1, 1);
+        String output = getConsoleOutput();
+        String expectedOutput = """
+                🔴 Order.java:10 [MethodLength]
+                   - 메서드 길이 15 초과
+
+                [FAIL] Found 1 violations in 1 files!""";
+
+        assertThat(output).isEqualTo(expectedOutput.replace("\r\n", "\n"));
+    }
+
     /**
      * outContent에 저장된 콘솔 출력 내용을 문자열로 반환합니다.
      */
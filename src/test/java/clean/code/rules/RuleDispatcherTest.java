@@ -0,0 +1,123 @@
+package clean.code.rules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import clean.code.report.Violation;
+import clean.code.rules.RuleDispatcher.MemberResult;
+import clean.code.rules.cleancode.IndentDepthRule;
+import clean.code.rules.cleancode.LawOfDemeterRule;
+import clean.code.rules.cleancode.MethodLengthRule;
+import clean.code.rules.cleancode.NoElseRule;
+import clean.code.rules.style.NamingConventionRule;
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.NameExpr;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RuleDispatcherTest {
+
+    private final Path TEST_FILE = Paths.get("Test.java");
+
+    @Test
+    @DisplayName("한 번의 순회로 얻은 규칙별 결과는 규칙을 각각 검사한 결과와 같다.")
+    void dispatch_matchesIndividualChecks() {
+        String code = """
+                    class Bad_Name {
+                        private static final int LIMIT = 10;
+                        void method(int x) {
+                            if (x > 0) {
+                                for (int i = 0; i < x; i++) {
+                                    while (x > i) {
+                                        System.out.println("hello".trim().length());
+                                    }
+                                }
+                            }
+                        }
+                    }
+                """;
+        CompilationUnit ast = StaticJavaParser.parse(code);
+        List<NodeRule> rules = List.of(
+                new IndentDepthRule(2, 4, Severity.HIGH),
+                new LawOfDemeterRule(1, Severity.MEDIUM),
+                new MethodLengthRule(5, Severity.HIGH),
+                new NamingConventionRule(Severity.HIGH)
+        );
+        List<List<Violation>> dispatched = new RuleDispatcher(rules).dispatch(TEST_FILE, ast);
+        assertThat(dispatched).hasSize(rules.size());
+        for (int i = 0; i < rules.size(); i++) {
+            assertThat(dispatched.get(i))
+                    .isNotEmpty()
+                    .containsExactlyElementsOf(rules.get(i).check(TEST_FILE, ast));
+        }
+    }
+
+    @Test
+    @DisplayName("메서드 단위로 저장한 결과를 재사용해도 전체를 검사한 결과와 같다.")
+    void dispatch_reusesMemberResults() {
+        String code = """
+                    class Bad_Name {
+                        void plain(int x) {
+                            if (x > 0) { x++; } else { x--; }
+                        }
+                        void withAnonymous() {
+                            Runnable bad_runnable = new Runnable() {
+                                public void Run() { System.out.println("hello".trim()); }
+                            };
+                        }
+                    }
+                """;
+        SourceSkeleton skeleton = SourceSkeleton.of(StaticJavaParser.parse(code));
+        RuleDispatcher dispatcher = new RuleDispatcher(List.of(
+                new NoElseRule(Severity.MEDIUM),
+                new NamingConventionRule(Severity.HIGH),
+                new LawOfDemeterRule(1, Severity.MEDIUM)
+        ));
+        Map<String, MemberResult> stored = new HashMap<>();
+        RuleDispatcher.MemberResults memberResults = new RuleDispatcher.MemberResults() {
+            @Override
+            public Optional<MemberResult> find(SourceSkeleton skeleton, int member) {
+                return Optional.ofNullable(stored.get(skeleton.name(member)));
+            }
+
+            @Override
+            public void record(SourceSkeleton skeleton, int member, MemberResult result) {
+                stored.put(skeleton.name(member), result);
+            }
+        };
+
+        List<List<Violation>> expected = dispatcher.dispatch(TEST_FILE, skeleton);
+        assertThat(dispatcher.dispatch(TEST_FILE, skeleton, memberResults)).isEqualTo(expected);
+        assertThat(dispatcher.dispatch(TEST_FILE, skeleton, memberResults)).isEqualTo(expected);
+        assertThat(stored.get("plain").traverse()).isFalse();
+        assertThat(stored.get("withAnonymous").traverse()).isTrue();
+    }
+
+    @Test
+    @DisplayName("디스패처가 지원하지 않는 노드 타입을 구독하면 예외가 발생한다.")
+    void constructor_rejectsUnsupportedNodeType() {
+        NodeRule unsupported = new NodeRule() {
+            @Override
+            public Set<Class<? extends Node>> nodeTypes() {
+                return Set.of(NameExpr.class);
+            }
+
+            @Override
+            public Severity getSeverity() {
+                return Severity.MEDIUM;
+            }
+        };
+        assertThatThrownBy(() -> new RuleDispatcher(List.of(unsupported)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("NameExpr");
+    }
+}
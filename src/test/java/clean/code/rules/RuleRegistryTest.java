@@ -0,0 +1,82 @@
+package clean.code.rules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import clean.code.config.AppRuleConfig;
+import clean.code.config.RuleConfig;
+import clean.code.config.RuleOverride;
+import clean.code.rules.cleancode.MethodLengthRule;
+import clean.code.rules.cleancode.NoElseRule;
+import clean.code.rules.style.ImportOrderRule;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RuleRegistryTest {
+
+    @Test
+    @DisplayName("규칙별 include/exclude glob에 맞는 파일에만 규칙을 적용하고, 조건이 없는 규칙은 모든 파일에 적용한다.")
+    void getScopedRules_appliesIncludeAndExcludeGlobs() {
+        AppRuleConfig config = new AppRuleConfig(Map.of(
+                "NoElse", new RuleConfig("on", null, null, List.of("**/generated/**")),
+                "ImportOrder", new RuleConfig("on", null, List.of("src/main"), null),
+                "MethodLength", new RuleConfig("on", 15)));
+
+        ScopedRules scoped = new RuleRegistry(config).getScopedRules();
+
+        assertThat(kinds(scoped, Path.of("/repo/src/main/java/App.java")))
+                .containsExactly(MethodLengthRule.class, NoElseRule.class, ImportOrderRule.class);
+        assertThat(kinds(scoped, Path.of("/repo/src/main/generated/Api.java")))
+                .containsExactly(MethodLengthRule.class, ImportOrderRule.class);
+        assertThat(kinds(scoped, Path.of("src/test/java/AppTest.java")))
+                .containsExactly(MethodLengthRule.class, NoElseRule.class);
+    }
+
+    @Test
+    @DisplayName("경로별 설정에 맞는 파일은 그 설정의 규칙 인스턴스만 적용하고, 여러 설정이 맞으면 뒤의 설정을 사용한다.")
+    void getScopedRules_usesLastMatchingOverride() {
+        AppRuleConfig config = new AppRuleConfig(Map.of("MethodLength", new RuleConfig("on", 15)), null, List.of(
+                new RuleOverride(List.of("src/test"), Map.of("MethodLength", new RuleConfig("on", 40))),
+                new RuleOverride(List.of("**/legacy/**"), Map.of("MethodLength", new RuleConfig("off", null)))));
+
+        ScopedRules scoped = new RuleRegistry(config).getScopedRules();
+        List<Rule> main = scoped.scope().rulesFor(scoped.rules(), Path.of("/repo/src/main/java/App.java"));
+        List<Rule> test = scoped.scope().rulesFor(scoped.rules(), Path.of("/repo/src/test/java/AppTest.java"));
+        List<Rule> legacy = scoped.scope().rulesFor(scoped.rules(), Path.of("/repo/src/test/legacy/OldTest.java"));
+
+        assertThat(scoped.rules()).hasSize(2);
+        assertThat(main).containsExactly(scoped.rules().get(0));
+        assertThat(test).containsExactly(scoped.rules().get(1));
+        assertThat(legacy).isEmpty();
+    }
+
+    @Test
+    @DisplayName("경로별 설정에 소스 묶음이 있으면 그 묶음에 속하고 경로에도 맞는 파일에만 설정을 적용한다.")
+    void getScopedRules_matchesOverrideSourceSet() {
+        AppRuleConfig config = new AppRuleConfig(Map.of("MethodLength", new RuleConfig("on", 15)), null, List.of(
+                new RuleOverride(null, Map.of("MethodLength", new RuleConfig("on", 40)), "test"),
+                new RuleOverride(List.of("legacy"), Map.of("MethodLength", new RuleConfig("off", null)), "main")));
+        Map<String, PathMatcher> sourceSets = Map.of(
+                "main", file -> !file.toString().contains("/checks/"),
+                "test", file -> file.toString().contains("/checks/"));
+
+        ScopedRules scoped = new RuleRegistry(config, sourceSets).getScopedRules();
+
+        assertThat(scoped.scope().rulesFor(scoped.rules(), Path.of("/repo/src/main/java/App.java")))
+                .containsExactly(scoped.rules().get(0));
+        assertThat(scoped.scope().rulesFor(scoped.rules(), Path.of("/repo/checks/AppCheck.java")))
+                .containsExactly(scoped.rules().get(1));
+        assertThat(scoped.scope().rulesFor(scoped.rules(), Path.of("/repo/checks/legacy/OldCheck.java")))
+                .containsExactly(scoped.rules().get(1));
+        assertThat(scoped.scope().rulesFor(scoped.rules(), Path.of("/repo/legacy/Old.java"))).isEmpty();
+    }
+
+    private static List<Class<?>> kinds(ScopedRules scoped, Path file) {
+        return scoped.scope().rulesFor(scoped.rules(), file).stream()
+                .<Class<?>>map(Object::getClass)
+                .toList();
+    }
+}
@@ -0,0 +1,110 @@
+package clean.code.rules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import clean.code.rules.SourceSkeleton.Kind;
+import com.github.javaparser.StaticJavaParser;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SourceSkeletonTest {
+
+    @Test
+    @DisplayName("노드를 AST 방문 순서대로 기록하고 부모, 하위 범위, 위치를 저장한다.")
+    void of_recordsNodesInVisitOrder() {
+        SourceSkeleton skeleton = SourceSkeleton.of(StaticJavaParser.parse("""
+                class Sample {
+                    int count(String text) {
+                        if (text.isEmpty()) {
+                            return 0;
+                        } else {
+                            return 1;
+                        }
+                    }
+                }
+                """));
+
+        assertThat(kinds(skeleton)).containsExactly(Kind.CLASS_OR_INTERFACE, Kind.METHOD, Kind.IF, Kind.METHOD_CALL,
+                Kind.INTEGER_LITERAL, Kind.INTEGER_LITERAL, Kind.PARAMETER);
+        assertThat(skeleton.parent(1)).isZero();
+        assertThat(skeleton.parent(3)).isEqualTo(2);
+        assertThat(skeleton.parent(6)).isEqualTo(1);
+        assertThat(skeleton.end(0)).isEqualTo(skeleton.size());
+        assertThat(skeleton.end(2)).isEqualTo(6);
+        assertThat(skeleton.beginLine(1)).isEqualTo(2);
+        assertThat(skeleton.beginColumn(1)).isEqualTo(5);
+        assertThat(skeleton.endLine(1)).isEqualTo(8);
+        assertThat(skeleton.markLine(2)).isEqualTo(5);
+        assertThat(skeleton.name(1)).isEqualTo("count");
+        assertThat(skeleton.type(1)).isEqualTo("int");
+        assertThat(skeleton.type(6)).isEqualTo("String");
+        assertThat(skeleton.countChildren(1, Kind.PARAMETER)).isEqualTo(1);
+        assertThat(skeleton.lastLine()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("필드의 제어자, 원소 타입, 변수를 저장하고 인터페이스의 필드는 상수로 본다.")
+    void of_recordsFields() {
+        SourceSkeleton skeleton = SourceSkeleton.of(StaticJavaParser.parse("""
+                interface Limits {
+                    java.util.List<String> NAMES = null;
+                }
+                class Holder {
+                    private static int a, b;
+                }
+                """));
+
+        int interfaceField = 1;
+        assertThat(skeleton.isInterface(0)).isTrue();
+        assertThat(skeleton.isStatic(interfaceField) && skeleton.isFinal(interfaceField)).isTrue();
+        assertThat(skeleton.type(interfaceField)).isEqualTo("List");
+
+        int holderField = skeleton.end(0) + 1;
+        assertThat(skeleton.kind(holderField)).isEqualTo(Kind.FIELD);
+        assertThat(skeleton.isStatic(holderField)).isTrue();
+        assertThat(skeleton.isFinal(holderField)).isFalse();
+        assertThat(skeleton.countChildren(holderField, Kind.VARIABLE)).isEqualTo(2);
+        assertThat(skeleton.name(holderField + 2)).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("익명 클래스의 메서드는 타입 멤버가 아니며, 호출의 앞부분 길이를 저장한다.")
+    void of_recordsTypeMembersAndScopeLength() {
+        SourceSkeleton skeleton = SourceSkeleton.of(StaticJavaParser.parse("""
+                class Outer {
+                    void run() {
+                        Runnable task = new Runnable() {
+                            public void run() { a.b().c(); }
+                        };
+                    }
+                }
+                """));
+
+        List<Integer> methods = nodesOf(skeleton, Kind.METHOD);
+        assertThat(methods).hasSize(2);
+        assertThat(skeleton.isTypeMember(methods.get(0))).isTrue();
+        assertThat(skeleton.isTypeMember(methods.get(1))).isFalse();
+        assertThat(nodesOf(skeleton, Kind.METHOD_CALL).stream().map(skeleton::scopeLength))
+                .containsExactly(2, 1);
+    }
+
+    private static List<Kind> kinds(SourceSkeleton skeleton) {
+        List<Kind> kinds = new ArrayList<>();
+        for (int node = 0; node < skeleton.size(); node++) {
+            kinds.add(skeleton.kind(node));
+        }
+        return kinds;
+    }
+
+    private static List<Integer> nodesOf(SourceSkeleton skeleton, Kind kind) {
+        List<Integer> nodes = new ArrayList<>();
+        for (int node = 0; node < skeleton.size(); node++) {
+            if (skeleton.kind(node) == kind) {
+                nodes.add(node);
+            }
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,85 @@
+package clean.code.rules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import clean.code.rules.TokenStream.DeclarationKind;
+import clean.code.rules.TokenStream.Import;
+import clean.code.rules.TokenStream.Kind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenStreamTest {
+
+    @Test
+    @DisplayName("주석과 공백을 제외하고 리터럴의 종류와 라인, 괄호의 짝을 기록한다.")
+    void tokenize_recordsKindsLinesAndBrackets() {
+        String code = "int a = 0x1F; // 주석\r\n/* 여러\n 줄 */ long b = 10L >>> 2;\nString s = \"}\" + '\\'' + \"\"\"\n  x\n  \"\"\";\n"
+                      + "void m() { f(1.5e3); }";
+
+        TokenStream tokens = TokenStream.tokenize(code);
+
+        assertThat(tokens.kind(3)).isEqualTo(Kind.INTEGER);
+        assertThat(tokens.text(3)).isEqualTo("0x1F");
+        assertThat(tokens.line(5)).isEqualTo(3);
+        assertThat(tokens.kind(8)).isEqualTo(Kind.LONG);
+        assertThat(tokens.text(9)).isEqualTo(">>>");
+        assertThat(tokens.kind(15)).isEqualTo(Kind.STRING);
+        assertThat(tokens.kind(17)).isEqualTo(Kind.CHARACTER);
+        assertThat(tokens.kind(19)).isEqualTo(Kind.TEXT_BLOCK);
+        assertThat(tokens.line(21)).isEqualTo(7);
+        assertThat(tokens.kind(28)).isEqualTo(Kind.FLOATING);
+        assertThat(tokens.matchingBracket(25)).isEqualTo(31);
+        assertThat(tokens.kind(tokens.size())).isEqualTo(Kind.END);
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 주석이나 문자열이 있으면 예외가 발생한다.")
+    void tokenize_rejectsUnterminatedComment() {
+        assertThatThrownBy(() -> TokenStream.tokenize("class A {\n /* 닫히지 않음"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("line 2");
+        assertThatThrownBy(() -> TokenStream.tokenize("String s = \"a\n\";"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("제어자와 애너테이션을 건너뛰고 선언의 종류를 판단한다.")
+    void declarationKind_skipsModifiersAndAnnotations() {
+        TokenStream tokens = TokenStream.tokenize("""
+                @Size(max = 5) public static final Map<String, List<Integer>> CACHE = Map.of();
+                public non-sealed class A {}
+                private <T> T convert(T value) {}
+                static { synchronized (this) {} }
+                """);
+
+        assertThat(tokens.declarationKind(tokens.skipModifiers(0))).isEqualTo(DeclarationKind.FIELD);
+        int classStart = tokens.statementEnd(0) + 1;
+        assertThat(tokens.skipModifiers(classStart) - classStart).isEqualTo(4);
+        assertThat(tokens.declarationKind(tokens.skipModifiers(classStart))).isEqualTo(DeclarationKind.CLASS);
+        int methodStart = classStart + 8;
+        assertThat(tokens.declarationKind(tokens.skipModifiers(methodStart))).isEqualTo(DeclarationKind.CALLABLE);
+        int initializer = tokens.matchingBracket(methodStart + 10) + 1;
+        assertThat(tokens.declarationKind(tokens.skipModifiers(initializer))).isEqualTo(DeclarationKind.OTHER);
+        assertThat(tokens.modifierLength(initializer + 2)).isZero();
+    }
+
+    @Test
+    @DisplayName("package 선언과 그 애너테이션을 건너뛰고 import 선언을 찾는다.")
+    void imports_readsHeaderDeclarations() {
+        TokenStream tokens = TokenStream.tokenize("""
+                @Deprecated
+                package a.b;
+
+                import static java.util.Map.entry;
+                import java.util.*;
+                ;
+                class A { String s = "import x;"; }
+                """);
+
+        assertThat(tokens.imports()).containsExactly(
+                new Import(4, "java.util.Map.entry", true, false),
+                new Import(5, "java.util", false, true)
+        );
+    }
+}